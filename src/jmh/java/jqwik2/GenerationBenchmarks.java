@@ -0,0 +1,143 @@
+package jqwik2;
+
+import java.math.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import jqwik2.api.*;
+import jqwik2.api.arbitraries.*;
+import jqwik2.internal.*;
+import jqwik2.internal.generators.*;
+import jqwik2.internal.recording.*;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmarks {
+
+	private IntGenerator integers;
+	private Generator<Integer> biasedIntegers;
+	private Generator<Integer> biasedSmallIntegers;
+	private Generator<Integer> lopsidedIntegers;
+	private Generator<Integer> gaussianIntegers;
+	private Generator<List<Integer>> lists;
+	private Generator<int[]> intArrays;
+	private Generator<String> strings;
+	private Generator<String> alphaNumericStrings;
+	private Generator<List<Integer>> listsWithEdgeCases;
+	private Generator<Integer> frequencies;
+	private Generator<Long> longs;
+	private Generator<BigInteger> bigIntegers;
+	private RandomGenSource randomSource;
+
+	@Setup
+	public void setup() {
+		integers = new IntegerGenerator(-10, 100);
+		biasedIntegers = new IntegerGenerator(Integer.MIN_VALUE, Integer.MAX_VALUE, RandomChoice.Distribution.biased(5));
+		biasedSmallIntegers = new IntegerGenerator(0, 10_000, RandomChoice.Distribution.biased(5));
+		lopsidedIntegers = new IntegerGenerator(-10, Integer.MAX_VALUE, RandomChoice.Distribution.biased(5));
+		gaussianIntegers = new IntegerGenerator(0, 10_000, new GaussianDistribution(2.8));
+		lists = new ListGenerator<>(integers, 0, 100);
+		intArrays = integers.array(0, 100);
+		strings = Strings.strings().ofMaxLength(100).generator();
+		alphaNumericStrings = Strings.strings().alpha().numeric().ofMaxLength(100).generator();
+		listsWithEdgeCases = WithEdgeCasesDecorator.decorate(lists, 0.05, 10);
+		frequencies = BaseGenerators.frequency(weightedValues(50));
+		longs = BaseGenerators.longs(Long.MIN_VALUE / 2, Long.MAX_VALUE / 2);
+		bigIntegers = BaseGenerators.bigIntegers(BigInteger.ZERO, BigInteger.valueOf(1_000_000_000_000_000L));
+		randomSource = new RandomGenSource("42");
+	}
+
+	private static List<Pair<Integer, Integer>> weightedValues(int count) {
+		List<Pair<Integer, Integer>> weighted = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			weighted.add(Pair.of(i % 7 + 1, i));
+		}
+		return weighted;
+	}
+
+	@Benchmark
+	public Integer integer() {
+		return integers.generate(randomSource.split());
+	}
+
+	@Benchmark
+	public Integer biasedFullRangeInteger() {
+		return biasedIntegers.generate(randomSource.split());
+	}
+
+	@Benchmark
+	public Integer frequency() {
+		return frequencies.generate(randomSource.split());
+	}
+
+	@Benchmark
+	public Integer biasedInteger() {
+		return biasedSmallIntegers.generate(randomSource.split());
+	}
+
+	@Benchmark
+	public Integer lopsidedInteger() {
+		return lopsidedIntegers.generate(randomSource.split());
+	}
+
+	@Benchmark
+	public Integer gaussianInteger() {
+		return gaussianIntegers.generate(randomSource.split());
+	}
+
+	@Benchmark
+	public int integerUnboxed() {
+		return integers.generateInt(randomSource.split());
+	}
+
+	@Benchmark
+	public long wideLong() {
+		return longs.generate(randomSource.split());
+	}
+
+	@Benchmark
+	public BigInteger wideBigInteger() {
+		return bigIntegers.generate(randomSource.split());
+	}
+
+	@Benchmark
+	public List<Integer> list() {
+		return lists.generate(randomSource.split());
+	}
+
+	@Benchmark
+	public int[] intArray() {
+		return intArrays.generate(randomSource.split());
+	}
+
+	@Benchmark
+	public String string() {
+		return strings.generate(randomSource.split());
+	}
+
+	@Benchmark
+	public String alphaNumericString() {
+		return alphaNumericStrings.generate(randomSource.split());
+	}
+
+	@Benchmark
+	public List<Integer> listWithEdgeCases() {
+		return listsWithEdgeCases.generate(randomSource.split());
+	}
+
+	@Benchmark
+	public List<Integer> listWithEdgeCasesRecorded() {
+		GenRecorder recorder = new GenRecorder(randomSource.split());
+		return listsWithEdgeCases.generate(recorder);
+	}
+
+	@Benchmark
+	public Shrinkable<List<Integer>> listWithEdgeCasesAsShrinkable() {
+		return new ShrinkableGenerator<>(listsWithEdgeCases).generate(randomSource.split());
+	}
+}
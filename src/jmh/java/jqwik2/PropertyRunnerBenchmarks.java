@@ -0,0 +1,62 @@
+package jqwik2;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import jqwik2.api.*;
+import jqwik2.api.validation.PropertyValidationStrategy.*;
+import jqwik2.internal.*;
+import jqwik2.internal.generators.*;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertyRunnerBenchmarks {
+
+	@Param({"SINGLE_THREAD", "CACHED_THREAD_POOL", "FIXED_THREAD_POOL", "VIRTUAL_THREADS"})
+	public ConcurrencyMode concurrency;
+
+	@Param({"1000"})
+	public int tries;
+
+	private PropertyRunner runner;
+	private Supplier<ExecutorService> executorServiceSupplier;
+
+	@Setup
+	public void setup() {
+		Generator<Integer> ints = new IntegerGenerator(-1000, 1000);
+		Generator<List<Integer>> lists = new ListGenerator<>(ints, 0, 20);
+		Tryable tryable = Tryable.from(args -> {
+			@SuppressWarnings("unchecked")
+			List<Integer> list = (List<Integer>) args.get(0);
+			return list.size() <= 20;
+		});
+		runner = new PropertyRunner(List.of(lists), tryable);
+		executorServiceSupplier = executorServiceSupplier(concurrency);
+	}
+
+	private static Supplier<ExecutorService> executorServiceSupplier(ConcurrencyMode concurrency) {
+		return switch (concurrency) {
+			case SINGLE_THREAD -> null;
+			case CACHED_THREAD_POOL -> Executors::newCachedThreadPool;
+			case FIXED_THREAD_POOL -> () -> Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+			case VIRTUAL_THREADS -> Executors::newVirtualThreadPerTaskExecutor;
+		};
+	}
+
+	@Benchmark
+	public PropertyRunResult run() {
+		PropertyRunConfiguration configuration = PropertyRunConfiguration.randomized(
+			"42", tries, Duration.ofMinutes(1),
+			false, false,
+			executorServiceSupplier
+		);
+		return runner.run(configuration);
+	}
+}
@@ -0,0 +1,53 @@
+package jqwik2;
+
+import java.util.concurrent.*;
+
+import jqwik2.api.*;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RandomChoiceBenchmarks {
+
+	@Param({"XOR_SHIFT", "SPLIT_MIX_64", "L64X128_MIX", "XOSHIRO_256_STAR_STAR"})
+	public RandomChoice.StandardEngine engine;
+
+	private RandomChoice random;
+	private int[] ints;
+
+	@Setup
+	public void setup() {
+		random = engine.create("42");
+		ints = new int[1000];
+	}
+
+	@Benchmark
+	public int nextInt() {
+		return random.nextInt(1000);
+	}
+
+	@Benchmark
+	public double nextDouble() {
+		return random.nextDouble();
+	}
+
+	@Benchmark
+	public double nextGaussian() {
+		return random.nextGaussian();
+	}
+
+	@Benchmark
+	public int[] nextInts() {
+		random.nextInts(ints, 1000);
+		return ints;
+	}
+
+	@Benchmark
+	public RandomChoice split() {
+		return random.split();
+	}
+}
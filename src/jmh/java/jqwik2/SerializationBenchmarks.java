@@ -0,0 +1,68 @@
+package jqwik2;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import jqwik2.api.recording.*;
+import org.openjdk.jmh.annotations.*;
+
+import static jqwik2.api.recording.Recording.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmarks {
+
+	@Param({"10", "1000"})
+	public int size;
+
+	private SampleRecording sample;
+	private String serializedSample;
+	private byte[] binarySample;
+
+	@Setup
+	public void setup() {
+		List<Recording> elements = new ArrayList<>();
+		for (int i = 0; i < size; i++) {
+			elements.add(tuple(i * 31, i % 2));
+		}
+		Recording nestedList = tuple(choice(size), list(elements));
+		Recording listOfLists = list(nestedList, nestedList, nestedList);
+		sample = new SampleRecording(nestedList, listOfLists, choice(42));
+		serializedSample = sample.serialize();
+		binarySample = sample.serializeToBytes();
+	}
+
+	@Benchmark
+	public String serialize() {
+		return sample.serialize();
+	}
+
+	@Benchmark
+	public SampleRecording deserialize() {
+		return SampleRecording.deserialize(serializedSample);
+	}
+
+	@Benchmark
+	public SampleRecording roundTrip() {
+		return SampleRecording.deserialize(sample.serialize());
+	}
+
+	@Benchmark
+	public byte[] serializeBinary() {
+		return sample.serializeToBytes();
+	}
+
+	@Benchmark
+	public SampleRecording deserializeBinary() {
+		return SampleRecording.deserialize(binarySample);
+	}
+
+	@Benchmark
+	public SampleRecording roundTripBinary() {
+		return SampleRecording.deserialize(sample.serializeToBytes());
+	}
+}
@@ -0,0 +1,70 @@
+package jqwik2;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import jqwik2.api.*;
+import jqwik2.internal.*;
+import jqwik2.internal.generators.*;
+import jqwik2.internal.shrinking.*;
+import org.openjdk.jmh.annotations.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShrinkingBenchmarks {
+
+	private FalsifiedSample falsifiedSample;
+	private Tryable tryable;
+	private ExecutorService executorService;
+
+	@Setup
+	public void setup() {
+		IntegerGenerator ints = new IntegerGenerator(-100, 100);
+		Generator<List<Integer>> lists = new ListGenerator<>(ints, 0, 10);
+		SampleGenerator sampleGenerator = SampleGenerator.from(lists, ints);
+
+		tryable = Tryable.from(args -> {
+			@SuppressWarnings("unchecked")
+			List<Integer> list = (List<Integer>) args.get(0);
+			int limit = (int) args.get(1);
+			return list.stream().mapToInt(i -> i).sum() <= limit + 50;
+		});
+
+		RandomGenSource source = new RandomGenSource("42");
+		Iterator<SampleSource> sampleSources = source.iterator();
+		while (falsifiedSample == null) {
+			Optional<Sample> optionalSample = sampleGenerator.generate(sampleSources.next());
+			optionalSample.ifPresent(sample -> {
+				TryExecutionResult result = tryable.apply(sample);
+				if (result.status() == TryExecutionResult.Status.FALSIFIED) {
+					falsifiedSample = FalsifiedSample.original(sample, result.throwable());
+				}
+			});
+		}
+	}
+
+	@Setup
+	public void startExecutor() {
+		executorService = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+	}
+
+	@TearDown
+	public void stopExecutor() {
+		executorService.shutdownNow();
+	}
+
+	@Benchmark
+	public FalsifiedSample shrinkToEnd() {
+		return new FullShrinker(falsifiedSample, tryable).shrinkToEnd(ignore -> {});
+	}
+
+	@Benchmark
+	public FalsifiedSample shrinkToEndInParallel() {
+		return new FullShrinker(falsifiedSample, tryable, (result, sample) -> {}, executorService)
+				   .shrinkToEnd(ignore -> {});
+	}
+}
@@ -45,8 +45,8 @@ public interface Arbitrary<T> {
 		return () -> Arbitrary.this.generator().map(mapper);
 	}
 
-	default <T> Arbitrary<T> filter(Predicate<T> filter) {
-		throw new UnsupportedOperationException("Not yet implemented");
+	default Arbitrary<T> filter(Predicate<T> filter) {
+		return () -> Arbitrary.this.generator().filter(filter);
 	}
 
 	default <R> Arbitrary<R> flatMap(Function<T, Arbitrary<R>> mapper) {
@@ -2,10 +2,24 @@ package jqwik2.api;
 
 import java.util.*;
 
-public record FalsifiedSample(Sample sample, Throwable throwable, int countShrinkingSteps) implements Comparable<FalsifiedSample> {
+/**
+ * @param tryIndex index of the try in which the sample was generated, if the run's sample source can recreate single tries.
+ *                 Shrunk samples have no try index.
+ */
+public record FalsifiedSample(
+	Sample sample, Throwable throwable, int countShrinkingSteps, OptionalLong tryIndex
+) implements Comparable<FalsifiedSample> {
+
+	public FalsifiedSample(Sample sample, Throwable throwable, int countShrinkingSteps) {
+		this(sample, throwable, countShrinkingSteps, OptionalLong.empty());
+	}
 
 	public static FalsifiedSample original(Sample sample, Throwable throwable) {
-		return new FalsifiedSample(sample, throwable, 0);
+		return original(sample, throwable, OptionalLong.empty());
+	}
+
+	public static FalsifiedSample original(Sample sample, Throwable throwable, OptionalLong tryIndex) {
+		return new FalsifiedSample(sample, throwable, 0, tryIndex);
 	}
 
 	public Optional<Throwable> thrown() {
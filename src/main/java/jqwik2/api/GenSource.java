@@ -32,6 +32,19 @@ public interface GenSource {
 		 */
 		int choose(int maxExcluded, RandomChoice.Distribution distribution);
 
+		/**
+		 * Choose a value between 0 and maxExcluded - 1 with a single draw.
+		 *
+		 * <p>Sources that can only choose ints, e.g. growing sources,
+		 * choose from the int range if maxExcluded is larger.</p>
+		 *
+		 * @param maxExcluded A value between 0 and Long.MAX_VALUE
+		 * @return a choice between 0 and maxExcluded - 1
+		 */
+		default long chooseLong(long maxExcluded) {
+			return choose((int) Math.min(maxExcluded, Integer.MAX_VALUE));
+		}
+
 	}
 
 	interface List extends GenSource {
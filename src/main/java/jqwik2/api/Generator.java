@@ -16,6 +16,13 @@ public interface Generator<T> {
 		return new ListGenerator<T>(this, minSize, maxSize);
 	}
 
+	/**
+	 * Generate lists whose elements are only generated - and recorded - when they are accessed.
+	 */
+	default Generator<List<T>> lazyList(int minSize, int maxSize) {
+		return new LazyListGenerator<>(this, minSize, maxSize);
+	}
+
 	default Generator<Set<T>> set(int minSize, int maxSize) {
 		return new SetGenerator<>(this, minSize, maxSize);
 	}
@@ -25,7 +32,7 @@ public interface Generator<T> {
 	}
 
 	default Generator<T> filter(Predicate<T> filter) {
-		return new GeneratorFilter<>(this, filter, 10000);
+		return new GeneratorFilter<>(this, filter, JqwikDefaults.defaultMaxFilterMisses());
 	}
 
 	default <R> Generator<R> flatMap(Function<T, Generator<R>> mapper) {
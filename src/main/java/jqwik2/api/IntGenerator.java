@@ -0,0 +1,20 @@
+package jqwik2.api;
+
+import jqwik2.internal.generators.*;
+
+/**
+ * A generator of ints that can be used without boxing every value.
+ */
+public interface IntGenerator extends Generator<Integer> {
+
+	int generateInt(GenSource source);
+
+	@Override
+	default Integer generate(GenSource source) {
+		return generateInt(source);
+	}
+
+	default Generator<int[]> array(int minSize, int maxSize) {
+		return new IntArrayGenerator(this, minSize, maxSize);
+	}
+}
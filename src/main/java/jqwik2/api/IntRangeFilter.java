@@ -0,0 +1,60 @@
+package jqwik2.api;
+
+import java.util.function.*;
+
+/**
+ * A predicate that accepts ints between min and max (included).
+ *
+ * <p>Integer generators recognize range filters and narrow their own range instead of
+ * generating values that are then rejected. Use {@link #and(Predicate)} to combine range filters
+ * without losing this property.</p>
+ */
+public record IntRangeFilter(int min, int max) implements Predicate<Integer> {
+
+	public static IntRangeFilter between(int min, int max) {
+		return new IntRangeFilter(min, max);
+	}
+
+	public static IntRangeFilter atLeast(int min) {
+		return new IntRangeFilter(min, Integer.MAX_VALUE);
+	}
+
+	public static IntRangeFilter atMost(int max) {
+		return new IntRangeFilter(Integer.MIN_VALUE, max);
+	}
+
+	public static IntRangeFilter greaterThan(int value) {
+		if (value == Integer.MAX_VALUE) {
+			return empty();
+		}
+		return atLeast(value + 1);
+	}
+
+	public static IntRangeFilter lessThan(int value) {
+		if (value == Integer.MIN_VALUE) {
+			return empty();
+		}
+		return atMost(value - 1);
+	}
+
+	private static IntRangeFilter empty() {
+		return new IntRangeFilter(Integer.MAX_VALUE, Integer.MIN_VALUE);
+	}
+
+	public boolean isEmpty() {
+		return min > max;
+	}
+
+	@Override
+	public boolean test(Integer value) {
+		return value >= min && value <= max;
+	}
+
+	@Override
+	public Predicate<Integer> and(Predicate<? super Integer> other) {
+		if (other instanceof IntRangeFilter range) {
+			return new IntRangeFilter(Math.max(min, range.min), Math.min(max, range.max));
+		}
+		return Predicate.super.and(other);
+	}
+}
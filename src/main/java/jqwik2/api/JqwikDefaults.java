@@ -26,10 +26,57 @@ public class JqwikDefaults {
 		return false;
 	}
 
+	/**
+	 * Number of values in a row a filter may reject before generation fails.
+	 */
+	public static int defaultMaxFilterMisses() {
+		return 10_000;
+	}
+
+	/**
+	 * Filters that accept a smaller share of generated values during a property run are reported with a warning.
+	 */
+	public static double defaultMinFilterAcceptanceRate() {
+		return 0.1;
+	}
+
+	public static RandomChoice.Engine defaultRandomEngine() {
+		return RandomChoice.StandardEngine.XOSHIRO_256_STAR_STAR;
+	}
+
 	public static PropertyValidationStrategy.ShrinkingMode defaultShrinkingMode() {
 		return PropertyValidationStrategy.ShrinkingMode.FULL;
 	}
 
+	/**
+	 * Number of shrinking candidates that are tried concurrently with {@code ShrinkingMode.PARALLEL}.
+	 * Independent of the number of processors so that shrinking results do not depend on the machine.
+	 */
+	public static int defaultParallelShrinkingBatchSize() {
+		return 16;
+	}
+
+	/**
+	 * Maximum number of try results that are cached while shrinking a single falsified sample.
+	 */
+	public static int defaultShrinkingCacheSize() {
+		return 10_000;
+	}
+
+	/**
+	 * Maximum number of child generators a flat-mapping generator keeps for reuse.
+	 */
+	public static int defaultFlatMapCacheSize() {
+		return 1_000;
+	}
+
+	/**
+	 * Maximum number of generators that are cached for arbitraries across all properties.
+	 */
+	public static int defaultGeneratorCacheSize() {
+		return 1_000;
+	}
+
 	public static PropertyValidationStrategy.GenerationMode defaultGenerationMode() {
 		return PropertyValidationStrategy.GenerationMode.SMART;
 	}
@@ -58,6 +105,20 @@ public class JqwikDefaults {
 		return PropertyValidationStrategy.ConcurrencyMode.SINGLE_THREAD;
 	}
 
+	/**
+	 * Maximum number of tries that are submitted to an executor service but have not finished yet.
+	 */
+	public static int defaultMaxTasksInFlight() {
+		return 4 * Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Number of properties that are validated at the same time by a suite validator.
+	 */
+	public static int defaultSuiteParallelism() {
+		return Runtime.getRuntime().availableProcessors();
+	}
+
 	public static StatisticalError defaultAllowedStatisticalError() {
 		return new StatisticalError(0.01, 1e-3);
 	}
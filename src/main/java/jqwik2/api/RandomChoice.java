@@ -31,6 +31,12 @@ public interface RandomChoice {
 	 */
 	int nextInt(int maxExcluded);
 
+	/**
+	 * Returns a pseudo-random, uniformly distributed {@code long} value
+	 * between 0 (inclusive) and the specified value (exclusive).
+	 */
+	long nextLong(long maxExcluded);
+
 	/**
 	 * Return a random value between 0 and maxExcluded - 1.
 	 *
@@ -45,6 +51,19 @@ public interface RandomChoice {
 		return distribution.nextInt(this, maxExcluded);
 	}
 
+	/**
+	 * Fill {@code dest} with random values, equally distributed between 0 and maxExcluded - 1.
+	 * Produces the same values as calling {@linkplain #nextInt(int)} {@code dest.length} times.
+	 *
+	 * @param dest        The array to fill
+	 * @param maxExcluded The max choice to return
+	 */
+	default void nextInts(int[] dest, int maxExcluded) {
+		for (int i = 0; i < dest.length; i++) {
+			dest[i] = nextInt(maxExcluded);
+		}
+	}
+
 	/**
 	 * Create a new source of randomness that is independent of this one,
 	 * i.e. it does not share any state with this one.
@@ -55,9 +74,8 @@ public interface RandomChoice {
 
 	Optional<String> seed();
 
-	// TODO: Make RandomChoice implementation configurable
 	static RandomChoice create() {
-		return new XORShiftRandomChoice(generateRandomSeed());
+		return create(generateRandomSeed());
 	}
 
 	static String generateRandomSeed() {
@@ -65,7 +83,104 @@ public interface RandomChoice {
 	}
 
 	static RandomChoice create(String seed) {
-		return new XORShiftRandomChoice(seed);
+		return JqwikDefaults.defaultRandomEngine().create(seed);
+	}
+
+	/**
+	 * Creates random choices from a seed. Implement this interface to plug in another random generator.
+	 *
+	 * <p>The same engine and seed must always create the same sequence of choices.</p>
+	 */
+	@FunctionalInterface
+	interface Engine {
+
+		/**
+		 * Use {@code engine} in a counter-based way: The choices for each try are derived
+		 * from seed and try index, so that any try can be regenerated without the tries before it.
+		 */
+		static Engine counterBased(Engine engine) {
+			return new CounterBasedEngine(engine);
+		}
+
+		/**
+		 * Like {@linkplain #counterBased(Engine)} but runs start with try number {@code firstTryIndex},
+		 * e.g. the try index that is reported for a falsified sample.
+		 */
+		static Engine counterBased(Engine engine, long firstTryIndex) {
+			return new CounterBasedEngine(engine, firstTryIndex);
+		}
+
+		RandomChoice create(String seed);
+
+		/**
+		 * Create random choices from a numeric seed, e.g. a key that has been derived from another seed.
+		 * Must create the same choices as {@code create(Long.toString(seed))}.
+		 */
+		default RandomChoice create(long seed) {
+			return create(Long.toString(seed));
+		}
+
+		/**
+		 * Create the source of samples for all tries of a randomized property run.
+		 * By default, the sources of each try are split off a single random choice.
+		 */
+		default IterableSampleSource samples(String seed) {
+			return new RandomGenSource(create(seed));
+		}
+	}
+
+	enum StandardEngine implements Engine {
+
+		/**
+		 * The original jqwik 2 generator. Use it to replay seeds from runs with earlier versions.
+		 */
+		XOR_SHIFT {
+			@Override
+			public RandomChoice create(String seed) {
+				return new XORShiftRandomChoice(seed);
+			}
+
+			@Override
+			public RandomChoice create(long seed) {
+				return new XORShiftRandomChoice(new XORShiftRandom(seed));
+			}
+		},
+
+		SPLIT_MIX_64 {
+			@Override
+			public RandomChoice create(String seed) {
+				return new SplitMix64RandomChoice(seed);
+			}
+
+			@Override
+			public RandomChoice create(long seed) {
+				return new SplitMix64RandomChoice(seed);
+			}
+		},
+
+		L64X128_MIX {
+			@Override
+			public RandomChoice create(String seed) {
+				return new L64X128MixRandomChoice(seed);
+			}
+
+			@Override
+			public RandomChoice create(long seed) {
+				return new L64X128MixRandomChoice(seed);
+			}
+		},
+
+		XOSHIRO_256_STAR_STAR {
+			@Override
+			public RandomChoice create(String seed) {
+				return new Xoshiro256StarStarRandomChoice(seed);
+			}
+
+			@Override
+			public RandomChoice create(long seed) {
+				return new Xoshiro256StarStarRandomChoice(seed);
+			}
+		}
 	}
 
 	/**
@@ -104,6 +219,11 @@ public interface RandomChoice {
 			return random.nextInt(maxExcluded);
 		}
 
+		@Override
+		public long nextLong(long maxExcluded) {
+			return random.nextLong(maxExcluded);
+		}
+
 		@Override
 		public RandomChoice split() {
 			return new XORShiftRandomChoice(new XORShiftRandom(random.nextLong()));
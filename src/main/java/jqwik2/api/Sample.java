@@ -4,14 +4,37 @@ import java.util.*;
 import java.util.stream.*;
 
 import jqwik2.api.recording.*;
+import jqwik2.internal.*;
 import jqwik2.internal.shrinking.*;
 
 public record Sample(List<Shrinkable<Object>> shrinkables) implements Comparable<Sample> {
 
+	/**
+	 * A read-only view on the values, which is created on every try and therefore does not copy them.
+	 */
 	public List<Object> values() {
-		return shrinkables().stream()
-							.map(Shrinkable::value)
-							.toList();
+		return new AbstractList<>() {
+			@Override
+			public Object get(int index) {
+				return shrinkables.get(index).value();
+			}
+
+			@Override
+			public int size() {
+				return shrinkables.size();
+			}
+		};
+	}
+
+	/**
+	 * Access an int value without boxing it, if it was generated by an {@linkplain IntGenerator}.
+	 */
+	public int intValue(int index) {
+		Shrinkable<?> shrinkable = shrinkables.get(index);
+		if (shrinkable instanceof GeneratedIntShrinkable intShrinkable) {
+			return intShrinkable.intValue();
+		}
+		return (Integer) shrinkable.value();
 	}
 
 	public List<Object> regenerateValues() {
@@ -22,6 +45,14 @@ public record Sample(List<Shrinkable<Object>> shrinkables) implements Comparable
 		return new SampleShrinker(this).shrink();
 	}
 
+	/**
+	 * Must be called when a try has ended, so that later accesses to lazily generated values
+	 * no longer change the sample's recording, equality or order.
+	 */
+	public void freezeRecordings() {
+		shrinkables.forEach(Shrinkable::freezeRecording);
+	}
+
 	public SampleRecording recording() {
 		return new SampleRecording(shrinkables.stream().map(Shrinkable::recording).toList());
 	}
@@ -33,7 +64,14 @@ public record Sample(List<Shrinkable<Object>> shrinkables) implements Comparable
 
 	@Override
 	public String toString() {
-		return "Sample{%s}".formatted(values().stream().map(Object::toString).toList());
+		return "Sample{%s}".formatted(valuesToString());
+	}
+
+	/**
+	 * Like {@code values().toString()} but also shows the elements of array values.
+	 */
+	public String valuesToString() {
+		return Arrays.deepToString(values().toArray());
 	}
 
 	public int size() {
@@ -14,6 +14,13 @@ public interface Shrinkable<T> extends Comparable<Shrinkable<T>> {
 
 	Stream<Shrinkable<T>> shrink();
 
+	/**
+	 * Fix the recording when a try has ended.
+	 * Values that are generated lazily, e.g. lazy lists, can change the recording while a property accesses them.
+	 */
+	default void freezeRecording() {
+	}
+
 	default T regenerate() {
 		return generator().fromRecording(recording()).orElseThrow();
 	}
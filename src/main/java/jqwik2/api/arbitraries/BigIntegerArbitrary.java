@@ -0,0 +1,9 @@
+package jqwik2.api.arbitraries;
+
+import java.math.*;
+
+import jqwik2.api.*;
+
+public interface BigIntegerArbitrary extends Arbitrary<BigInteger> {
+	BigIntegerArbitrary between(BigInteger min, BigInteger max);
+}
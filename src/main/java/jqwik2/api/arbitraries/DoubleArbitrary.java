@@ -0,0 +1,7 @@
+package jqwik2.api.arbitraries;
+
+import jqwik2.api.*;
+
+public interface DoubleArbitrary extends Arbitrary<Double> {
+	DoubleArbitrary between(double min, double max);
+}
@@ -4,5 +4,12 @@ import jqwik2.api.*;
 
 public interface IntegerArbitrary extends Arbitrary<Integer> {
 	IntegerArbitrary between(int min, int max);
+
+	@Override
+	IntGenerator generator();
+
+	default Arbitrary<int[]> array(int minSize, int maxSize) {
+		return () -> generator().array(minSize, maxSize);
+	}
 }
 
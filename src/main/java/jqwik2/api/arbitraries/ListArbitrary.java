@@ -13,4 +13,10 @@ public interface ListArbitrary<T> extends Arbitrary<List<T>> {
 	ListArbitrary<T> ofMinSize(int minSize);
 
 	ListArbitrary<T> ofMaxSize(int maxSize);
+
+	/**
+	 * Elements of lazy lists are only generated when they are accessed.
+	 * Use for very large lists of which a property only reads a part.
+	 */
+	ListArbitrary<T> lazy();
 }
@@ -0,0 +1,7 @@
+package jqwik2.api.arbitraries;
+
+import jqwik2.api.*;
+
+public interface LongArbitrary extends Arbitrary<Long> {
+	LongArbitrary between(long min, long max);
+}
@@ -9,4 +9,24 @@ public class Numbers {
 	public static IntegerArbitrary integers() {
 		return new DefaultIntegerArbitrary();
 	}
+
+	public static LongArbitrary longs() {
+		return new DefaultLongArbitrary();
+	}
+
+	/**
+	 * Doubles are generated uniformly from an evenly spaced grid between min and max.
+	 * The default range is -1,000,000 to 1,000,000.
+	 * NaN and infinite values are never generated.
+	 */
+	public static DoubleArbitrary doubles() {
+		return new DefaultDoubleArbitrary();
+	}
+
+	/**
+	 * The default range is the range of long values.
+	 */
+	public static BigIntegerArbitrary bigIntegers() {
+		return new DefaultBigIntegerArbitrary();
+	}
 }
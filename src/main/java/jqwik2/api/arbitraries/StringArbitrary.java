@@ -58,4 +58,20 @@ public interface StringArbitrary extends Arbitrary<String> {
 	 */
 	StringArbitrary whitespace();
 
+	/**
+	 * Allow all given chars to show up in generated strings.
+	 *
+	 * Can be combined with other methods that allow chars.
+	 */
+	StringArbitrary withChars(char... chars);
+
+	/**
+	 * Allow all chars from {@code from} to {@code to} (both included) to show up in generated strings.
+	 *
+	 * Can be combined with other methods that allow chars.
+	 *
+	 * @throws IllegalArgumentException if from &gt; to
+	 */
+	StringArbitrary withCharRange(char from, char to);
+
 }
@@ -12,9 +12,15 @@ public class AbstractDirectoryBasedDatabase {
 	public static final String ID_FILE_NAME = "ID";
 
 	protected final Path databasePath;
+	protected final RecordingFormat recordingFormat;
 
 	public AbstractDirectoryBasedDatabase(Path databasePath) {
+		this(databasePath, RecordingFormat.TEXT);
+	}
+
+	public AbstractDirectoryBasedDatabase(Path databasePath, RecordingFormat recordingFormat) {
 		this.databasePath = databasePath;
+		this.recordingFormat = recordingFormat;
 		ensureDatabasePathExists();
 	}
 
@@ -16,6 +16,10 @@ public class DirectoryBasedFailureDatabase extends AbstractDirectoryBasedDatabas
 		super(databasePath);
 	}
 
+	public DirectoryBasedFailureDatabase(Path databasePath, RecordingFormat recordingFormat) {
+		super(databasePath, recordingFormat);
+	}
+
 	@Override
 	public void saveFailingSample(String propertyId, SampleRecording recording) {
 		ExceptionSupport.runUnchecked(() -> {
@@ -60,12 +64,16 @@ public class DirectoryBasedFailureDatabase extends AbstractDirectoryBasedDatabas
 
 	private Optional<SampleRecording> loadSample(Path path) {
 		return ExceptionSupport.runUnchecked(() -> {
-			var lines = Files.readAllLines(path);
-			var serialized = String.join("", lines);
+			// Files are read in either format so that switching the format keeps existing samples
+			var bytes = Files.readAllBytes(path);
 			try {
+				if (SampleRecording.isBinary(bytes)) {
+					return Optional.of(SampleRecording.deserialize(bytes));
+				}
+				var serialized = new String(bytes).lines().collect(Collectors.joining());
 				return Optional.of(SampleRecording.deserialize(serialized));
 			} catch (Exception e) {
-				System.out.println("Could not deserialize sample recording: " + serialized);
+				System.out.println("Could not deserialize sample recording: " + path.getFileName());
 				return Optional.empty();
 			}
 		});
@@ -175,10 +183,14 @@ public class DirectoryBasedFailureDatabase extends AbstractDirectoryBasedDatabas
 			 });
 	}
 
-	private static void saveSampleIn(SampleRecording sample, Path propertyDirectory) throws IOException {
+	private void saveSampleIn(SampleRecording sample, Path propertyDirectory) throws IOException {
 		var samplePath = samplePath(sample, propertyDirectory);
 		if (Files.notExists(samplePath)) {
 			var sampleFile = Files.createFile(samplePath);
+			if (recordingFormat == RecordingFormat.BINARY) {
+				Files.write(sampleFile, sample.serializeToBytes());
+				return;
+			}
 			try (var writer = Files.newBufferedWriter(sampleFile)) {
 				try {
 					writer.write(sample.serialize());
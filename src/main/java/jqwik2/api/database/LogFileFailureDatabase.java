@@ -0,0 +1,573 @@
+package jqwik2.api.database;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+import java.util.zip.*;
+
+import jqwik2.api.recording.*;
+import jqwik2.api.support.*;
+
+/**
+ * A failure database that keeps all properties in a single append-only log file.
+ *
+ * <p>Every change is appended as a record to the log. On opening the log file is
+ * read and replayed into an in-memory index, so that all lookups
+ * are served from memory without touching the file system.
+ * Each record is framed by its length and a checksum.
+ * An incomplete record at the end of the log, e.g. from a crash while writing, is discarded.
+ * Any other corruption makes opening fail.
+ * Samples are stored in the binary recording format and only deserialized
+ * when they are loaded for a property.
+ * When the log contains more obsolete than live records, it is compacted
+ * by rewriting only the current state to a new file.</p>
+ *
+ * <p>Changes and compaction hold an exclusive lock on the log file.
+ * Before a change, records that other processes have appended are replayed,
+ * and a log that another process has compacted is reopened.
+ * Since file locks are held on behalf of the whole JVM, use only one instance per log file in a JVM.</p>
+ */
+public class LogFileFailureDatabase implements FailureDatabase {
+
+	private static final byte[] MAGIC = "jqwik2-failures".getBytes(StandardCharsets.US_ASCII);
+	private static final byte VERSION = 2;
+	private static final int HEADER_SIZE = MAGIC.length + 1;
+
+	// A record is framed as [int length][int ~length][body][int crc32(body)]
+	private static final int FRAME_START_SIZE = 8;
+	private static final int FRAME_END_SIZE = 4;
+
+	private static final byte SAVE_SAMPLE = 1;
+	private static final byte DELETE_SAMPLE = 2;
+	private static final byte SAVE_SEED = 3;
+	private static final byte DELETE_SEED = 4;
+	private static final byte ADD_PROPERTY = 5;
+	private static final byte DELETE_PROPERTY = 6;
+
+	public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+	private final Path logFile;
+	private final int compactionThreshold;
+
+	private final Map<String, PropertyEntry> index = new LinkedHashMap<>();
+	private FileChannel channel;
+	// Identifies the file the channel has been opened on. Null if the platform does not provide file keys.
+	private Object fileKey;
+	// Size of the log that has been replayed into the index or written by this instance
+	private long knownSize = 0;
+	private int logRecords = 0;
+	private int liveRecords = 0;
+
+	private static class PropertyEntry {
+		private String seed = null;
+		// Samples are only deserialized when they are loaded
+		private final Set<SerializedSample> samples = new LinkedHashSet<>();
+	}
+
+	private record SerializedSample(byte[] bytes) {
+		private static SerializedSample of(SampleRecording sample) {
+			return new SerializedSample(sample.serializeToBytes());
+		}
+
+		private SampleRecording deserialize() {
+			return SampleRecording.deserialize(bytes);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof SerializedSample other && Arrays.equals(bytes, other.bytes);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(bytes);
+		}
+	}
+
+	private interface LogAction {
+		void run() throws IOException;
+	}
+
+	public LogFileFailureDatabase(Path logFile) {
+		this(logFile, DEFAULT_COMPACTION_THRESHOLD);
+	}
+
+	/**
+	 * @param compactionThreshold minimum number of obsolete records before the log is compacted
+	 */
+	public LogFileFailureDatabase(Path logFile, int compactionThreshold) {
+		this.logFile = logFile;
+		this.compactionThreshold = compactionThreshold;
+		ExceptionSupport.runUnchecked(this::open);
+	}
+
+	private void open() throws IOException {
+		var parent = logFile.toAbsolutePath().getParent();
+		if (parent != null && Files.notExists(parent)) {
+			Files.createDirectories(parent);
+		}
+		openChannel();
+		try {
+			// Replays the log
+			locked(() -> {});
+		} catch (IOException | RuntimeException e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	private void openChannel() throws IOException {
+		while (true) {
+			FileChannel newChannel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+			Object key = currentFileKey();
+			// Another process could have replaced the log between opening and reading its key
+			if (Objects.equals(key, currentFileKey())) {
+				channel = newChannel;
+				fileKey = key;
+				return;
+			}
+			newChannel.close();
+		}
+	}
+
+	private Object currentFileKey() throws IOException {
+		try {
+			return Files.readAttributes(logFile, BasicFileAttributes.class).fileKey();
+		} catch (NoSuchFileException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Run an action while holding an exclusive lock on the log file.
+	 * Before the action runs, the index is brought up to date with changes from other processes.
+	 */
+	private void locked(LogAction action) throws IOException {
+		while (true) {
+			FileChannel lockedChannel = channel;
+			boolean done = false;
+			try (FileLock ignored = lockedChannel.lock()) {
+				if (isStillTheLogFile()) {
+					replayAppendedRecords();
+					action.run();
+					done = true;
+				}
+			} finally {
+				// Compaction switches to a new channel, but the old one must keep its lock until the new log is in place
+				if (channel != lockedChannel) {
+					lockedChannel.close();
+				}
+			}
+			if (done) {
+				return;
+			}
+			reopen();
+		}
+	}
+
+	private boolean isStillTheLogFile() throws IOException {
+		if (fileKey == null) {
+			return Files.exists(logFile);
+		}
+		return fileKey.equals(currentFileKey());
+	}
+
+	/**
+	 * Reopen the log after another process has replaced it by compacting or clearing it.
+	 */
+	private void reopen() throws IOException {
+		channel.close();
+		index.clear();
+		knownSize = 0;
+		logRecords = 0;
+		liveRecords = 0;
+		openChannel();
+	}
+
+	private void replayAppendedRecords() throws IOException {
+		long size = channel.size();
+		if (size == 0 && knownSize == 0) {
+			knownSize = writeHeader(channel);
+			return;
+		}
+		if (size == knownSize) {
+			return;
+		}
+		ByteBuffer buffer = read(channel, knownSize, size);
+		if (knownSize == 0) {
+			checkHeader(buffer);
+		}
+		long validSize = replayRecords(buffer, knownSize);
+		if (validSize < size) {
+			// A partially written record at the end of the log is discarded
+			channel.truncate(validSize);
+		}
+		knownSize = validSize;
+	}
+
+	private static long writeHeader(FileChannel channel) throws IOException {
+		var header = ByteBuffer.allocate(HEADER_SIZE).put(MAGIC).put(VERSION).flip();
+		return write(channel, 0, header);
+	}
+
+	private static long write(FileChannel channel, long position, ByteBuffer bytes) throws IOException {
+		while (bytes.hasRemaining()) {
+			position += channel.write(bytes, position);
+		}
+		return position;
+	}
+
+	/**
+	 * @return the size of the log up to the end of the last complete record
+	 */
+	private long replayRecords(ByteBuffer buffer, long bufferOffset) throws IOException {
+		while (buffer.hasRemaining()) {
+			int recordStart = buffer.position();
+			long recordOffset = bufferOffset + recordStart;
+			ByteBuffer body = nextRecordBody(buffer, recordOffset);
+			if (body == null) {
+				return recordOffset;
+			}
+			try {
+				replayRecord(body);
+				if (body.hasRemaining()) {
+					throw new IllegalArgumentException("Unexpected bytes at end of record");
+				}
+				logRecords++;
+			} catch (BufferUnderflowException | IllegalArgumentException e) {
+				throw corruptRecord(recordOffset, e);
+			}
+		}
+		return bufferOffset + buffer.position();
+	}
+
+	/**
+	 * @return the record's body or null if the record reaches beyond the end of the log
+	 */
+	private ByteBuffer nextRecordBody(ByteBuffer buffer, long recordOffset) throws IOException {
+		if (buffer.remaining() < FRAME_START_SIZE) {
+			return null;
+		}
+		int length = buffer.getInt();
+		if (length < 0 || buffer.getInt() != ~length) {
+			throw corruptRecord(recordOffset, new IllegalArgumentException("Invalid record length"));
+		}
+		if ((long) length + FRAME_END_SIZE > buffer.remaining()) {
+			// The length is intact, so this is the last record and it has not been written completely
+			return null;
+		}
+		ByteBuffer body = buffer.slice(buffer.position(), length);
+		buffer.position(buffer.position() + length);
+		if (buffer.getInt() != checksum(body)) {
+			throw corruptRecord(recordOffset, new IllegalArgumentException("Checksum mismatch"));
+		}
+		return body;
+	}
+
+	private static int checksum(ByteBuffer body) {
+		CRC32 crc = new CRC32();
+		crc.update(body.duplicate());
+		return (int) crc.getValue();
+	}
+
+	private IOException corruptRecord(long offset, Exception cause) {
+		String message = "Corrupt record at offset %d in failure log %s".formatted(offset, logFile);
+		return new IOException(message, cause);
+	}
+
+	/**
+	 * The log is read into memory instead of being mapped,
+	 * because a mapped file cannot be truncated or replaced on all platforms.
+	 */
+	private static ByteBuffer read(FileChannel channel, long from, long to) throws IOException {
+		if (to - from > Integer.MAX_VALUE) {
+			throw new IOException("Failure log too large: %d bytes".formatted(to));
+		}
+		ByteBuffer buffer = ByteBuffer.allocate((int) (to - from));
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, from + buffer.position()) < 0) {
+				break;
+			}
+		}
+		return buffer.flip();
+	}
+
+	private void checkHeader(ByteBuffer buffer) throws IOException {
+		byte[] magic = new byte[MAGIC.length];
+		if (buffer.remaining() < HEADER_SIZE || !Arrays.equals(MAGIC, readInto(buffer, magic))) {
+			throw new IOException("Not a jqwik failure log: " + logFile);
+		}
+		byte version = buffer.get();
+		if (version != VERSION) {
+			throw new IOException("Unsupported failure log version %d in %s".formatted(version, logFile));
+		}
+	}
+
+	private void replayRecord(ByteBuffer buffer) {
+		byte type = buffer.get();
+		String propertyId = readString(buffer);
+		switch (type) {
+			case SAVE_SAMPLE -> applySaveSample(propertyId, readSample(buffer));
+			case DELETE_SAMPLE -> applyDeleteSample(propertyId, readSample(buffer));
+			case SAVE_SEED -> applySaveSeed(propertyId, readString(buffer));
+			case DELETE_SEED -> applySaveSeed(propertyId, null);
+			case ADD_PROPERTY -> applyAddProperty(propertyId);
+			case DELETE_PROPERTY -> applyDeleteProperty(propertyId);
+			default -> throw new IllegalArgumentException("Unknown record type: " + type);
+		}
+	}
+
+	private static byte[] readInto(ByteBuffer buffer, byte[] bytes) {
+		buffer.get(bytes);
+		return bytes;
+	}
+
+	private static SerializedSample readSample(ByteBuffer buffer) {
+		byte[] bytes = readBytes(buffer);
+		if (!SampleRecording.isBinary(bytes)) {
+			throw new IllegalArgumentException("Not a binary sample recording");
+		}
+		return new SerializedSample(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		return new String(readBytes(buffer), StandardCharsets.UTF_8);
+	}
+
+	private static byte[] readBytes(ByteBuffer buffer) {
+		int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IllegalArgumentException("Invalid length: " + length);
+		}
+		return readInto(buffer, new byte[length]);
+	}
+
+	private void applySaveSample(String propertyId, SerializedSample sample) {
+		if (entry(propertyId).samples.add(sample)) {
+			liveRecords++;
+		}
+	}
+
+	private void applyDeleteSample(String propertyId, SerializedSample sample) {
+		var entry = index.get(propertyId);
+		if (entry != null && entry.samples.remove(sample)) {
+			liveRecords--;
+		}
+	}
+
+	private void applySaveSeed(String propertyId, String seed) {
+		var entry = entry(propertyId);
+		if (entry.seed != null) {
+			liveRecords--;
+		}
+		entry.seed = seed;
+		if (seed != null) {
+			liveRecords++;
+		}
+	}
+
+	private void applyAddProperty(String propertyId) {
+		entry(propertyId);
+	}
+
+	private void applyDeleteProperty(String propertyId) {
+		var entry = index.remove(propertyId);
+		if (entry != null) {
+			liveRecords -= 1 + entry.samples.size() + (entry.seed != null ? 1 : 0);
+		}
+	}
+
+	private PropertyEntry entry(String propertyId) {
+		return index.computeIfAbsent(propertyId, id -> {
+			liveRecords++;
+			return new PropertyEntry();
+		});
+	}
+
+	/**
+	 * Must be called while holding the lock.
+	 */
+	private void append(byte type, String propertyId, byte[] payload) throws IOException {
+		knownSize = appendRecord(channel, knownSize, type, propertyId, payload);
+		logRecords++;
+		if (logRecords - liveRecords >= compactionThreshold && logRecords > 2 * liveRecords) {
+			writeCompacted();
+		}
+	}
+
+	private static long appendRecord(FileChannel channel, long position, byte type, String propertyId, byte[] payload) throws IOException {
+		byte[] id = propertyId.getBytes(StandardCharsets.UTF_8);
+		int length = 1 + 4 + id.length + (payload != null ? 4 + payload.length : 0);
+		var record = ByteBuffer.allocate(FRAME_START_SIZE + length + FRAME_END_SIZE);
+		record.putInt(length).putInt(~length);
+		record.put(type).putInt(id.length).put(id);
+		if (payload != null) {
+			record.putInt(payload.length).put(payload);
+		}
+		record.putInt(checksum(record.slice(FRAME_START_SIZE, length)));
+		return write(channel, position, record.flip());
+	}
+
+	/**
+	 * Rewrite the log so that it only contains the current state of all properties.
+	 */
+	public synchronized void compact() {
+		ExceptionSupport.runUnchecked(() -> locked(this::writeCompacted));
+	}
+
+	/**
+	 * Must be called while holding the lock.
+	 * The lock on the replaced log is kept until the compacted log has been moved in place,
+	 * so that other processes cannot append to the replaced log in between.
+	 */
+	private void writeCompacted() throws IOException {
+		var compacted = logFile.resolveSibling(logFile.getFileName() + ".compacting");
+		long compactedSize;
+		int compactedRecords = 0;
+		try (var newChannel = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			long position = writeHeader(newChannel);
+			for (var property : index.entrySet()) {
+				String propertyId = property.getKey();
+				PropertyEntry entry = property.getValue();
+				position = appendRecord(newChannel, position, ADD_PROPERTY, propertyId, null);
+				compactedRecords++;
+				if (entry.seed != null) {
+					position = appendRecord(newChannel, position, SAVE_SEED, propertyId, entry.seed.getBytes(StandardCharsets.UTF_8));
+					compactedRecords++;
+				}
+				for (SerializedSample sample : entry.samples) {
+					position = appendRecord(newChannel, position, SAVE_SAMPLE, propertyId, sample.bytes());
+					compactedRecords++;
+				}
+			}
+			newChannel.force(true);
+			compactedSize = position;
+		}
+		Files.move(compacted, logFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		// The old channel is closed by locked() after its lock has been released
+		openChannel();
+		// Records that other processes append to the new log from now on will be replayed
+		knownSize = compactedSize;
+		logRecords = compactedRecords;
+	}
+
+	@Override
+	public synchronized void saveFailingSample(String propertyId, SampleRecording recording) {
+		var sample = SerializedSample.of(recording);
+		ExceptionSupport.runUnchecked(() -> locked(() -> {
+			var entry = index.get(propertyId);
+			if (entry != null && entry.samples.contains(sample)) {
+				return;
+			}
+			applySaveSample(propertyId, sample);
+			append(SAVE_SAMPLE, propertyId, sample.bytes());
+		}));
+	}
+
+	@Override
+	public synchronized void deleteFailure(String propertyId, SampleRecording recording) {
+		var sample = SerializedSample.of(recording);
+		ExceptionSupport.runUnchecked(() -> locked(() -> {
+			var entry = index.get(propertyId);
+			if (entry == null || !entry.samples.contains(sample)) {
+				return;
+			}
+			applyDeleteSample(propertyId, sample);
+			append(DELETE_SAMPLE, propertyId, sample.bytes());
+		}));
+	}
+
+	@Override
+	public synchronized void deleteProperty(String propertyId) {
+		ExceptionSupport.runUnchecked(() -> locked(() -> {
+			if (!index.containsKey(propertyId)) {
+				return;
+			}
+			applyDeleteProperty(propertyId);
+			append(DELETE_PROPERTY, propertyId, null);
+		}));
+	}
+
+	@Override
+	public synchronized Set<SampleRecording> loadFailingSamples(String propertyId) {
+		var entry = index.get(propertyId);
+		if (entry == null) {
+			return Collections.emptySet();
+		}
+		Set<SampleRecording> samples = new LinkedHashSet<>();
+		for (SerializedSample sample : entry.samples) {
+			try {
+				samples.add(sample.deserialize());
+			} catch (Exception e) {
+				System.out.println("Could not deserialize sample recording of property " + propertyId);
+			}
+		}
+		return samples;
+	}
+
+	@Override
+	public synchronized void clear() {
+		// The log is replaced instead of truncated, so that other processes notice the change
+		ExceptionSupport.runUnchecked(() -> locked(() -> {
+			index.clear();
+			liveRecords = 0;
+			writeCompacted();
+		}));
+	}
+
+	@Override
+	public synchronized Set<String> failingProperties() {
+		return new LinkedHashSet<>(index.keySet());
+	}
+
+	@Override
+	public synchronized void saveSeed(String propertyId, String seed) {
+		ExceptionSupport.runUnchecked(() -> locked(() -> {
+			var entry = index.get(propertyId);
+			if (entry != null && Objects.equals(entry.seed, seed)) {
+				return;
+			}
+			applySaveSeed(propertyId, seed);
+			if (seed == null) {
+				append(DELETE_SEED, propertyId, null);
+			} else {
+				append(SAVE_SEED, propertyId, seed.getBytes(StandardCharsets.UTF_8));
+			}
+		}));
+	}
+
+	@Override
+	public synchronized Optional<String> loadSeed(String propertyId) {
+		var entry = index.get(propertyId);
+		if (entry == null) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(entry.seed);
+	}
+
+	@Override
+	public synchronized boolean hasFailed(String propertyId) {
+		return index.containsKey(propertyId);
+	}
+
+	@Override
+	public synchronized void saveFailure(String propertyId, String seed, Set<SampleRecording> failingSamples) {
+		// Saving the seed also adds the property, even if the seed is null
+		deleteProperty(propertyId);
+		saveSeed(propertyId, seed);
+		for (SampleRecording sample : failingSamples) {
+			saveFailingSample(propertyId, sample);
+		}
+	}
+
+	/**
+	 * Close the underlying log file. The database cannot be used afterwards.
+	 */
+	public synchronized void close() {
+		ExceptionSupport.runUnchecked(() -> channel.close());
+	}
+}
@@ -0,0 +1,17 @@
+package jqwik2.api.database;
+
+/**
+ * Format in which directory based databases store sample recordings.
+ */
+public enum RecordingFormat {
+
+	/**
+	 * Human-readable text like {@code t[c[3]:l[c[1]:c[2]]]}.
+	 */
+	TEXT,
+
+	/**
+	 * Compact, versioned binary encoding that is faster to load for large recordings.
+	 */
+	BINARY
+}
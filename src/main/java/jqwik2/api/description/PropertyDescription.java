@@ -3,6 +3,7 @@ package jqwik2.api.description;
 import java.util.*;
 
 import jqwik2.api.*;
+import jqwik2.api.arbitraries.*;
 import jqwik2.api.functions.*;
 import jqwik2.internal.description.*;
 
@@ -20,6 +21,10 @@ public interface PropertyDescription {
 		<T1> Invariant1<T1> forAll(Arbitrary<T1> arbitrary);
 
 		<T1, T2> Invariant2<T1, T2> forAll(Arbitrary<T1> a1, Arbitrary<T2> a2);
+
+		IntInvariant1 forAll(IntegerArbitrary arbitrary);
+
+		IntInvariant2 forAll(IntegerArbitrary a1, IntegerArbitrary a2);
 	}
 
 	interface Invariant1<T1> {
@@ -44,6 +49,30 @@ public interface PropertyDescription {
 		Invariant2<T1, T2> classify(List<Classifier.Case<Check.C2<T1, T2>>> cases);
 	}
 
+	/**
+	 * An invariant over an int parameter that can be checked without boxed arguments.
+	 */
+	interface IntInvariant1 extends Invariant1<Integer> {
+		PropertyDescription checkInt(Check.IntC1 checker);
+
+		PropertyDescription verifyInt(Verify.IntV1 verifier);
+
+		@Override
+		IntInvariant1 classify(List<Classifier.Case<Check.C1<Integer>>> cases);
+	}
+
+	/**
+	 * An invariant over two int parameters that can be checked without boxed arguments.
+	 */
+	interface IntInvariant2 extends Invariant2<Integer, Integer> {
+		PropertyDescription checkInt(Check.IntC2 checker);
+
+		PropertyDescription verifyInt(Verify.IntV2 verifier);
+
+		@Override
+		IntInvariant2 classify(List<Classifier.Case<Check.C2<Integer, Integer>>> cases);
+	}
+
 	String id();
 
 	List<Arbitrary<?>> arbitraries();
@@ -1,5 +1,9 @@
 package jqwik2.api.functions;
 
+import java.util.*;
+
+import jqwik2.api.*;
+
 public interface Check<C extends Check<C>> {
 	Condition asCondition();
 
@@ -21,4 +25,40 @@ public interface Check<C extends Check<C>> {
 		}
 
 	}
+
+	interface IntC1 extends Check<IntC1> {
+		boolean check(int v1) throws Throwable;
+
+		default Condition asCondition() {
+			return new Condition() {
+				@Override
+				public boolean check(List<Object> args) throws Throwable {
+					return IntC1.this.check((Integer) args.get(0));
+				}
+
+				@Override
+				public boolean check(Sample sample) throws Throwable {
+					return IntC1.this.check(sample.intValue(0));
+				}
+			};
+		}
+	}
+
+	interface IntC2 extends Check<IntC2> {
+		boolean check(int v1, int v2) throws Throwable;
+
+		default Condition asCondition() {
+			return new Condition() {
+				@Override
+				public boolean check(List<Object> args) throws Throwable {
+					return IntC2.this.check((Integer) args.get(0), (Integer) args.get(1));
+				}
+
+				@Override
+				public boolean check(Sample sample) throws Throwable {
+					return IntC2.this.check(sample.intValue(0), sample.intValue(1));
+				}
+			};
+		}
+	}
 }
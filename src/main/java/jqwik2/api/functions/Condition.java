@@ -2,6 +2,15 @@ package jqwik2.api.functions;
 
 import java.util.*;
 
+import jqwik2.api.*;
+
 public interface Condition {
 	boolean check(List<Object> params) throws Throwable;
+
+	/**
+	 * Conditions can override this method to access a sample's values without boxing them.
+	 */
+	default boolean check(Sample sample) throws Throwable {
+		return check(sample.values());
+	}
 }
@@ -23,4 +23,26 @@ public interface Verify<V extends Verify<V>> {
 			};
 		}
 	}
+
+	interface IntV1 extends Verify<IntV1> {
+		void verify(int v1) throws Throwable;
+
+		default Check.IntC1 asCheck() {
+			return v1 -> {
+				verify(v1);
+				return true;
+			};
+		}
+	}
+
+	interface IntV2 extends Verify<IntV2> {
+		void verify(int v1, int v2) throws Throwable;
+
+		default Check.IntC2 asCheck() {
+			return (v1, v2) -> {
+				verify(v1, v2);
+				return true;
+			};
+		}
+	}
 }
@@ -0,0 +1,231 @@
+package jqwik2.api.recording;
+
+import java.io.*;
+import java.util.*;
+
+import static jqwik2.api.recording.Recording.*;
+
+/**
+ * Compact binary format for recordings.
+ *
+ * <p>Every serialized sample or recording starts with a header byte
+ * that has the highest bit set and carries the format version.
+ * Since the text format only uses ASCII characters, the header
+ * allows to tell binary from text serializations.
+ * Recordings are written as a tag byte followed by unsigned varints.
+ * A serialized sample is self-delimiting, so several samples can be
+ * written to and read from the same stream one after the other.</p>
+ */
+class BinarySerialization {
+
+	static final int VERSION = 1;
+	static final int HEADER = 0x80 | VERSION;
+
+	private static final int CHOICE_EMPTY = 0;
+	private static final int CHOICE = 1;
+	private static final int LIST = 2;
+	private static final int TUPLE = 3;
+
+	static boolean isBinary(byte[] bytes) {
+		return bytes.length > 0 && isHeader(bytes[0]);
+	}
+
+	static boolean isHeader(int firstByte) {
+		return (firstByte & 0x80) != 0;
+	}
+
+	static byte[] serialize(Recording recording) {
+		var out = new ByteArrayOutputStream();
+		out.write(HEADER);
+		write(recording, out);
+		return out.toByteArray();
+	}
+
+	static byte[] serialize(SampleRecording sample) {
+		var out = new ByteArrayOutputStream();
+		write(sample, out);
+		return out.toByteArray();
+	}
+
+	static void write(SampleRecording sample, OutputStream out) throws IOException {
+		var buffer = new ByteArrayOutputStream();
+		write(sample, buffer);
+		buffer.writeTo(out);
+	}
+
+	private static void write(SampleRecording sample, ByteArrayOutputStream out) {
+		out.write(HEADER);
+		writeVarint(sample.recordings().size(), out);
+		for (Recording recording : sample.recordings()) {
+			write(recording, out);
+		}
+	}
+
+	private static void write(Recording recording, ByteArrayOutputStream out) {
+		switch (recording) {
+			case ChoiceRecording choice -> {
+				if (choice.optionalChoice().isPresent()) {
+					out.write(CHOICE);
+					writeVarlong(choice.optionalChoice().get(), out);
+				} else {
+					out.write(CHOICE_EMPTY);
+				}
+			}
+			case ListRecording list -> {
+				out.write(LIST);
+				writeElements(list.elements(), out);
+			}
+			case TupleRecording tuple -> {
+				out.write(TUPLE);
+				writeElements(tuple.elements(), out);
+			}
+		}
+	}
+
+	private static void writeElements(List<Recording> elements, ByteArrayOutputStream out) {
+		writeVarint(elements.size(), out);
+		for (Recording element : elements) {
+			write(element, out);
+		}
+	}
+
+	private static void writeVarint(int value, ByteArrayOutputStream out) {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	// Same encoding as varints, so choices written before they were longs can still be read
+	private static void writeVarlong(long value, ByteArrayOutputStream out) {
+		while ((value & ~0x7FL) != 0) {
+			out.write((int) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		out.write((int) value);
+	}
+
+	static Recording deserialize(byte[] serialized) {
+		try {
+			var in = new ByteArrayInputStream(serialized);
+			readHeader(in);
+			Recording recording = readRecording(in);
+			if (in.available() > 0) {
+				throw new IllegalArgumentException("Unexpected bytes after serialized recording");
+			}
+			return recording;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	static SampleRecording deserializeSample(byte[] serialized) {
+		try {
+			var in = new ByteArrayInputStream(serialized);
+			SampleRecording sample = readSample(in).orElseThrow(
+				() -> new IllegalArgumentException("No serialized sample recording")
+			);
+			if (in.available() > 0) {
+				throw new IllegalArgumentException("Unexpected bytes after serialized sample recording");
+			}
+			return sample;
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Read the next sample recording from a stream.
+	 *
+	 * @return empty optional if the stream has no more bytes
+	 */
+	static Optional<SampleRecording> readSample(InputStream in) throws IOException {
+		int first = in.read();
+		if (first < 0) {
+			return Optional.empty();
+		}
+		checkHeader(first);
+		int size = readVarint(in);
+		List<Recording> recordings = new ArrayList<>(Math.min(size, 64));
+		for (int i = 0; i < size; i++) {
+			recordings.add(readRecording(in));
+		}
+		return Optional.of(new SampleRecording(recordings));
+	}
+
+	private static void readHeader(InputStream in) throws IOException {
+		checkHeader(readByte(in));
+	}
+
+	private static void checkHeader(int header) {
+		if (!isHeader(header)) {
+			throw new IllegalArgumentException("Not a binary serialized recording");
+		}
+		if (header != HEADER) {
+			var message = "Unsupported binary recording version: %d".formatted(header & 0x7F);
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	private static Recording readRecording(InputStream in) throws IOException {
+		int tag = readByte(in);
+		return switch (tag) {
+			case CHOICE_EMPTY -> choice();
+			case CHOICE -> choice(readVarlong(in));
+			case LIST -> list(readElements(in));
+			case TUPLE -> {
+				var elements = readElements(in);
+				yield elements.isEmpty() ? EMPTY : tuple(elements);
+			}
+			default -> throw new IllegalArgumentException("Unknown binary recording tag: " + tag);
+		};
+	}
+
+	private static List<Recording> readElements(InputStream in) throws IOException {
+		int size = readVarint(in);
+		List<Recording> elements = new ArrayList<>(Math.min(size, 64));
+		for (int i = 0; i < size; i++) {
+			elements.add(readRecording(in));
+		}
+		return elements;
+	}
+
+	private static int readVarint(InputStream in) throws IOException {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			int b = readByte(in);
+			value |= (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				if (value < 0) {
+					throw new IllegalArgumentException("Varint out of range: " + Integer.toUnsignedString(value));
+				}
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Varint too long");
+	}
+
+	private static long readVarlong(InputStream in) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			int b = readByte(in);
+			value |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				if (value < 0) {
+					throw new IllegalArgumentException("Varlong out of range: " + Long.toUnsignedString(value));
+				}
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("Varlong too long");
+	}
+
+	private static int readByte(InputStream in) throws IOException {
+		int b = in.read();
+		if (b < 0) {
+			throw new IllegalArgumentException("Unexpected end of binary recording");
+		}
+		return b;
+	}
+}
@@ -3,9 +3,9 @@ package jqwik2.api.recording;
 import java.util.*;
 import java.util.stream.*;
 
-public record ChoiceRecording(Optional<Integer> optionalChoice) implements Recording {
+public record ChoiceRecording(Optional<Long> optionalChoice) implements Recording {
 
-	public ChoiceRecording(int choice) {
+	public ChoiceRecording(long choice) {
 		this(Optional.of(choice));
 	}
 
@@ -48,7 +48,7 @@ public record ChoiceRecording(Optional<Integer> optionalChoice) implements Recor
 		if (right.optionalChoice.isEmpty()) {
 			return 1;
 		}
-		return Integer.compare(left.optionalChoice.get(), right.optionalChoice.get());
+		return Long.compare(left.optionalChoice.get(), right.optionalChoice.get());
 	}
 
 	@Override
@@ -5,7 +5,7 @@ import java.util.stream.*;
 
 class ChoiceShrinker {
 
-	private final Optional<Integer> optionalChoice;
+	private final Optional<Long> optionalChoice;
 
 	ChoiceShrinker(ChoiceRecording recording) {
 		this.optionalChoice = recording.optionalChoice();
@@ -18,14 +18,14 @@ class ChoiceShrinker {
 	}
 
 	// TODO: Shrink in fibonacci steps from both ends
-	private Stream<Integer> shrinkChoice(int choice) {
+	private Stream<Long> shrinkChoice(long choice) {
 		if (choice == 0) {
 			return Stream.empty();
 		}
-		Set<Integer> shrunkValues = new LinkedHashSet<>();
-		shrunkValues.add(0);
+		Set<Long> shrunkValues = new LinkedHashSet<>();
+		shrunkValues.add(0L);
 		if (choice > 1) {
-			shrunkValues.add(1);
+			shrunkValues.add(1L);
 		}
 		shrunkValues.add(choice - 1);
 		shrunkValues.add(choice / 2);
@@ -12,15 +12,23 @@ public sealed interface Recording extends Comparable<Recording>
 		return Serialization.deserialize(serialized);
 	}
 
+	static Recording deserialize(byte[] serialized) {
+		return BinarySerialization.deserialize(serialized);
+	}
+
 	Stream<? extends Recording> shrink();
 
 	String serialize();
 
+	default byte[] serializeToBytes() {
+		return BinarySerialization.serialize(this);
+	}
+
 	default boolean isomorphicTo(Recording other) {
 		return false;
 	}
 
-	static ChoiceRecording choice(int choice) {
+	static ChoiceRecording choice(long choice) {
 		return new ChoiceRecording(choice);
 	}
 
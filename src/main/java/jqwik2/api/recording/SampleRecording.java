@@ -1,5 +1,6 @@
 package jqwik2.api.recording;
 
+import java.io.*;
 import java.util.*;
 
 public record SampleRecording(List<Recording> recordings) implements Comparable<SampleRecording> {
@@ -12,10 +13,35 @@ public record SampleRecording(List<Recording> recordings) implements Comparable<
 		return Serialization.deserializeSample(serialized);
 	}
 
+	public static SampleRecording deserialize(byte[] serialized) {
+		return BinarySerialization.deserializeSample(serialized);
+	}
+
+	/**
+	 * Read the next binary serialized sample recording from a stream.
+	 *
+	 * @return empty optional if the stream has no more bytes
+	 */
+	public static Optional<SampleRecording> readFrom(InputStream in) throws IOException {
+		return BinarySerialization.readSample(in);
+	}
+
+	public static boolean isBinary(byte[] serialized) {
+		return BinarySerialization.isBinary(serialized);
+	}
+
 	public String serialize() {
 		return Serialization.serialize(this);
 	}
 
+	public byte[] serializeToBytes() {
+		return BinarySerialization.serialize(this);
+	}
+
+	public void writeTo(OutputStream out) throws IOException {
+		BinarySerialization.write(this, out);
+	}
+
 	@Override
 	public int compareTo(SampleRecording other) {
 		return RecordingsComparator.compare(this.recordings, other.recordings);
@@ -16,109 +16,141 @@ class Serialization {
 	public static final char CONTENT_SEPARATOR = ':';
 
 	static SampleRecording deserializeSample(String serialized) {
-		return new SampleRecording(deserializeParts(serialized));
+		return new SampleRecording(new Parser(serialized).parseSample());
 	}
 
 	static Recording deserialize(String serialized) {
 		if (serialized == null || serialized.isBlank()) {
 			throw new IllegalArgumentException("Invalid serialized recording: " + serialized);
 		}
-		char choice = serialized.charAt(0);
-		switch (choice) {
-			case CHOICE:
-				return deserializeChoice(serialized);
-			case LIST:
-				return deserializeList(serialized);
-			case TUPLE:
-				return deserializeTuple(serialized);
-			default:
-				throw new IllegalArgumentException("Unknown recording type: " + choice);
-		}
+		return new Parser(serialized).parseSingle();
 	}
 
-	private static Recording deserializeList(String serialized) {
-		if (serialized.length() < 3) { //TODO: Stricter check
-			throw new IllegalArgumentException("Invalid serialized list recording: " + serialized);
+	/**
+	 * Parses serialized recordings in a single pass from left to right.
+	 */
+	private static class Parser {
+		private final String serialized;
+		private final int end;
+		private int position = 0;
+
+		private Parser(String serialized) {
+			this.serialized = serialized;
+			this.end = serialized.stripTrailing().length();
 		}
-		String elementsPart = serializedContents(serialized);
-		return new ListRecording(deserializeParts(elementsPart));
-	}
 
-	private static Recording deserializeTuple(String serialized) {
-		if (serialized.length() < 3) { //TODO: Stricter check
-			throw new IllegalArgumentException("Invalid serialized tuple recording: " + serialized);
+		private Recording parseSingle() {
+			Recording recording = parseRecording();
+			if (!atEnd()) {
+				throw invalid("Unexpected characters after recording");
+			}
+			return recording;
 		}
-		String elementsPart = serializedContents(serialized);
-		var parts = deserializeParts(elementsPart);
-		if (parts.isEmpty()) {
-			return EMPTY;
+
+		private List<Recording> parseSample() {
+			List<Recording> recordings = new ArrayList<>();
+			while (!atEnd()) {
+				recordings.add(parseRecording());
+				if (!atEnd()) {
+					expect(CONTENT_SEPARATOR);
+				}
+			}
+			return recordings;
 		}
-		return new TupleRecording(parts);
-	}
 
-	private static List<Recording> deserializeParts(String partsString) {
-		List<Recording> elements = new ArrayList<>();
-		int start = 0;
-		int end = 0;
-		while (end < partsString.length()) {
-			char c = partsString.charAt(end);
-			if (c == START_CONTENT) {
-				end += skipToEndOfElement(partsString, end);
-			} else if (c == CONTENT_SEPARATOR) {
-				elements.add(deserialize(partsString.substring(start, end)));
-				start = end + 1;
+		private Recording parseRecording() {
+			char type = next();
+			expect(START_CONTENT);
+			return switch (type) {
+				case CHOICE -> parseChoice();
+				case LIST -> new ListRecording(parseElements());
+				case TUPLE -> {
+					var elements = parseElements();
+					yield elements.isEmpty() ? EMPTY : new TupleRecording(elements);
+				}
+				default -> throw new IllegalArgumentException("Unknown recording type: " + type);
+			};
+		}
+
+		private List<Recording> parseElements() {
+			List<Recording> elements = new ArrayList<>();
+			if (peek() == END_CONTENT) {
+				position++;
+				return elements;
+			}
+			while (true) {
+				elements.add(parseRecording());
+				char c = next();
+				if (c == END_CONTENT) {
+					return elements;
+				}
+				if (c != CONTENT_SEPARATOR) {
+					throw invalid("Unexpected character '%s'".formatted(c));
+				}
 			}
-			end++;
 		}
-		String lastPart = partsString.substring(start, end);
-		if (!lastPart.isBlank()) {
-			elements.add(deserialize(lastPart));
+
+		private Recording parseChoice() {
+			int start = position;
+			int endOfChoice = serialized.indexOf(END_CONTENT, start);
+			if (endOfChoice < 0 || endOfChoice >= end) {
+				throw invalid("Missing end of choice");
+			}
+			position = endOfChoice + 1;
+			String choicePart = serialized.substring(start, endOfChoice);
+			if (choicePart.indexOf(CONTENT_SEPARATOR) >= 0) {
+				choicePart = singleChoiceValue(choicePart);
+			}
+			if (choicePart.isBlank()) {
+				return new ChoiceRecording(Optional.empty());
+			}
+			long choice = Long.parseLong(choicePart);
+			if (choice < 0) {
+				var message = "A choice cannot be negative but <%s> is".formatted(choicePart);
+				throw new IllegalArgumentException(message);
+			}
+			return new ChoiceRecording(choice);
 		}
-		return elements;
-	}
 
-	private static int skipToEndOfElement(String partsString, int end) {
-		char c;
-		int skip = 0;
-		int nesting = 1;
-		while (nesting > 0) {
-			skip++;
-			c = partsString.charAt(end + skip);
-			if (c == START_CONTENT) {
-				nesting++;
-			} else if (c == END_CONTENT) {
-				nesting--;
+		private static String singleChoiceValue(String choicePart) {
+			List<String> choices = Arrays.stream(choicePart.split(":"))
+										 .filter(s -> !s.isBlank())
+										 .toList();
+			if (choices.size() > 1) {
+				var message = "A choice cannot have more than one value but <%s> has %d".formatted(choicePart, choices.size());
+				throw new IllegalArgumentException(message);
 			}
+			return choices.isEmpty() ? "" : choices.getFirst();
 		}
-		return skip;
-	}
 
-	static Recording deserializeChoice(String serialized) {
-		if (serialized.length() < 3) {
-			var message = "Invalid serialized choice recording: <%s>".formatted(serialized);
-			throw new IllegalArgumentException(message);
+		private boolean atEnd() {
+			return position >= end;
 		}
-		String choicesPart = serializedContents(serialized);
-		List<Integer> choices = Arrays.stream(choicesPart.split(":"))
-									  .filter(s -> !s.isBlank())
-									  .map(Integer::parseInt)
-									  .toList();
-		if (choices.size() > 1) {
-			var message = "A choice cannot have more than one value but <%s> has %d".formatted(serialized, choices.size());
-			throw new IllegalArgumentException(message);
+
+		private char peek() {
+			if (atEnd()) {
+				throw invalid("Unexpected end");
+			}
+			return serialized.charAt(position);
 		}
-		if (choices.stream().anyMatch(c -> c < 0)) {
-			var message = "A choice cannot be negative but <%s> is".formatted(serialized);
-			throw new IllegalArgumentException(message);
+
+		private char next() {
+			char c = peek();
+			position++;
+			return c;
 		}
-		if (choices.isEmpty()) {
-			return new ChoiceRecording(Optional.empty());
+
+		private void expect(char expected) {
+			char c = next();
+			if (c != expected) {
+				throw invalid("Expected '%s' but found '%s'".formatted(expected, c));
+			}
 		}
-		return new ChoiceRecording(choices.getFirst());
-	}
 
-	private static String serializedContents(String serialized) {
-		return serialized.substring(2, serialized.length() - 1);
+		private IllegalArgumentException invalid(String reason) {
+			var message = "Invalid serialized recording <%s> at position %d: %s".formatted(serialized, position, reason);
+			return new IllegalArgumentException(message);
+		}
 	}
 
 	static String serialize(SampleRecording recording) {
@@ -0,0 +1,44 @@
+package jqwik2.api.validation;
+
+import java.time.*;
+import java.util.*;
+
+import jqwik2.api.*;
+import jqwik2.api.database.*;
+import jqwik2.api.description.*;
+import jqwik2.internal.validation.*;
+
+/**
+ * Validates many properties in parallel with one shared pool of threads and one shared runtime budget.
+ *
+ * <p>Properties that have failed before are validated first.</p>
+ */
+public interface PropertySuiteValidator {
+
+	static PropertySuiteValidator forProperties(List<PropertyDescription> properties) {
+		return new PropertySuiteValidatorImpl(properties);
+	}
+
+	default Map<PropertyDescription, PropertyValidationResult> validate() {
+		return validate(PropertyValidationStrategy.DEFAULT, JqwikDefaults.defaultMaxDuration());
+	}
+
+	/**
+	 * Validate all properties with the same strategy.
+	 *
+	 * <p>A property only gets the part of {@code maxSuiteRuntime} that is left when it starts.
+	 * Properties that cannot start before the budget is used up are aborted.
+	 * A zero {@code maxSuiteRuntime} means that there is no shared budget.</p>
+	 *
+	 * @return results in the order in which properties were given
+	 */
+	Map<PropertyDescription, PropertyValidationResult> validate(PropertyValidationStrategy strategy, Duration maxSuiteRuntime);
+
+	PropertySuiteValidator parallelism(int parallelism);
+
+	PropertySuiteValidator failureDatabase(FailureDatabase database);
+
+	PropertySuiteValidator publisher(PlatformPublisher publisher);
+
+	PropertySuiteValidator publishSuccessfulResults(boolean publishSuccessfulResults);
+}
@@ -35,6 +35,8 @@ public interface PropertyValidationStrategy {
 		Builder withShrinking(ShrinkingMode shrinking);
 
 		Builder withSamples(List<SampleRecording> samples);
+
+		Builder withRandomEngine(RandomChoice.Engine randomEngine);
 	}
 
 	PropertyValidationStrategy DEFAULT = builder().build();
@@ -43,6 +45,13 @@ public interface PropertyValidationStrategy {
 		return new ValidationStrategyBuilder();
 	}
 
+	/**
+	 * Create a builder that starts with all values of an existing strategy.
+	 */
+	static Builder builder(PropertyValidationStrategy strategy) {
+		return ValidationStrategyBuilder.from(strategy);
+	}
+
 	int maxTries();
 
 	Duration maxRuntime();
@@ -63,6 +72,8 @@ public interface PropertyValidationStrategy {
 
 	ConcurrencyMode concurrency();
 
+	RandomChoice.Engine randomEngine();
+
 	enum GenerationMode {
 		RANDOMIZED,
 		EXHAUSTIVE,
@@ -73,7 +84,8 @@ public interface PropertyValidationStrategy {
 
 	enum ShrinkingMode {
 		OFF,
-		FULL
+		FULL,
+		PARALLEL // Like FULL but shrinking candidates are tried concurrently
 	}
 
 	enum EdgeCasesMode {
@@ -104,7 +116,8 @@ record DefaultValidationStrategy(
 	GenerationMode generation,
 	EdgeCasesMode edgeCases,
 	AfterFailureMode afterFailure,
-	ConcurrencyMode concurrency
+	ConcurrencyMode concurrency,
+	RandomChoice.Engine randomEngine
 ) implements PropertyValidationStrategy {}
 
 class ValidationStrategyBuilder implements PropertyValidationStrategy.Builder, Cloneable {
@@ -119,6 +132,23 @@ class ValidationStrategyBuilder implements PropertyValidationStrategy.Builder, C
 	private PropertyValidationStrategy.EdgeCasesMode edgeCases = JqwikDefaults.defaultEdgeCasesMode();
 	private PropertyValidationStrategy.AfterFailureMode afterFailure = JqwikDefaults.defaultAfterFailureMode();
 	private PropertyValidationStrategy.ConcurrencyMode concurrency = JqwikDefaults.defaultConcurrencyMode();
+	private RandomChoice.Engine randomEngine = JqwikDefaults.defaultRandomEngine();
+
+	static ValidationStrategyBuilder from(PropertyValidationStrategy strategy) {
+		var strategyBuilder = new ValidationStrategyBuilder();
+		strategyBuilder.maxTries = strategy.maxTries();
+		strategyBuilder.maxRuntime = strategy.maxRuntime();
+		strategyBuilder.filterOutDuplicateSamples = strategy.filterOutDuplicateSamples();
+		strategyBuilder.seedSupplier = strategy.seedSupplier();
+		strategyBuilder.samples = strategy.samples();
+		strategyBuilder.shrinking = strategy.shrinking();
+		strategyBuilder.generation = strategy.generation();
+		strategyBuilder.edgeCases = strategy.edgeCases();
+		strategyBuilder.afterFailure = strategy.afterFailure();
+		strategyBuilder.concurrency = strategy.concurrency();
+		strategyBuilder.randomEngine = strategy.randomEngine();
+		return strategyBuilder;
+	}
 
 	@Override
 	protected ValidationStrategyBuilder clone() {
@@ -133,6 +163,7 @@ class ValidationStrategyBuilder implements PropertyValidationStrategy.Builder, C
 		strategyBuilder.edgeCases = edgeCases;
 		strategyBuilder.afterFailure = afterFailure;
 		strategyBuilder.concurrency = concurrency;
+		strategyBuilder.randomEngine = randomEngine;
 		return strategyBuilder;
 	}
 
@@ -142,7 +173,8 @@ class ValidationStrategyBuilder implements PropertyValidationStrategy.Builder, C
 			maxTries, maxRuntime, filterOutDuplicateSamples,
 			seedSupplier, samples,
 			shrinking, generation,
-			edgeCases, afterFailure, concurrency
+			edgeCases, afterFailure, concurrency,
+			randomEngine
 		);
 	}
 
@@ -215,4 +247,11 @@ class ValidationStrategyBuilder implements PropertyValidationStrategy.Builder, C
 		clone.samples = samples;
 		return clone;
 	}
+
+	@Override
+	public PropertyValidationStrategy.Builder withRandomEngine(RandomChoice.Engine randomEngine) {
+		ValidationStrategyBuilder clone = clone();
+		clone.randomEngine = randomEngine;
+		return clone;
+	}
 }
\ No newline at end of file
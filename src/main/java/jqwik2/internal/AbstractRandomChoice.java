@@ -0,0 +1,117 @@
+package jqwik2.internal;
+
+import java.util.*;
+import java.util.random.*;
+
+import jqwik2.api.*;
+
+/**
+ * Base class for random choice engines that only have to provide 64 random bits at a time.
+ *
+ * <p>Bounded ints and doubles are derived directly from {@linkplain #nextLong()}
+ * instead of going through the generic defaults of {@linkplain RandomGenerator}.
+ * Gaussians use the JDK's ziggurat implementation on top of {@linkplain #nextLong()}.</p>
+ */
+public abstract class AbstractRandomChoice implements RandomChoice, RandomGenerator {
+
+	private final String seed;
+
+	protected AbstractRandomChoice(String seed) {
+		this.seed = seed;
+	}
+
+	protected static long parseSeed(String seed) {
+		try {
+			return Long.parseLong(seed);
+		} catch (NumberFormatException nfe) {
+			String message = String.format("[%s] is not a valid random randomSeed.", seed);
+			throw new IllegalArgumentException(message);
+		}
+	}
+
+	/**
+	 * See <a href="http://zimbry.blogspot.com/2011/09/better-bit-mixing-improving-on.html">Better Bit Mixing - Improving on MurmurHash3's 64-bit Finalizer</a>
+	 */
+	protected static long mix64(long z) {
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	@Override
+	public abstract long nextLong();
+
+	@Override
+	public Optional<String> seed() {
+		return Optional.ofNullable(seed);
+	}
+
+	/**
+	 * Lemire's nearly divisionless method: A multiplication maps 32 random bits onto the range,
+	 * a division is only needed in the rare case that the result might be biased.
+	 *
+	 * <p>See <a href="https://arxiv.org/abs/1805.10941">Fast Random Integer Generation in an Interval</a></p>
+	 */
+	@Override
+	public int nextInt(int maxExcluded) {
+		checkBound(maxExcluded);
+		return boundedInt(maxExcluded);
+	}
+
+	private int boundedInt(int maxExcluded) {
+		long product = (nextLong() >>> 32) * maxExcluded;
+		long low = product & 0xFFFFFFFFL;
+		if (low < maxExcluded) {
+			long threshold = (0x100000000L - maxExcluded) % maxExcluded;
+			while (low < threshold) {
+				product = (nextLong() >>> 32) * maxExcluded;
+				low = product & 0xFFFFFFFFL;
+			}
+		}
+		return (int) (product >>> 32);
+	}
+
+	@Override
+	public void nextInts(int[] dest, int maxExcluded) {
+		checkBound(maxExcluded);
+		for (int i = 0; i < dest.length; i++) {
+			dest[i] = boundedInt(maxExcluded);
+		}
+	}
+
+	/**
+	 * Lemire's method with 128 bit products: the high 64 bits of {@code random * maxExcluded} are the result.
+	 */
+	@Override
+	public long nextLong(long maxExcluded) {
+		if (maxExcluded <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+		long random = nextLong();
+		long low = random * maxExcluded;
+		if (Long.compareUnsigned(low, maxExcluded) < 0) {
+			long threshold = Long.remainderUnsigned(-maxExcluded, maxExcluded);
+			while (Long.compareUnsigned(low, threshold) < 0) {
+				random = nextLong();
+				low = random * maxExcluded;
+			}
+		}
+		return Math.unsignedMultiplyHigh(random, maxExcluded);
+	}
+
+	private static void checkBound(int maxExcluded) {
+		if (maxExcluded <= 0) {
+			throw new IllegalArgumentException("bound must be positive");
+		}
+	}
+
+	@Override
+	public double nextDouble() {
+		return (nextLong() >>> 11) * 0x1.0p-53;
+	}
+
+	@Override
+	public double nextGaussian() {
+		return RandomGenerator.super.nextGaussian();
+	}
+}
@@ -2,25 +2,82 @@ package jqwik2.internal;
 
 import jqwik2.api.*;
 
+/**
+ * Chooses {@code floor(x^bias * maxExcluded)} for a uniformly distributed x,
+ * i.e. small values are chosen more often.
+ *
+ * <p>Instead of calling Math.pow, x is split into mantissa m in [1, 2) and binary exponent e.
+ * {@code m^bias} is interpolated in a table, {@code 2^(e * bias)} is looked up exactly.
+ * The relative error is therefore the same for every x, also close to 0 where {@code x^bias} is steepest.</p>
+ *
+ * <p>Tables are shared by distributions with the same bias. Only the most recently used biases are kept.</p>
+ */
 public class BiasedDistribution implements RandomChoice.Distribution {
-	private final double lambda;
+
+	private static final int MAX_TABLES = 16;
+	private static final LruCache<Double, PowerTable> TABLES = new LruCache<>(MAX_TABLES);
+
+	private final double bias;
+	private final PowerTable table;
 
 	public BiasedDistribution(double bias) {
 		if (bias <= 0) {
 			throw new IllegalArgumentException("bias must be greater than 0");
 		}
-		this.lambda = bias;
+		this.bias = bias;
+		this.table = TABLES.computeIfAbsent(bias, PowerTable::new);
 	}
 
 	@Override
 	public int nextInt(RandomChoice random, int maxExcluded) {
-		while (true) {
-			var x = random.nextDouble();
-			double biasFactor = Math.pow(x, lambda);
-			long value = (long) Math.floor(biasFactor * maxExcluded);
-			if (value < maxExcluded) {
-				return (int) value;
+		double x = random.nextDouble();
+		double biasFactor = table.power(x);
+		if (Double.isNaN(biasFactor)) {
+			biasFactor = Math.pow(x, bias);
+		}
+		// Rounding can push value to exactly maxExcluded
+		return (int) Math.min((long) (biasFactor * maxExcluded), maxExcluded - 1);
+	}
+
+	private static class PowerTable {
+
+		private static final int MANTISSA_INDEX_BITS = 12;
+		private static final int FRACTION_BITS = 52 - MANTISSA_INDEX_BITS;
+		private static final double FRACTION_SCALE = 1.0 / (1L << FRACTION_BITS);
+		private static final int SIZE = 1 << MANTISSA_INDEX_BITS;
+		private static final int MAX_EXPONENT = -Double.MIN_EXPONENT;
+
+		// mantissaPowers[i] = (1 + i / SIZE)^bias
+		private final double[] mantissaPowers = new double[SIZE + 1];
+		// exponentPowers[k] = 2^(-k * bias)
+		private final double[] exponentPowers = new double[MAX_EXPONENT + 1];
+
+		private PowerTable(double bias) {
+			for (int i = 0; i <= SIZE; i++) {
+				mantissaPowers[i] = Math.pow(1 + (double) i / SIZE, bias);
+			}
+			for (int k = 0; k <= MAX_EXPONENT; k++) {
+				exponentPowers[k] = Math.pow(2, -k * bias);
+			}
+		}
+
+		/**
+		 * @return x^bias for x in [0, 1), or NaN if x is subnormal
+		 */
+		private double power(double x) {
+			if (x == 0) {
+				return 0;
+			}
+			long bits = Double.doubleToRawLongBits(x);
+			int k = -Math.getExponent(x);
+			if (k > MAX_EXPONENT) {
+				return Double.NaN;
 			}
+			int index = (int) ((bits >>> FRACTION_BITS) & (SIZE - 1));
+			double fraction = (bits & ((1L << FRACTION_BITS) - 1)) * FRACTION_SCALE;
+			double lower = mantissaPowers[index];
+			double mantissaPower = lower + fraction * (mantissaPowers[index + 1] - lower);
+			return mantissaPower * exponentPowers[k];
 		}
 	}
 }
@@ -0,0 +1,134 @@
+package jqwik2.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * An executor service that runs its tasks on the threads of a shared executor service.
+ *
+ * <p>Shutting it down, also with {@link #shutdownNow()}, only affects the tasks that were submitted through it.
+ * The shared executor service keeps running and must be shut down by its owner.</p>
+ */
+public class BorrowedExecutorService extends AbstractExecutorService {
+
+	private final ExecutorService sharedExecutorService;
+	private final Set<BorrowedTask> unfinishedTasks = ConcurrentHashMap.newKeySet();
+
+	private volatile boolean shutdown = false;
+
+	public BorrowedExecutorService(ExecutorService sharedExecutorService) {
+		this.sharedExecutorService = sharedExecutorService;
+	}
+
+	@Override
+	public void execute(Runnable command) {
+		BorrowedTask task = new BorrowedTask(command);
+		synchronized (this) {
+			if (shutdown) {
+				throw new RejectedExecutionException("Borrowed executor service has been shut down");
+			}
+			unfinishedTasks.add(task);
+		}
+		try {
+			sharedExecutorService.execute(task);
+		} catch (RejectedExecutionException e) {
+			finished(task);
+			throw e;
+		}
+	}
+
+	@Override
+	public synchronized void shutdown() {
+		shutdown = true;
+		notifyAll();
+	}
+
+	@Override
+	public List<Runnable> shutdownNow() {
+		shutdown();
+		List<Runnable> notStarted = new ArrayList<>();
+		for (BorrowedTask task : unfinishedTasks) {
+			if (task.drop()) {
+				notStarted.add(task.command);
+			} else {
+				task.interrupt();
+			}
+		}
+		return notStarted;
+	}
+
+	@Override
+	public boolean isShutdown() {
+		return shutdown;
+	}
+
+	@Override
+	public boolean isTerminated() {
+		return shutdown && unfinishedTasks.isEmpty();
+	}
+
+	@Override
+	public synchronized boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		while (!isTerminated()) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				return false;
+			}
+			TimeUnit.NANOSECONDS.timedWait(this, remaining);
+		}
+		return true;
+	}
+
+	private synchronized void finished(BorrowedTask task) {
+		unfinishedTasks.remove(task);
+		notifyAll();
+	}
+
+	private class BorrowedTask implements Runnable {
+
+		private final Runnable command;
+		// Set by whoever comes first: the thread that runs the task or shutdownNow() dropping it
+		private final AtomicBoolean claimed = new AtomicBoolean(false);
+		private Thread runner = null;
+
+		private BorrowedTask(Runnable command) {
+			this.command = command;
+		}
+
+		@Override
+		public void run() {
+			if (!claimed.compareAndSet(false, true)) {
+				return;
+			}
+			synchronized (this) {
+				runner = Thread.currentThread();
+			}
+			try {
+				command.run();
+			} finally {
+				synchronized (this) {
+					runner = null;
+				}
+				// An interrupt from shutdownNow() must not leak into the shared thread's next task
+				Thread.interrupted();
+				finished(this);
+			}
+		}
+
+		private boolean drop() {
+			if (claimed.compareAndSet(false, true)) {
+				finished(this);
+				return true;
+			}
+			return false;
+		}
+
+		private synchronized void interrupt() {
+			if (runner != null) {
+				runner.interrupt();
+			}
+		}
+	}
+}
@@ -5,46 +5,75 @@ import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 
+import jqwik2.api.*;
 import jqwik2.api.support.*;
 
 public class ConcurrentRunner implements TaskRunner {
 
 	private final ExecutorService executorService;
 	private final Duration maxRuntime;
+	private final int maxTasksInFlight;
 
 	public ConcurrentRunner(ExecutorService executorService, Duration maxRuntime) {
+		this(executorService, maxRuntime, JqwikDefaults.defaultMaxTasksInFlight());
+	}
+
+	/**
+	 * @param maxTasksInFlight maximum number of tasks that have been submitted but not finished yet.
+	 *                         When this number is reached, submitting the next task waits.
+	 */
+	public ConcurrentRunner(ExecutorService executorService, Duration maxRuntime, int maxTasksInFlight) {
+		if (maxTasksInFlight < 1) {
+			throw new IllegalArgumentException("maxTasksInFlight must be at least 1");
+		}
 		this.executorService = executorService;
 		this.maxRuntime = maxRuntime;
+		this.maxTasksInFlight = maxTasksInFlight;
 	}
 
 	@Override
 	@SuppressWarnings("OverlyLongMethod")
 	public void run(Iterator<ConcurrentRunner.Task> taskIterator) throws TimeoutException {
 		List<Throwable> uncaughtErrors = Collections.synchronizedList(new ArrayList<>());
-		List<Future<?>> submittedTasks = Collections.synchronizedList(new ArrayList<>());
-		Timer timer = new Timer();
+		// Only unfinished tasks are kept, so that memory does not grow with the number of tasks
+		Set<Future<?>> tasksInFlight = ConcurrentHashMap.newKeySet();
+		Semaphore freeSlots = new Semaphore(maxTasksInFlight);
+		AtomicBoolean timeoutOccurred = new AtomicBoolean(false);
+		Deadlines.Deadline deadline = scheduleTimeout(executorService, tasksInFlight, timeoutOccurred);
 		try (executorService) {
-			AtomicBoolean timeoutOccurred = new AtomicBoolean(false);
-			scheduleTimeoutTask(timer, executorService, submittedTasks, timeoutOccurred);
 
-			Shutdown shutdown = executorService::shutdownNow;
+			Shutdown shutdown = () -> shutdownNowAndCancelWaitingTasks(executorService);
 			while (taskIterator.hasNext()) {
-				if (timeoutOccurred.get()) {
+				if (!waitForFreeSlot(freeSlots, timeoutOccurred)) {
 					break;
 				}
 				Task task = taskIterator.next();
-				try {
-					Runnable runnable = () -> {
-						try {
-							task.run(shutdown);
-						} catch (Throwable throwable) {
-							uncaughtErrors.add(throwable);
+				Runnable runnable = () -> {
+					try {
+						task.run(shutdown);
+					} catch (Throwable throwable) {
+						uncaughtErrors.add(throwable);
+					}
+				};
+				FutureTask<Void> future = new FutureTask<>(runnable, null) {
+					@Override
+					protected void done() {
+						tasksInFlight.remove(this);
+						freeSlots.release();
+						if (isCancelled()) {
+							task.cancelled();
 						}
-					};
-					submittedTasks.add(executorService.submit(runnable));
+					}
+				};
+				tasksInFlight.add(future);
+				try {
+					executorService.execute(future);
 				} catch (RejectedExecutionException ignore) {
 					// This can happen when a task is submitted after
 					// the executor service has been shut down due to a falsified sample.
+					tasksInFlight.remove(future);
+					freeSlots.release();
+					task.cancelled();
 				}
 			}
 
@@ -60,24 +89,43 @@ public class ConcurrentRunner implements TaskRunner {
 		} catch (Throwable throwable) {
 			ExceptionSupport.throwAsUnchecked(throwable);
 		} finally {
-			timer.cancel();
+			deadline.cancel();
 		}
 	}
 
-	private void scheduleTimeoutTask(Timer timer, ExecutorService executorService, List<Future<?>> submittedTasks, AtomicBoolean timeoutOccurred) {
-		// Timeout is also handled by waitForFinishOrFail(), but that won't work during task creation
-		if (maxRuntime.isZero()) {
-			return;
+	/**
+	 * @return false if no more tasks should be submitted
+	 */
+	/**
+	 * Tasks that have not been started are dropped by shutdownNow().
+	 * Cancelling them tells them via {@linkplain Task#cancelled()} that they will never run.
+	 */
+	private static void shutdownNowAndCancelWaitingTasks(ExecutorService executorService) {
+		for (Runnable notStarted : executorService.shutdownNow()) {
+			if (notStarted instanceof Future<?> future) {
+				future.cancel(false);
+			}
 		}
-		timer.schedule(new TimerTask() {
-			@Override
-			public void run() {
-				timeoutOccurred.set(true);
-				executorService.shutdownNow();
-				// This is an optimization to speed up shutdown with virtual threads:
-				submittedTasks.forEach(future -> future.cancel(true));
+	}
+
+	private boolean waitForFreeSlot(Semaphore freeSlots, AtomicBoolean timeoutOccurred) throws InterruptedException {
+		while (!freeSlots.tryAcquire(10, TimeUnit.MILLISECONDS)) {
+			// Tasks that have not been started before shutdown will never free their slot
+			if (timeoutOccurred.get() || executorService.isShutdown()) {
+				return false;
 			}
-		}, maxRuntime.toMillis());
+		}
+		return !timeoutOccurred.get();
+	}
+
+	private Deadlines.Deadline scheduleTimeout(ExecutorService executorService, Set<Future<?>> tasksInFlight, AtomicBoolean timeoutOccurred) {
+		// Timeout is also handled by waitForFinishOrFail(), but that won't work during task creation
+		return Deadlines.schedule(maxRuntime, () -> {
+			timeoutOccurred.set(true);
+			shutdownNowAndCancelWaitingTasks(executorService);
+			// This is an optimization to speed up shutdown with virtual threads:
+			tasksInFlight.forEach(future -> future.cancel(true));
+		});
 	}
 
 	private void waitForFinishOrFail(ExecutorService executorService) throws TimeoutException {
@@ -88,10 +136,10 @@ public class ConcurrentRunner implements TaskRunner {
 				timeoutOccurred = !executorService.awaitTermination(maxRuntime.toMillis(), TimeUnit.MILLISECONDS);
 			}
 		} catch (InterruptedException e) {
-			executorService.shutdownNow();
+			shutdownNowAndCancelWaitingTasks(executorService);
 		}
 		if (timeoutOccurred) {
-			executorService.shutdownNow();
+			shutdownNowAndCancelWaitingTasks(executorService);
 			String message = "Concurrent run timed out after " + maxRuntime;
 			throw new TimeoutException(message);
 		}
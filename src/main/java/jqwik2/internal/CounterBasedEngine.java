@@ -0,0 +1,43 @@
+package jqwik2.internal;
+
+import jqwik2.api.*;
+
+/**
+ * @param firstTryIndex index of the first try of a run, e.g. to start with a try that has failed before
+ */
+public record CounterBasedEngine(RandomChoice.Engine engine, long firstTryIndex) implements RandomChoice.Engine {
+
+	public CounterBasedEngine(RandomChoice.Engine engine) {
+		this(engine, 0);
+	}
+
+	@Override
+	public RandomChoice create(String seed) {
+		return engine.create(seed);
+	}
+
+	@Override
+	public RandomChoice create(long seed) {
+		return engine.create(seed);
+	}
+
+	@Override
+	public IterableSampleSource samples(String seed) {
+		return new CounterBasedRandomSource(engine, seed, firstTryIndex);
+	}
+
+	/**
+	 * Same engine, but runs start with try number {@code tryIndex}.
+	 */
+	public CounterBasedEngine startingAt(long tryIndex) {
+		return new CounterBasedEngine(engine, tryIndex);
+	}
+
+	@Override
+	public String toString() {
+		if (firstTryIndex == 0) {
+			return "COUNTER_BASED(%s)".formatted(engine);
+		}
+		return "COUNTER_BASED(%s)@%d".formatted(engine, firstTryIndex);
+	}
+}
@@ -0,0 +1,96 @@
+package jqwik2.internal;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import jqwik2.api.*;
+
+/**
+ * Derives the random choices of each try directly from seed, try index and parameter index
+ * instead of splitting them off a shared random choice one after the other.
+ *
+ * <p>Thereby the sources of a try do not depend on the order in which tries are generated,
+ * and any try can be regenerated from seed and try index without generating the tries before it.
+ * A run can therefore also start at a later try, e.g. the one that has failed before.</p>
+ */
+public class CounterBasedRandomSource implements IterableSampleSource {
+
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private final RandomChoice.Engine engine;
+	private final long seedKey;
+	private final long firstTryIndex;
+
+	public CounterBasedRandomSource(RandomChoice.Engine engine, String seed) {
+		this(engine, seed, 0);
+	}
+
+	/**
+	 * @param firstTryIndex index of the first try to generate, starting with 0
+	 */
+	public CounterBasedRandomSource(RandomChoice.Engine engine, String seed, long firstTryIndex) {
+		if (firstTryIndex < 0) {
+			throw new IllegalArgumentException("firstTryIndex must not be negative");
+		}
+		this.engine = engine;
+		this.seedKey = AbstractRandomChoice.parseSeed(seed);
+		this.firstTryIndex = firstTryIndex;
+	}
+
+	/**
+	 * Create the sample source that is used for try number {@code tryIndex}, starting with 0.
+	 */
+	public TrySource sampleSource(long tryIndex) {
+		return new TrySource(tryIndex);
+	}
+
+	private long key(long tryIndex, int sourceIndex) {
+		long tryKey = AbstractRandomChoice.mix64(seedKey + GOLDEN_GAMMA * (tryIndex + 1));
+		return AbstractRandomChoice.mix64(tryKey + GOLDEN_GAMMA * (sourceIndex + 1));
+	}
+
+	@Override
+	public Iterator<SampleSource> iterator() {
+		AtomicLong nextTryIndex = new AtomicLong(firstTryIndex);
+		return new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return true;
+			}
+
+			@Override
+			public SampleSource next() {
+				return sampleSource(nextTryIndex.getAndIncrement());
+			}
+		};
+	}
+
+	@Override
+	public boolean isThreadSafe() {
+		return true;
+	}
+
+	/**
+	 * The sources of a single try, which know their try index.
+	 */
+	public final class TrySource implements SampleSource {
+		private final long tryIndex;
+
+		private TrySource(long tryIndex) {
+			this.tryIndex = tryIndex;
+		}
+
+		public long tryIndex() {
+			return tryIndex;
+		}
+
+		@Override
+		public List<GenSource> sources(int size) {
+			List<GenSource> sources = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				sources.add(new RandomGenSource(engine.create(key(tryIndex, i))));
+			}
+			return sources;
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package jqwik2.internal;
+
+import java.time.*;
+import java.util.concurrent.*;
+
+/**
+ * Schedules timeout actions for property runs on a single shared daemon thread.
+ *
+ * <p>Creating a {@linkplain java.util.Timer} per run would start and stop an OS thread for each property.</p>
+ *
+ * <p>Actions must be short, e.g. setting a flag or shutting down an executor service.</p>
+ */
+final class Deadlines {
+
+	private static final ScheduledThreadPoolExecutor SCHEDULER = createScheduler();
+
+	private Deadlines() {}
+
+	private static ScheduledThreadPoolExecutor createScheduler() {
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, "jqwik-deadlines");
+			thread.setDaemon(true);
+			return thread;
+		};
+		ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+		// Most deadlines are cancelled because runs finish in time
+		scheduler.setRemoveOnCancelPolicy(true);
+		return scheduler;
+	}
+
+	/**
+	 * Run {@code onDeadline} after {@code maxRuntime} unless the returned deadline is cancelled before.
+	 * A zero {@code maxRuntime} means that there is no deadline.
+	 */
+	static Deadline schedule(Duration maxRuntime, Runnable onDeadline) {
+		if (maxRuntime.isZero()) {
+			return Deadline.NONE;
+		}
+		ScheduledFuture<?> future = SCHEDULER.schedule(onDeadline, maxRuntime.toNanos(), TimeUnit.NANOSECONDS);
+		return () -> future.cancel(false);
+	}
+
+	@FunctionalInterface
+	interface Deadline {
+		Deadline NONE = () -> {};
+
+		void cancel();
+	}
+}
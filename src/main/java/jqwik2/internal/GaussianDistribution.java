@@ -2,26 +2,32 @@ package jqwik2.internal;
 
 import jqwik2.api.*;
 
+/**
+ * Chooses values from the positive half of a normal distribution
+ * that is cut off at {@code borderSigma} standard deviations and scaled to maxExcluded.
+ *
+ * <p>Values are looked up in an inverse CDF table that is shared by all distributions with the same border.
+ * Only the tables of the most recently used borders are kept.</p>
+ */
 public class GaussianDistribution implements RandomChoice.Distribution {
 
-	private final double borderSigma;
+	private static final int MAX_TABLES = 16;
+	private static final LruCache<Double, InverseCdfTable> TABLES = new LruCache<>(MAX_TABLES);
+
+	private final InverseCdfTable table;
 
 	public GaussianDistribution(double borderSigma) {
 		if (borderSigma <= 0) {
 			throw new IllegalArgumentException("borderSigma must be greater than 0");
 		}
-		this.borderSigma = borderSigma;
+		this.table = TABLES.computeIfAbsent(
+			borderSigma,
+			sigma -> InverseCdfTable.fromDensity(x -> Math.exp(-(x * sigma) * (x * sigma) / 2))
+		);
 	}
 
 	@Override
 	public int nextInt(RandomChoice random, int maxExcluded) {
-		while (true) {
-			var gaussian = random.nextGaussian();
-			double gaussianFactor = Math.abs(gaussian) / borderSigma;
-			long value = (long) Math.floor(gaussianFactor * maxExcluded);
-			if (value < maxExcluded) {
-				return (int) value;
-			}
-		}
+		return table.nextInt(random, maxExcluded);
 	}
 }
@@ -0,0 +1,94 @@
+package jqwik2.internal;
+
+import java.util.*;
+import java.util.stream.*;
+
+import jqwik2.api.*;
+import jqwik2.api.recording.*;
+import jqwik2.internal.recording.*;
+
+/**
+ * A shrinkable of an {@linkplain IntGenerator} that keeps its value unboxed.
+ * The value is only boxed when it is accessed through {@linkplain #value()}.
+ */
+public final class GeneratedIntShrinkable implements Shrinkable<Integer> {
+	private final int value;
+	private final IntGenerator generator;
+	private final GenRecorder recorder;
+	private volatile Recording frozenRecording = null;
+
+	public GeneratedIntShrinkable(int value, IntGenerator generator, GenRecorder recorder) {
+		this.value = value;
+		this.generator = generator;
+		this.recorder = recorder;
+	}
+
+	@Override
+	public Stream<Shrinkable<Integer>> shrink() {
+		return recording().shrink()
+						  .map(s -> {
+							  try {
+								  GenRecorder source = new GenRecorder(RecordedSource.of(s));
+								  int value = generator.generateInt(source);
+								  return (Shrinkable<Integer>) new GeneratedIntShrinkable(value, generator, source);
+							  } catch (CannotGenerateException e) {
+								  return null;
+							  }
+						  }).filter(Objects::nonNull);
+	}
+
+	public int intValue() {
+		return value;
+	}
+
+	@Override
+	public Integer value() {
+		return value;
+	}
+
+	@Override
+	public Generator<Integer> generator() {
+		return generator;
+	}
+
+	@Override
+	public Recording recording() {
+		Recording frozen = frozenRecording;
+		if (frozen != null) {
+			return frozen;
+		}
+		return recorder.recording();
+	}
+
+	@Override
+	public void freezeRecording() {
+		if (frozenRecording == null) {
+			frozenRecording = recorder.recording();
+		}
+	}
+
+	@Override
+	public int compareTo(Shrinkable<Integer> o) {
+		return this.recording().compareTo(o.recording());
+	}
+
+	@Override
+	public String toString() {
+		return "Shrinkable{value=%s, recording=%s}".formatted(value, recording());
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj == this) return true;
+		if (obj == null || obj.getClass() != this.getClass()) return false;
+		var that = (GeneratedIntShrinkable) obj;
+		return Objects.equals(this.generator, that.generator) &&
+				   Objects.equals(this.recording(), that.recording());
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(generator, recording());
+	}
+
+}
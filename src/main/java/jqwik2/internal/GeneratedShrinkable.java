@@ -11,12 +11,13 @@ public final class GeneratedShrinkable<T> implements Shrinkable<T> {
 	private final T value;
 	private final Generator<T> generator;
 	private final GenRecorder recorder;
+	private volatile Recording frozenRecording = null;
 
 	public GeneratedShrinkable(T value, Generator<T> generator, GenRecorder recorder) {
 		this.value = value;
 		this.generator = generator;
 		// Store recorder instead of recording since some (stateful) properties
-		// change the recording while running
+		// change the recording while running. The recording is frozen when the try ends.
 		this.recorder = recorder;
 	}
 
@@ -48,9 +49,20 @@ public final class GeneratedShrinkable<T> implements Shrinkable<T> {
 
 	@Override
 	public Recording recording() {
+		Recording frozen = frozenRecording;
+		if (frozen != null) {
+			return frozen;
+		}
 		return recorder.recording();
 	}
 
+	@Override
+	public void freezeRecording() {
+		if (frozenRecording == null) {
+			frozenRecording = recorder.recording();
+		}
+	}
+
 	@Override
 	public int compareTo(Shrinkable<T> o) {
 		return this.recording().compareTo(o.recording());
@@ -18,10 +18,9 @@ public class InMainThreadRunner implements TaskRunner {
 	@SuppressWarnings("OverlyLongMethod")
 	public void run(Iterator<ConcurrentRunner.Task> taskIterator) throws TimeoutException {
 
-		Timer timer = new Timer();
 		AtomicBoolean timeoutOccurred = new AtomicBoolean(false);
 		AtomicBoolean stopped = new AtomicBoolean(false);
-		scheduleTimeoutTask(timer, timeoutOccurred, stopped, Thread.currentThread());
+		Deadlines.Deadline deadline = scheduleTimeout(timeoutOccurred, stopped, Thread.currentThread());
 
 		try {
 			ConcurrentRunner.Shutdown shutdown = () -> stopped.set(true);
@@ -36,22 +35,16 @@ public class InMainThreadRunner implements TaskRunner {
 		} catch (Throwable throwable) {
 			ExceptionSupport.throwAsUnchecked(throwable);
 		} finally {
-			timer.cancel();
+			deadline.cancel();
 		}
 	}
 
-	private void scheduleTimeoutTask(Timer timer, AtomicBoolean timeoutOccurred, AtomicBoolean stopped, Thread mainThread) {
-		if (maxRuntime.isZero()) {
-			return;
-		}
-		timer.schedule(new TimerTask() {
-			@Override
-			public void run() {
-				timeoutOccurred.set(true);
-				stopped.set(true);
-				mainThread.interrupt();
-			}
-		}, maxRuntime.toMillis());
+	private Deadlines.Deadline scheduleTimeout(AtomicBoolean timeoutOccurred, AtomicBoolean stopped, Thread mainThread) {
+		return Deadlines.schedule(maxRuntime, () -> {
+			timeoutOccurred.set(true);
+			stopped.set(true);
+			mainThread.interrupt();
+		});
 	}
 
 }
@@ -0,0 +1,69 @@
+package jqwik2.internal;
+
+import java.util.function.*;
+
+import jqwik2.api.*;
+
+/**
+ * Samples a continuous distribution on [0, 1) by linear interpolation in a precomputed table
+ * of its inverse cumulative distribution function.
+ *
+ * <p>A draw takes a single random double and no transcendental math or rejection loop.</p>
+ */
+class InverseCdfTable {
+
+	static final int SIZE = 4096;
+
+	private final double[] quantiles;
+
+	/**
+	 * @param inverseCdf Maps a probability in [0, 1] to a value in [0, 1]. Must be monotonically increasing.
+	 */
+	InverseCdfTable(DoubleUnaryOperator inverseCdf) {
+		this.quantiles = new double[SIZE + 1];
+		for (int i = 0; i <= SIZE; i++) {
+			quantiles[i] = inverseCdf.applyAsDouble((double) i / SIZE);
+		}
+		quantiles[SIZE] = 1.0;
+	}
+
+	/**
+	 * Build table from a density function on [0, 1] that does not have to be normalized.
+	 */
+	static InverseCdfTable fromDensity(DoubleUnaryOperator density) {
+		int steps = SIZE * 16;
+		double[] cdf = new double[steps + 1];
+		double previous = density.applyAsDouble(0.0);
+		for (int i = 1; i <= steps; i++) {
+			double current = density.applyAsDouble((double) i / steps);
+			cdf[i] = cdf[i - 1] + (previous + current) / 2;
+			previous = current;
+		}
+		double total = cdf[steps];
+		return new InverseCdfTable(probability -> {
+			double target = probability * total;
+			int low = 0;
+			int high = steps;
+			while (high - low > 1) {
+				int middle = (low + high) >>> 1;
+				if (cdf[middle] < target) {
+					low = middle;
+				} else {
+					high = middle;
+				}
+			}
+			double cellMass = cdf[high] - cdf[low];
+			double fraction = cellMass == 0 ? 0 : (target - cdf[low]) / cellMass;
+			return (low + fraction) / steps;
+		});
+	}
+
+	int nextInt(RandomChoice random, int maxExcluded) {
+		double x = random.nextDouble() * SIZE;
+		int index = (int) x;
+		double lower = quantiles[index];
+		double value = lower + (x - index) * (quantiles[index + 1] - lower);
+		// Rounding can push value to exactly 1.0
+		return (int) Math.min((long) (value * maxExcluded), maxExcluded - 1);
+	}
+}
@@ -0,0 +1,40 @@
+package jqwik2.internal;
+
+import java.util.random.*;
+
+import jqwik2.api.*;
+
+/**
+ * Uses the JDK's L64X128MixRandom algorithm, which is designed to create
+ * statistically independent generators when splitting.
+ */
+public class L64X128MixRandomChoice extends AbstractRandomChoice {
+
+	private static final RandomGeneratorFactory<RandomGenerator.SplittableGenerator> FACTORY =
+		RandomGeneratorFactory.of("L64X128MixRandom");
+
+	private final RandomGenerator.SplittableGenerator random;
+
+	public L64X128MixRandomChoice(String seed) {
+		this(seed, FACTORY.create(parseSeed(seed)));
+	}
+
+	public L64X128MixRandomChoice(long seed) {
+		this(null, FACTORY.create(seed));
+	}
+
+	private L64X128MixRandomChoice(String seed, RandomGenerator.SplittableGenerator random) {
+		super(seed);
+		this.random = random;
+	}
+
+	@Override
+	public long nextLong() {
+		return random.nextLong();
+	}
+
+	@Override
+	public RandomChoice split() {
+		return new L64X128MixRandomChoice(null, random.split());
+	}
+}
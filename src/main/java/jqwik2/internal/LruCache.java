@@ -0,0 +1,68 @@
+package jqwik2.internal;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A thread-safe cache with a maximum size.
+ * The least recently used entry is evicted when the cache is full.
+ */
+public class LruCache<K, V> {
+
+	public record Statistics(long hits, long misses, long evictions) {
+		@Override
+		public String toString() {
+			return "%d hits, %d misses, %d evictions".formatted(hits, misses, evictions);
+		}
+	}
+
+	private final Map<K, V> entries;
+	private long hits = 0;
+	private long misses = 0;
+	private long evictions = 0;
+
+	public LruCache(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("maxSize must not be negative");
+		}
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				if (size() > maxSize) {
+					evictions++;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * The value is computed outside the lock so that computing may use other caches.
+	 * Concurrent misses for the same key can compute the value more than once,
+	 * but all callers get the value that was cached first.
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> compute) {
+		synchronized (this) {
+			V cached = entries.get(key);
+			if (cached != null) {
+				hits++;
+				return cached;
+			}
+			misses++;
+		}
+		V computed = compute.apply(key);
+		synchronized (this) {
+			V cached = entries.putIfAbsent(key, computed);
+			return cached != null ? cached : computed;
+		}
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	public synchronized Statistics statistics() {
+		return new Statistics(hits, misses, evictions);
+	}
+}
@@ -31,6 +31,12 @@ public interface PropertyRunConfiguration {
 
 	boolean shrinkingEnabled();
 
+	/**
+	 * Whether shrinking candidates should be tried concurrently.
+	 * Only relevant if shrinking is enabled.
+	 */
+	boolean parallelShrinking();
+
 	IterableSampleSource source();
 
 	boolean filterOutDuplicateSamples();
@@ -57,13 +63,27 @@ public interface PropertyRunConfiguration {
 		String seed, int maxTries, Duration maxRuntime,
 		boolean shrinkingEnabled, boolean filterOutDuplicateSamples,
 		Supplier<ExecutorService> supplyExecutorService
+	) {
+		return randomized(
+			seed, maxTries, maxRuntime,
+			shrinkingEnabled, filterOutDuplicateSamples,
+			supplyExecutorService,
+			JqwikDefaults.defaultRandomEngine()
+		);
+	}
+
+	static PropertyRunConfiguration randomized(
+		String seed, int maxTries, Duration maxRuntime,
+		boolean shrinkingEnabled, boolean filterOutDuplicateSamples,
+		Supplier<ExecutorService> supplyExecutorService,
+		RandomChoice.Engine randomEngine
 	) {
 		return record(
 			seed, maxTries,
 			maxRuntime, shrinkingEnabled,
 			filterOutDuplicateSamples,
 			supplyExecutorService,
-			() -> new RandomGenSource(seed)
+			() -> randomEngine.samples(seed)
 		);
 	}
 
@@ -106,12 +126,24 @@ public interface PropertyRunConfiguration {
 		return new RunConfigurationRecord(
 			configuration.effectiveSeed().orElse(null),
 			configuration.maxTries(), configuration.maxRuntime(),
-			configuration.shrinkingEnabled(), configuration.filterOutDuplicateSamples(),
+			configuration.shrinkingEnabled(), configuration.parallelShrinking(),
+			configuration.filterOutDuplicateSamples(),
 			configuration.supplyExecutorService(),
 			() -> sourceWrapper.apply(configuration.source())
 		);
 	}
 
+	static PropertyRunConfiguration withParallelShrinking(PropertyRunConfiguration configuration) {
+		return new RunConfigurationRecord(
+			configuration.effectiveSeed().orElse(null),
+			configuration.maxTries(), configuration.maxRuntime(),
+			configuration.shrinkingEnabled(), true,
+			configuration.filterOutDuplicateSamples(),
+			configuration.supplyExecutorService(),
+			configuration::source
+		);
+	}
+
 	static PropertyRunConfiguration growing(
 		int maxTries, boolean shrinkingEnabled, Duration maxRuntime
 	) {
@@ -168,6 +200,24 @@ public interface PropertyRunConfiguration {
 		Supplier<ExecutorService> supplyExecutorService,
 		List<Generator<?>> generators,
 		ReportSection parametersReport
+	) {
+		return smart(
+			seed, maxTries, maxRuntime,
+			shrinkingEnabled, filterOutDuplicateSamples,
+			supplyExecutorService,
+			JqwikDefaults.defaultRandomEngine(),
+			generators,
+			parametersReport
+		);
+	}
+
+	static PropertyRunConfiguration smart(
+		String seed, int maxTries, Duration maxRuntime,
+		boolean shrinkingEnabled, boolean filterOutDuplicateSamples,
+		Supplier<ExecutorService> supplyExecutorService,
+		RandomChoice.Engine randomEngine,
+		List<Generator<?>> generators,
+		ReportSection parametersReport
 	) {
 		var exhaustive = IterableExhaustiveSource.from(generators);
 		if (exhaustive.isEmpty() || exhaustive.get().maxCount() > maxTries) {
@@ -175,7 +225,8 @@ public interface PropertyRunConfiguration {
 			return randomized(
 				seed, maxTries,
 				maxRuntime, shrinkingEnabled, filterOutDuplicateSamples,
-				supplyExecutorService
+				supplyExecutorService,
+				randomEngine
 			);
 		}
 		addSmartGenerationReport(EXHAUSTIVE, parametersReport);
@@ -5,6 +5,7 @@ import java.util.*;
 import jqwik2.api.*;
 import jqwik2.api.support.*;
 import jqwik2.api.validation.*;
+import jqwik2.internal.shrinking.*;
 import org.opentest4j.*;
 
 public record PropertyRunResult(
@@ -12,9 +13,24 @@ public record PropertyRunResult(
 	SortedSet<FalsifiedSample> falsifiedSamples,
 	Optional<Throwable> failureReason, // Can be overridden e.g. by guided generation
 	Optional<Throwable> abortionReason,
-	boolean timedOut
+	boolean timedOut,
+	Optional<TryResultCache.Statistics> shrinkingCacheStatistics
 ) {
 
+	public PropertyRunResult(
+		PropertyValidationStatus status, int countTries, int countChecks,
+		SortedSet<FalsifiedSample> falsifiedSamples,
+		Optional<Throwable> failureReason,
+		Optional<Throwable> abortionReason,
+		boolean timedOut
+	) {
+		this(
+			status, countTries, countChecks,
+			falsifiedSamples, failureReason, abortionReason,
+			timedOut, Optional.empty()
+		);
+	}
+
 	public PropertyRunResult(
 		PropertyValidationStatus status,
 		int countTries,
@@ -64,7 +80,8 @@ public record PropertyRunResult(
 	public PropertyRunResult withStatus(PropertyValidationStatus changedStatus) {
 		return new PropertyRunResult(
 			changedStatus, countTries, countChecks,
-			falsifiedSamples, failureReason, abortionReason, timedOut
+			falsifiedSamples, failureReason, abortionReason,
+			timedOut, shrinkingCacheStatistics
 		);
 	}
 
@@ -74,7 +91,8 @@ public record PropertyRunResult(
 										: failureReason;
 		return new PropertyRunResult(
 			status, countTries, countChecks,
-			falsifiedSamples, modifiedFailureReason, abortionReason, timedOut
+			falsifiedSamples, modifiedFailureReason, abortionReason,
+			timedOut, shrinkingCacheStatistics
 		);
 	}
 
@@ -87,7 +105,7 @@ public record PropertyRunResult(
 			if (!falsifiedSamples.isEmpty()) {
 				var falsifiedSample = falsifiedSamples.first();
 				falsifiedSample.thrown().ifPresent(ExceptionSupport::throwAsUnchecked);
-				var message = "Property check failed with sample {%s}".formatted(falsifiedSample.sample().values());
+				var message = "Property check failed with sample {%s}".formatted(falsifiedSample.sample().valuesToString());
 				var propertyCheckFailed = new AssertionFailedError(message);
 				ExceptionSupport.throwAsUnchecked(propertyCheckFailed);
 			}
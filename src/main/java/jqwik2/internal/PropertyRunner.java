@@ -17,6 +17,7 @@ public class PropertyRunner {
 	private final List<Generator<?>> generators;
 	private final Tryable tryable;
 	private final List<BiConsumer<TryExecutionResult,Sample>> tryExecutionListeners = new ArrayList<>();
+	private final List<Runnable> generationFinishedListeners = new ArrayList<>();
 
 	public PropertyRunner(List<Generator<?>> generators, Tryable tryable) {
 		this.generators = generators;
@@ -34,6 +35,18 @@ public class PropertyRunner {
 		tryExecutionListeners.add(listener);
 	}
 
+	/**
+	 * Register a listener that will be called after all tries have been generated and executed,
+	 * before shrinking starts.
+	 * @param listener called once per run in the thread that runs the property
+	 */
+	public void registerGenerationFinishedListener(Runnable listener) {
+		if (listener == null || generationFinishedListeners.contains(listener)) {
+			return;
+		}
+		generationFinishedListeners.add(listener);
+	}
+
 	private void sampleExecuted(TryExecutionResult result, Sample sample) {
 		tryExecutionListeners.forEach(listener -> listener.accept(result, sample));
 	}
@@ -66,7 +79,8 @@ public class PropertyRunner {
 			iterableGenSource,
 			configuration.maxTries(), configuration.maxRuntime(),
 			configuration.shrinkingEnabled(), configuration.filterOutDuplicateSamples(),
-			configuration.executorService()
+			configuration.executorService(),
+			shrinkingExecutorService(configuration)
 		);
 	}
 
@@ -75,7 +89,8 @@ public class PropertyRunner {
 		IterableSampleSource iterableGenSource,
 		int maxTries, Duration maxDuration,
 		boolean shrinkingEnabled, boolean filterOutDuplicateSamples,
-		Optional<ExecutorService> optionalExecutorService
+		Optional<ExecutorService> optionalExecutorService,
+		Supplier<Optional<ExecutorService>> shrinkingExecutorService
 	) {
 		var genericGenerators = generators.stream().map(Generator::asGeneric).toList();
 		SampleGenerator sampleGenerator = new SampleGenerator(genericGenerators);
@@ -90,13 +105,15 @@ public class PropertyRunner {
 				countTries, countChecks,
 				maxDuration, optionalExecutorService
 			);
+			generationFinishedListeners.forEach(Runnable::run);
 
 			boolean timedOut = collectedRunResults.second();
 			Guidance guidance = collectedRunResults.third();
 
 			PropertyRunResult runResult = shrinkAndCreateResult(
 					countChecks, countTries, maxDuration,
-					collectedRunResults.first(), shrinkingEnabled, timedOut
+					collectedRunResults.first(), shrinkingEnabled, timedOut,
+					shrinkingExecutorService
 			);
 
 			return runResult.withGuidance(guidance);
@@ -111,7 +128,7 @@ public class PropertyRunner {
 	private PropertyRunResult shrinkAndCreateResult(
 		AtomicInteger countChecks, AtomicInteger countTries, Duration maxDuration,
 		SortedSet<FalsifiedSample> falsifiedSamples, boolean shrinkingEnabled,
-		boolean timedOut
+		boolean timedOut, Supplier<Optional<ExecutorService>> shrinkingExecutorService
 	) {
 		if (falsifiedSamples.isEmpty()) {
 			if (hasTimedOutWithoutCheck(timedOut, countChecks)) {
@@ -121,9 +138,10 @@ public class PropertyRunner {
 		} else {
 			FalsifiedSample originalSample = falsifiedSamples.first();
 			if (shrinkingEnabled) {
-				shrink(originalSample, falsifiedSamples);
+				var cacheStatistics = shrink(originalSample, falsifiedSamples, shrinkingExecutorService);
+				return failure(countTries, countChecks, falsifiedSamples, timedOut, Optional.of(cacheStatistics));
 			}
-			return failure(countTries, countChecks, falsifiedSamples, timedOut);
+			return failure(countTries, countChecks, falsifiedSamples, timedOut, Optional.empty());
 		}
 	}
 
@@ -143,11 +161,13 @@ public class PropertyRunner {
 		AtomicInteger countTries,
 		AtomicInteger countChecks,
 		SortedSet<FalsifiedSample> falsifiedSamples,
-		boolean timedOut
+		boolean timedOut,
+		Optional<TryResultCache.Statistics> shrinkingCacheStatistics
 	) {
 		return new PropertyRunResult(
 			FAILED, countTries.get(), countChecks.get(),
-			falsifiedSamples, Optional.empty(), Optional.empty(), timedOut
+			falsifiedSamples, Optional.empty(), Optional.empty(),
+			timedOut, shrinkingCacheStatistics
 		);
 	}
 
@@ -210,13 +230,24 @@ public class PropertyRunner {
 			}
 		};
 
+		// Thread safe sources without guidance need no coordination during generation,
+		// so generation can move from the submitting thread into the tasks.
+		// Filtering out duplicates requires all samples to be generated in order, though.
+		boolean generateInTasks = iterableGenSource.isThreadSafe()
+									  && guidance == Guidance.NULL
+									  && !sampleGenerator.filtersOutDuplicates();
+
 		var taskIterator = new ConcurrentTaskIterator(
 			genSources, maxTries, sampleGenerator, countTries, guidance, generationLock,
-			(sample, shutdown) -> executeTry(
-				sample, countChecks,
-				iterableGenSource.stopWhenFalsified(),
-				onFalsified, guide, shutdown
-			)
+			generateInTasks,
+			(sample, tryIndex, shutdown) -> {
+				executeTry(
+					sample, tryIndex, countChecks,
+					iterableGenSource.stopWhenFalsified(),
+					onFalsified, guide, shutdown
+				);
+				sampleGenerator.tryFinished(sample);
+			}
 		);
 
 		try {
@@ -229,19 +260,20 @@ public class PropertyRunner {
 	}
 
 	private void executeTry(
-		Sample sample, AtomicInteger countChecks,
+		Sample sample, OptionalLong tryIndex, AtomicInteger countChecks,
 		boolean stopWhenFalsified,
 		Consumer<FalsifiedSample> onFalsified,
 		BiConsumer<TryExecutionResult, Sample> guide,
 		TaskRunner.Shutdown shutdownAndStop
 	) {
 		TryExecutionResult tryResult = tryable.apply(sample);
+		sample.freezeRecordings();
 		guide.accept(tryResult, sample);
 		if (tryResult.status() != TryExecutionResult.Status.INVALID) {
 			countChecks.incrementAndGet();
 		}
 		if (tryResult.status() == TryExecutionResult.Status.FALSIFIED) {
-			FalsifiedSample originalSample = FalsifiedSample.original(sample, tryResult.throwable());
+			FalsifiedSample originalSample = FalsifiedSample.original(sample, tryResult.throwable(), tryIndex);
 			onFalsified.accept(originalSample);
 			if (stopWhenFalsified) {
 				shutdownAndStop.shutdown();
@@ -254,10 +286,39 @@ public class PropertyRunner {
 		return configuration.source();
 	}
 
-	private void shrink(FalsifiedSample originalSample, Collection<FalsifiedSample> falsifiedSamples) {
-		FullShrinker fullShrinker = new FullShrinker(originalSample, tryable, this::sampleExecuted);
-		FalsifiedSample best = fullShrinker.shrinkToEnd(ignore -> {});
-		falsifiedSamples.add(best);
+	private static Supplier<Optional<ExecutorService>> shrinkingExecutorService(PropertyRunConfiguration configuration) {
+		if (!configuration.parallelShrinking()) {
+			return Optional::empty;
+		}
+		// Parallel shrinking without a configured executor service borrows threads that all runs share
+		return () -> configuration.executorService().or(ShrinkingThreads::borrow);
+	}
+
+	private TryResultCache.Statistics shrink(
+		FalsifiedSample originalSample,
+		Collection<FalsifiedSample> falsifiedSamples,
+		Supplier<Optional<ExecutorService>> shrinkingExecutorService
+	) {
+		Optional<ExecutorService> optionalExecutorService = shrinkingExecutorService.get();
+		try {
+			FullShrinker fullShrinker = new FullShrinker(
+				originalSample, tryable, this::sampleExecuted,
+				optionalExecutorService.orElse(null)
+			);
+			FalsifiedSample best = fullShrinker.shrinkToEnd(ignore -> {});
+			falsifiedSamples.add(best);
+			return fullShrinker.cacheStatistics();
+		} finally {
+			optionalExecutorService.ifPresent(ExecutorService::shutdownNow);
+		}
+	}
+
+	@FunctionalInterface
+	private interface TryTask {
+		/**
+		 * @param tryIndex the index of the try within the run, if the sample source can tell
+		 */
+		void run(Sample sample, OptionalLong tryIndex, TaskRunner.Shutdown shutdown);
 	}
 
 	private static class ConcurrentTaskIterator implements Iterator<ConcurrentRunner.Task> {
@@ -267,7 +328,12 @@ public class PropertyRunner {
 		private final AtomicInteger countTries;
 		private final Guidance guidance;
 		private final Lock generationLock;
-		private final BiConsumer<Sample, TaskRunner.Shutdown> task;
+		private final boolean generateInTasks;
+		private final TryTask task;
+
+		// Tries submitted for generation in tasks whose sample has not been generated yet
+		private final AtomicInteger pendingTries = new AtomicInteger(0);
+		private final Object pendingTriesMonitor = new Object();
 
 		private volatile boolean stopped = false;
 
@@ -278,7 +344,8 @@ public class PropertyRunner {
 			AtomicInteger countTries,
 			Guidance guidance,
 			Lock generationLock,
-			BiConsumer<Sample, TaskRunner.Shutdown> task
+			boolean generateInTasks,
+			TryTask task
 		) {
 			this.genSources = genSources;
 			this.maxTries = maxTries;
@@ -286,15 +353,43 @@ public class PropertyRunner {
 			this.countTries = countTries;
 			this.guidance = guidance;
 			this.generationLock = generationLock;
+			this.generateInTasks = generateInTasks;
 			this.task = task;
 		}
 
 		@Override
 		public boolean hasNext() {
-			if (stopped) {
+			if (!generateInTasks || maxTries == 0) {
+				return !stopped && genSources.hasNext() && maxTriesNotReached();
+			}
+			// Pending tries can still turn out empty and must then be replaced
+			awaitPendingTries();
+			if (stopped || !maxTriesNotReached()) {
 				return false;
 			}
-			return genSources.hasNext() && maxTriesNotReached();
+			return genSources.hasNext();
+		}
+
+		/**
+		 * Waits until a pending try has been resolved, i.e. its task has generated a sample or has been cancelled.
+		 */
+		private void awaitPendingTries() {
+			synchronized (pendingTriesMonitor) {
+				try {
+					while (!stopped && maxTriesNotReached() && countTries.get() + pendingTries.get() >= maxTries) {
+						pendingTriesMonitor.wait();
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					stopped = true;
+				}
+			}
+		}
+
+		private void notifyPendingTriesWaiters() {
+			synchronized (pendingTriesMonitor) {
+				pendingTriesMonitor.notifyAll();
+			}
 		}
 
 		private boolean maxTriesNotReached() {
@@ -303,10 +398,15 @@ public class PropertyRunner {
 
 		@Override
 		public ConcurrentRunner.Task next() {
+			if (generateInTasks) {
+				return generateInTask();
+			}
 			Optional<Sample> optionalSample;
+			OptionalLong tryIndex;
 			try {
 				generationLock.lock();
 				SampleSource trySource = genSources.next();
+				tryIndex = tryIndex(trySource);
 				optionalSample = sampleGenerator.generate(trySource);
 				optionalSample.ifPresentOrElse(
 					sample -> countTries.incrementAndGet(),
@@ -316,20 +416,75 @@ public class PropertyRunner {
 				generationLock.unlock();
 			}
 
-			return shutdown -> {
-				TaskRunner.Shutdown shutdownAndStop = () -> {
-					shutdown.shutdown();
-					stopped = true;
-					try {
-						generationLock.lock();
-						guidance.stop();
-					} finally {
-						generationLock.unlock();
-					}
-				};
-				optionalSample.ifPresent(
-					sample -> task.accept(sample, shutdownAndStop)
-				);
+			return shutdown -> optionalSample.ifPresent(
+				sample -> task.run(sample, tryIndex, shutdownAndStop(shutdown))
+			);
+		}
+
+		private static OptionalLong tryIndex(SampleSource trySource) {
+			if (trySource instanceof CounterBasedRandomSource.TrySource counterBased) {
+				return OptionalLong.of(counterBased.tryIndex());
+			}
+			return OptionalLong.empty();
+		}
+
+		private ConcurrentRunner.Task generateInTask() {
+			// Gen sources are split off in the submitting thread.
+			// Thereby each try gets the same random stream regardless of the worker it runs on.
+			SampleSource trySource = genSources.next();
+			List<GenSource> trySources = trySource.sources(sampleGenerator.countGenerators());
+			// A try is only counted once its sample exists. Until then it is pending,
+			// so that no more than maxTries tries are submitted and empty ones are replaced.
+			pendingTries.incrementAndGet();
+			AtomicBoolean resolved = new AtomicBoolean(false);
+			return new ConcurrentRunner.Task() {
+				@Override
+				public void run(TaskRunner.Shutdown shutdown) {
+					Optional<Sample> optionalSample = sampleGenerator.generate(trySources);
+					// Count before resolving, so that counted and pending tries together never drop below maxTries too early
+					optionalSample.ifPresent(sample -> countTries.incrementAndGet());
+					resolvePendingTry(resolved);
+					optionalSample.ifPresentOrElse(
+						sample -> task.run(sample, tryIndex(trySource), shutdownAndStop(shutdown)),
+						() -> emptyGeneration(trySource)
+					);
+				}
+
+				@Override
+				public void cancelled() {
+					resolvePendingTry(resolved);
+				}
+			};
+		}
+
+		private void resolvePendingTry(AtomicBoolean resolved) {
+			if (!resolved.compareAndSet(false, true)) {
+				return;
+			}
+			pendingTries.decrementAndGet();
+			notifyPendingTriesWaiters();
+		}
+
+		private void emptyGeneration(SampleSource trySource) {
+			try {
+				generationLock.lock();
+				guidance.onEmptyGeneration(trySource);
+			} finally {
+				generationLock.unlock();
+			}
+		}
+
+		private TaskRunner.Shutdown shutdownAndStop(TaskRunner.Shutdown shutdown) {
+			return () -> {
+				shutdown.shutdown();
+				stopped = true;
+				notifyPendingTriesWaiters();
+				try {
+					generationLock.lock();
+					guidance.stop();
+				} finally {
+					generationLock.unlock();
+				}
 			};
 		}
 	}
@@ -38,6 +38,11 @@ public final class RandomGenSource implements IterableSampleSource, GenSource, G
 		return random.nextInt(maxExcluded, distribution);
 	}
 
+	@Override
+	public long chooseLong(long maxExcluded) {
+		return random.nextLong(maxExcluded);
+	}
+
 	@Override
 	public Choice choice() {
 		return trySwitchTo(Choice.class);
@@ -106,10 +111,8 @@ public final class RandomGenSource implements IterableSampleSource, GenSource, G
 	 *
 	 * <p>This choice will not be recorded!</p>
 	 */
-	public Recording chooseOne(Collection<Recording> edgeCases) {
-		ArrayList<Recording> values = new ArrayList<>(edgeCases);
-		int choice = random.nextInt(edgeCases.size());
-		return values.get(choice);
+	public Recording chooseOne(java.util.List<Recording> edgeCases) {
+		return edgeCases.get(random.nextInt(edgeCases.size()));
 	}
 
 	@Override
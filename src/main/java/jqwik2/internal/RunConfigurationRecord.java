@@ -9,11 +9,26 @@ import jqwik2.api.*;
 
 record RunConfigurationRecord(
 	String seed, int maxTries, Duration maxRuntime,
-	boolean shrinkingEnabled, boolean filterOutDuplicateSamples,
+	boolean shrinkingEnabled, boolean parallelShrinking,
+	boolean filterOutDuplicateSamples,
 	Supplier<ExecutorService> supplyExecutorService,
 	Supplier<IterableSampleSource> supplySource
 ) implements PropertyRunConfiguration {
 
+	RunConfigurationRecord(
+		String seed, int maxTries, Duration maxRuntime,
+		boolean shrinkingEnabled, boolean filterOutDuplicateSamples,
+		Supplier<ExecutorService> supplyExecutorService,
+		Supplier<IterableSampleSource> supplySource
+	) {
+		this(
+			seed, maxTries, maxRuntime,
+			shrinkingEnabled, false,
+			filterOutDuplicateSamples,
+			supplyExecutorService, supplySource
+		);
+	}
+
 	RunConfigurationRecord {
 		if (maxTries < 0) {
 			throw new IllegalArgumentException("maxTries must not be negative");
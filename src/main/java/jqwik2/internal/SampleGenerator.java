@@ -4,6 +4,7 @@ import java.util.*;
 import java.util.concurrent.atomic.*;
 
 import jqwik2.api.*;
+import jqwik2.api.recording.*;
 
 public class SampleGenerator {
 
@@ -14,7 +15,10 @@ public class SampleGenerator {
 	}
 
 	private final List<Generator<Object>> generators;
-	private final Set<Sample> generatedSamples = new HashSet<>();
+	// Recordings are snapshots; the recordings of samples with lazily generated values grow during a try
+	private final Set<SampleRecording> generatedSamples = new HashSet<>();
+	// Recordings at generation of samples whose try has not finished yet
+	private final Map<Sample, SampleRecording> untriedSamples = new IdentityHashMap<>();
 	private final AtomicInteger countDuplicates = new AtomicInteger(0);
 	private boolean filterOutDuplicates = false;
 
@@ -34,19 +38,52 @@ public class SampleGenerator {
 				return Optional.empty();
 			}
 			var sample = new Sample(shrinkables);
-			if (filterOutDuplicates) {
-				if (generatedSamples.contains(sample)) {
-					countDuplicates.incrementAndGet();
-					if (countDuplicates.get() > MAX_DUPLICATE_SAMPLES) {
-						throw new CannotGenerateException("Too many (%s) duplicate samples".formatted(MAX_DUPLICATE_SAMPLES));
-					}
-					return Optional.empty();
+			if (filterOutDuplicates && isDuplicate(sample)) {
+				countDuplicates.incrementAndGet();
+				if (countDuplicates.get() > MAX_DUPLICATE_SAMPLES) {
+					throw new CannotGenerateException("Too many (%s) duplicate samples".formatted(MAX_DUPLICATE_SAMPLES));
 				}
-				generatedSamples.add(sample);
+				return Optional.empty();
 			}
 			return Optional.of(sample);
 	}
 
+	private boolean isDuplicate(Sample sample) {
+		SampleRecording recording = sample.recording();
+		synchronized (generatedSamples) {
+			if (!generatedSamples.add(recording)) {
+				return true;
+			}
+			untriedSamples.put(sample, recording);
+			return false;
+		}
+	}
+
+	/**
+	 * Must be called with a sample from this generator when its try has ended and its recordings are frozen.
+	 *
+	 * <p>A sample with lazily generated values, e.g. a lazy list, only records what has been accessed during the try.
+	 * Its recording at generation is therefore replaced by the final one.
+	 * Such a sample is only filtered out as duplicate if an earlier try with the same recording
+	 * did not access any lazily generated value.</p>
+	 */
+	public void tryFinished(Sample sample) {
+		if (!filterOutDuplicates) {
+			return;
+		}
+		synchronized (generatedSamples) {
+			SampleRecording atGeneration = untriedSamples.remove(sample);
+			if (atGeneration == null) {
+				return;
+			}
+			SampleRecording afterTry = sample.recording();
+			if (!afterTry.equals(atGeneration)) {
+				generatedSamples.remove(atGeneration);
+				generatedSamples.add(afterTry);
+			}
+		}
+	}
+
 	private static List<Generator<Object>> toObjectGenerators(List<Generator<?>> generators) {
 		return generators.stream()
 						 .map(Generator::asGeneric)
@@ -61,6 +98,14 @@ public class SampleGenerator {
 		return generate(SampleSource.of(sources));
 	}
 
+	public int countGenerators() {
+		return generators.size();
+	}
+
+	public boolean filtersOutDuplicates() {
+		return filterOutDuplicates;
+	}
+
 	public void filterOutDuplicates(boolean filterOutDuplicates) {
 		this.filterOutDuplicates = filterOutDuplicates;
 	}
@@ -0,0 +1,64 @@
+package jqwik2.internal;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * A thread-safe cache with a maximum size that is split into segments by the hash of the keys.
+ *
+ * <p>Each segment is an {@link LruCache} with its own lock,
+ * so that concurrent lookups of different keys rarely wait for each other.
+ * The least recently used entry of a key's segment is evicted,
+ * which approximates evicting the least recently used entry of the whole cache.</p>
+ */
+public class SegmentedLruCache<K, V> {
+
+	private static final int MAX_SEGMENTS = 16;
+
+	private final List<LruCache<K, V>> segments;
+
+	public SegmentedLruCache(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("maxSize must not be negative");
+		}
+		// Every segment must be able to hold at least one entry
+		int count = Math.clamp(maxSize, 1, MAX_SEGMENTS);
+		List<LruCache<K, V>> segments = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int segmentSize = maxSize / count + (i < maxSize % count ? 1 : 0);
+			segments.add(new LruCache<>(segmentSize));
+		}
+		this.segments = List.copyOf(segments);
+	}
+
+	/**
+	 * See {@link LruCache#computeIfAbsent(Object, Function)}.
+	 */
+	public V computeIfAbsent(K key, Function<? super K, ? extends V> compute) {
+		return segment(key).computeIfAbsent(key, compute);
+	}
+
+	private LruCache<K, V> segment(K key) {
+		int hash = Objects.hashCode(key);
+		// Spread high bits, since many hash codes only differ there
+		hash ^= hash >>> 16;
+		return segments.get(Math.floorMod(hash, segments.size()));
+	}
+
+	public int size() {
+		return segments.stream().mapToInt(LruCache::size).sum();
+	}
+
+	public LruCache.Statistics statistics() {
+		long hits = 0;
+		long misses = 0;
+		long evictions = 0;
+		for (LruCache<K, V> segment : segments) {
+			LruCache.Statistics statistics = segment.statistics();
+			hits += statistics.hits();
+			misses += statistics.misses();
+			evictions += statistics.evictions();
+		}
+		return new LruCache.Statistics(hits, misses, evictions);
+	}
+}
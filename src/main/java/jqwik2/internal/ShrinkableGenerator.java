@@ -10,8 +10,13 @@ public class ShrinkableGenerator<T> {
 		this.generator = generator;
 	}
 
+	@SuppressWarnings("unchecked")
 	public Shrinkable<T> generate(GenSource source) {
 		GenRecorder recorder = new GenRecorder(source);
+		if (generator instanceof IntGenerator intGenerator) {
+			int value = intGenerator.generateInt(recorder);
+			return (Shrinkable<T>) new GeneratedIntShrinkable(value, intGenerator, recorder);
+		}
 		T value = generator.generate(recorder);
 		return new GeneratedShrinkable<>(value, generator, recorder);
 	}
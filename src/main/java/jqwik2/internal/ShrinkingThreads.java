@@ -0,0 +1,53 @@
+package jqwik2.internal;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Threads for parallel shrinking if no executor service has been configured.
+ *
+ * <p>All runs borrow the threads of one shared pool instead of starting and stopping a pool for each shrinking.
+ * Idle threads time out, so that no threads are kept between failing properties.</p>
+ */
+final class ShrinkingThreads {
+
+	private static final ThreadPoolExecutor POOL = createPool();
+
+	private ShrinkingThreads() {}
+
+	private static ThreadPoolExecutor createPool() {
+		int size = Runtime.getRuntime().availableProcessors();
+		AtomicInteger count = new AtomicInteger(0);
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new ShrinkingThread(runnable, "jqwik-shrinking-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(
+			size, size, 10, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(), threadFactory
+		);
+		pool.allowCoreThreadTimeOut(true);
+		return pool;
+	}
+
+	/**
+	 * The returned executor service must be shut down after shrinking, which leaves the shared pool running.
+	 *
+	 * @return empty if called from a shrinking thread, e.g. by a property that is checked within another property's shrinking.
+	 * Waiting for the pool from its own threads could block all of them.
+	 */
+	static Optional<ExecutorService> borrow() {
+		if (Thread.currentThread() instanceof ShrinkingThread) {
+			return Optional.empty();
+		}
+		return Optional.of(new BorrowedExecutorService(POOL));
+	}
+
+	private static class ShrinkingThread extends Thread {
+		private ShrinkingThread(Runnable runnable, String name) {
+			super(runnable, name);
+		}
+	}
+}
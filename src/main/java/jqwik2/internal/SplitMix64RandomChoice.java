@@ -0,0 +1,38 @@
+package jqwik2.internal;
+
+import jqwik2.api.*;
+
+/**
+ * SplitMix64 adds a constant to its single word of state and mixes the result.
+ *
+ * <p>See <a href="https://prng.di.unimi.it/splitmix64.c">splitmix64.c</a></p>
+ */
+public class SplitMix64RandomChoice extends AbstractRandomChoice {
+
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private long state;
+
+	public SplitMix64RandomChoice(String seed) {
+		this(seed, parseSeed(seed));
+	}
+
+	public SplitMix64RandomChoice(long seed) {
+		this(null, seed);
+	}
+
+	private SplitMix64RandomChoice(String seed, long state) {
+		super(seed);
+		this.state = state;
+	}
+
+	@Override
+	public long nextLong() {
+		return mix64(state += GOLDEN_GAMMA);
+	}
+
+	@Override
+	public RandomChoice split() {
+		return new SplitMix64RandomChoice(null, mix64(nextLong()));
+	}
+}
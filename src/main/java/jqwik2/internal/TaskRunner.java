@@ -7,6 +7,12 @@ public interface TaskRunner {
 	@FunctionalInterface
 	interface Task {
 		void run(Shutdown shutdown) throws Throwable;
+
+		/**
+		 * Called when a submitted task will never run or has been cancelled while running.
+		 */
+		default void cancelled() {
+		}
 	}
 
 	@FunctionalInterface
@@ -25,27 +25,46 @@ public interface Tryable extends Function<List<Object>, TryExecutionResult> {
 	}
 
 	static Tryable from(Function<List<Object>, Object> function) {
-		return (List<Object> parameters) -> {
-			try {
-				Object result = function.apply(parameters);
-				if (result != null) {
-					boolean isBooleanType = result.getClass().equals(Boolean.class);
-					if (isBooleanType && result.equals(false)) {
-						return new TryExecutionResult(TryExecutionResult.Status.FALSIFIED);
-					}
-				}
-				return new TryExecutionResult(TryExecutionResult.Status.SATISFIED);
-			} catch (AssertionError ae) {
-				return new TryExecutionResult(TryExecutionResult.Status.FALSIFIED, ae);
-			} catch (TestAbortedException tae) {
-				return new TryExecutionResult(TryExecutionResult.Status.INVALID, tae);
-			} catch (CannotGenerateException cge) {
-				// This can happen during shrinking in chain-based, stateful properties
-				return new TryExecutionResult(TryExecutionResult.Status.INVALID, cge);
-			} catch (Throwable t) {
-				ExceptionSupport.rethrowIfBlacklisted(t);
-				return new TryExecutionResult(TryExecutionResult.Status.FALSIFIED, t);
+		return (List<Object> parameters) -> execute(() -> function.apply(parameters));
+	}
+
+	/**
+	 * Samples are tried with {@code sampleFunction}, which can access their values without boxing them.
+	 */
+	static Tryable from(Function<List<Object>, Object> function, Function<Sample, Object> sampleFunction) {
+		return new Tryable() {
+			@Override
+			public TryExecutionResult apply(List<Object> parameters) {
+				return execute(() -> function.apply(parameters));
+			}
+
+			@Override
+			public TryExecutionResult apply(Sample sample) {
+				return execute(() -> sampleFunction.apply(sample));
 			}
 		};
 	}
+
+	private static TryExecutionResult execute(Supplier<Object> tryToExecute) {
+		try {
+			Object result = tryToExecute.get();
+			if (result != null) {
+				boolean isBooleanType = result.getClass().equals(Boolean.class);
+				if (isBooleanType && result.equals(false)) {
+					return new TryExecutionResult(TryExecutionResult.Status.FALSIFIED);
+				}
+			}
+			return new TryExecutionResult(TryExecutionResult.Status.SATISFIED);
+		} catch (AssertionError ae) {
+			return new TryExecutionResult(TryExecutionResult.Status.FALSIFIED, ae);
+		} catch (TestAbortedException tae) {
+			return new TryExecutionResult(TryExecutionResult.Status.INVALID, tae);
+		} catch (CannotGenerateException cge) {
+			// This can happen during shrinking in chain-based, stateful properties
+			return new TryExecutionResult(TryExecutionResult.Status.INVALID, cge);
+		} catch (Throwable t) {
+			ExceptionSupport.rethrowIfBlacklisted(t);
+			return new TryExecutionResult(TryExecutionResult.Status.FALSIFIED, t);
+		}
+	}
 }
@@ -0,0 +1,27 @@
+package jqwik2.internal;
+
+/**
+ * Tells if objects of a class can be equal without being the same object,
+ * i.e. if the class overrides {@link Object#equals(Object)}.
+ * Other objects are not suitable as keys of caches that are shared by properties,
+ * because each property creates its own instances of them.
+ */
+public final class ValueEquality {
+
+	private static final ClassValue<Boolean> HAS_VALUE_EQUALITY = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+			} catch (NoSuchMethodException e) {
+				return false;
+			}
+		}
+	};
+
+	private ValueEquality() {}
+
+	public static boolean hasValueEquality(Object object) {
+		return HAS_VALUE_EQUALITY.get(object.getClass());
+	}
+}
@@ -12,19 +12,53 @@ public class WithEdgeCasesDecorator<T> extends Generator.Decorator<T> {
 		return generator.decorate(function(edgeCasesProbability, maxEdgeCases));
 	}
 
+	/**
+	 * Edge cases make up a larger share of few tries and a smaller share of many tries.
+	 * With 100 tries about 5 edge cases are mixed in, chosen from up to 100 edge cases per generator.
+	 * Unlimited tries ({@code maxTries == 0}) are treated like the default number of tries.
+	 */
+	public static DecoratorFunction function(int maxTries) {
+		int tries = maxTries <= 0 ? JqwikDefaults.defaultMaxTries() : maxTries;
+		double edgeCasesProbability = Math.clamp(0.5 / Math.sqrt(tries), 0.01, 0.2);
+		int maxEdgeCases = Math.clamp(tries, 10, 1000);
+		return function(edgeCasesProbability, maxEdgeCases);
+	}
+
+	/**
+	 * Functions with the same parameters are equal so that decorated generators can be cached.
+	 */
 	public static DecoratorFunction function(double edgeCasesProbability, int maxEdgeCases) {
-		return g -> {
+		return new EdgeCasesFunction(edgeCasesProbability, maxEdgeCases);
+	}
+
+	private record EdgeCasesFunction(double edgeCasesProbability, int maxEdgeCases) implements DecoratorFunction {
+		@Override
+		public Generator<?> apply(Generator<?> g) {
 			if (edgeCasesProbability <= 0.0) {
 				return g;
 			}
+			if (g instanceof IntGenerator intGenerator) {
+				return new OfInts(intGenerator, edgeCasesProbability, maxEdgeCases);
+			}
 			return new WithEdgeCasesDecorator<>(g.asGeneric(), edgeCasesProbability, maxEdgeCases);
-		};
+		}
 	}
 
+	private record TableKey(Generator<?> generator, int maxEdgeCases) {}
+
+	/**
+	 * Edge case tables of generators with value equality are shared by all decorators of equal generators,
+	 * e.g. by the copies that are created when a generator tree is decorated again.
+	 * Other generators are created anew for each property, so they would only fill the cache
+	 * and keep their generator trees reachable. Their decorators keep the table themselves.
+	 */
+	private static final LruCache<TableKey, List<Recording>> EDGE_CASES_TABLES = new LruCache<>(JqwikDefaults.defaultGeneratorCacheSize());
+
 	private final double edgeCasesProbability;
 	private final int maxEdgeCases;
 
-	private Set<Recording> edgeCasesCache = null;
+	// Tables are immutable, so a race on first use at most computes an equal table twice
+	private volatile List<Recording> edgeCasesTable = null;
 
 	public WithEdgeCasesDecorator(Generator<T> generator, double edgeCasesProbability, int maxEdgeCases) {
 		super(generator);
@@ -47,7 +81,7 @@ public class WithEdgeCasesDecorator<T> extends Generator.Decorator<T> {
 		return false;
 	}
 
-	private GenSource originalOrEdgeCaseSource(GenSource originalSource) {
+	GenSource originalOrEdgeCaseSource(GenSource originalSource) {
 		if (originalSource instanceof GenRecorder recorder) {
 			return recorder.swapInnerSource(this::replaceRandomWithEdgeCaseSource);
 		}
@@ -66,17 +100,49 @@ public class WithEdgeCasesDecorator<T> extends Generator.Decorator<T> {
 	}
 
 	private GenSource edgeCaseSource(RandomGenSource randomSource) {
-		if (edgeCasesCache == null) {
-			edgeCasesCache = createEdgeCaseRecordings();
-		}
-		if (edgeCasesCache.isEmpty()) {
+		List<Recording> edgeCases = edgeCasesTable();
+		if (edgeCases.isEmpty()) {
 			return randomSource;
 		}
-		Recording recording = randomSource.chooseOne(edgeCasesCache);
+		Recording recording = randomSource.chooseOne(edgeCases);
 		return RecordedSource.of(recording);
 	}
 
-	private Set<Recording> createEdgeCaseRecordings() {
+	private List<Recording> edgeCasesTable() {
+		List<Recording> table = edgeCasesTable;
+		if (table == null) {
+			table = ValueEquality.hasValueEquality(generator)
+						? EDGE_CASES_TABLES.computeIfAbsent(new TableKey(generator, maxEdgeCases), key -> createEdgeCaseRecordings())
+						: createEdgeCaseRecordings();
+			edgeCasesTable = table;
+		}
+		return table;
+	}
+
+	/**
+	 * Keeps int generators usable without boxing, e.g. as elements of int arrays.
+	 */
+	public static class OfInts extends WithEdgeCasesDecorator<Integer> implements IntGenerator {
+
+		private final IntGenerator intGenerator;
+
+		public OfInts(IntGenerator generator, double edgeCasesProbability, int maxEdgeCases) {
+			super(generator, edgeCasesProbability, maxEdgeCases);
+			this.intGenerator = generator;
+		}
+
+		@Override
+		public int generateInt(GenSource source) {
+			return intGenerator.generateInt(originalOrEdgeCaseSource(source));
+		}
+
+		@Override
+		public Integer generate(GenSource source) {
+			return generateInt(source);
+		}
+	}
+
+	private List<Recording> createEdgeCaseRecordings() {
 		LinkedHashSet<Recording> edgeCases = new LinkedHashSet<>();
 		Iterator<Recording> iterator = generator.edgeCases().iterator();
 		while (edgeCases.size() < maxEdgeCases) {
@@ -85,6 +151,6 @@ public class WithEdgeCasesDecorator<T> extends Generator.Decorator<T> {
 			}
 			edgeCases.add(iterator.next());
 		}
-		return edgeCases;
+		return List.copyOf(edgeCases);
 	}
 }
@@ -0,0 +1,51 @@
+package jqwik2.internal;
+
+import jqwik2.api.*;
+
+/**
+ * xoshiro256** has 256 bits of state and a period of 2^256 - 1.
+ * The state is seeded from a SplitMix64 sequence so that it is never all zero.
+ *
+ * <p>See <a href="https://prng.di.unimi.it/xoshiro256starstar.c">xoshiro256starstar.c</a></p>
+ */
+public class Xoshiro256StarStarRandomChoice extends AbstractRandomChoice {
+
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private long s0, s1, s2, s3;
+
+	public Xoshiro256StarStarRandomChoice(String seed) {
+		this(seed, parseSeed(seed));
+	}
+
+	public Xoshiro256StarStarRandomChoice(long seed) {
+		this(null, seed);
+	}
+
+	private Xoshiro256StarStarRandomChoice(String seed, long longSeed) {
+		super(seed);
+		long x = longSeed;
+		this.s0 = mix64(x += GOLDEN_GAMMA);
+		this.s1 = mix64(x += GOLDEN_GAMMA);
+		this.s2 = mix64(x += GOLDEN_GAMMA);
+		this.s3 = mix64(x + GOLDEN_GAMMA);
+	}
+
+	@Override
+	public long nextLong() {
+		long result = Long.rotateLeft(s1 * 5, 7) * 9;
+		long t = s1 << 17;
+		s2 ^= s0;
+		s3 ^= s1;
+		s1 ^= s2;
+		s0 ^= s3;
+		s2 ^= t;
+		s3 = Long.rotateLeft(s3, 45);
+		return result;
+	}
+
+	@Override
+	public RandomChoice split() {
+		return new Xoshiro256StarStarRandomChoice(null, nextLong());
+	}
+}
@@ -0,0 +1,52 @@
+package jqwik2.internal.arbitraries;
+
+import java.math.*;
+import java.util.*;
+
+import jqwik2.api.*;
+import jqwik2.api.arbitraries.*;
+import jqwik2.internal.generators.*;
+
+public class DefaultBigIntegerArbitrary implements BigIntegerArbitrary {
+
+	private final BigInteger min;
+	private final BigInteger max;
+
+	public DefaultBigIntegerArbitrary() {
+		this(BigInteger.valueOf(Long.MIN_VALUE), BigInteger.valueOf(Long.MAX_VALUE));
+	}
+
+	private DefaultBigIntegerArbitrary(BigInteger min, BigInteger max) {
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public BigIntegerArbitrary between(BigInteger min, BigInteger max) {
+		if (min.compareTo(max) > 0) {
+			throw new IllegalArgumentException("min must be <= max");
+		}
+		return new DefaultBigIntegerArbitrary(min, max);
+	}
+
+	@Override
+	public Generator<BigInteger> generator() {
+		return BaseGenerators.bigIntegers(min, max);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		DefaultBigIntegerArbitrary that = (DefaultBigIntegerArbitrary) o;
+
+		if (!min.equals(that.min)) return false;
+		return max.equals(that.max);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(min, max);
+	}
+}
@@ -0,0 +1,56 @@
+package jqwik2.internal.arbitraries;
+
+import java.util.*;
+
+import jqwik2.api.*;
+import jqwik2.api.arbitraries.*;
+import jqwik2.internal.generators.*;
+
+public class DefaultDoubleArbitrary implements DoubleArbitrary {
+
+	public static final double DEFAULT_MAX = 1_000_000.0;
+
+	private final double min;
+	private final double max;
+
+	public DefaultDoubleArbitrary() {
+		this(-DEFAULT_MAX, DEFAULT_MAX);
+	}
+
+	private DefaultDoubleArbitrary(double min, double max) {
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public DoubleArbitrary between(double min, double max) {
+		if (!Double.isFinite(min) || !Double.isFinite(max)) {
+			throw new IllegalArgumentException("min and max must be finite");
+		}
+		if (min > max) {
+			throw new IllegalArgumentException("min must be <= max");
+		}
+		return new DefaultDoubleArbitrary(min, max);
+	}
+
+	@Override
+	public Generator<Double> generator() {
+		return BaseGenerators.doubles(min, max);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		DefaultDoubleArbitrary that = (DefaultDoubleArbitrary) o;
+
+		if (Double.compare(min, that.min) != 0) return false;
+		return Double.compare(max, that.max) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(min, max);
+	}
+}
@@ -29,7 +29,7 @@ public class DefaultIntegerArbitrary implements IntegerArbitrary {
 	}
 
 	@Override
-	public Generator<Integer> generator() {
+	public IntGenerator generator() {
 		if (Math.abs(max - min) <= 100) {
 			return BaseGenerators.integers(min, max);
 		}
@@ -10,30 +10,40 @@ public class DefaultListArbitrary<T> implements ListArbitrary<T> {
 	private final Arbitrary<T> elementArbitrary;
 	private final int minSize;
 	private final int maxSize;
+	private final boolean lazy;
 
 	public DefaultListArbitrary(Arbitrary<T> elementArbitrary) {
-		this(elementArbitrary, 0, BaseGenerators.DEFAULT_COLLECTION_SIZE);
+		this(elementArbitrary, 0, BaseGenerators.DEFAULT_COLLECTION_SIZE, false);
 	}
 
-	private DefaultListArbitrary(Arbitrary<T> elementArbitrary, int minSize, int maxSize) {
+	private DefaultListArbitrary(Arbitrary<T> elementArbitrary, int minSize, int maxSize, boolean lazy) {
 		this.elementArbitrary = elementArbitrary;
 		this.minSize = minSize;
 		this.maxSize = maxSize;
+		this.lazy = lazy;
 	}
 
 	@Override
 	public Generator<List<T>> generator() {
+		if (lazy) {
+			return elementArbitrary.generator().lazyList(minSize, maxSize);
+		}
 		return elementArbitrary.generator().list(minSize, maxSize);
 	}
 
 	@Override
 	public ListArbitrary<T> ofMinSize(int newMinSize) {
-		return new DefaultListArbitrary<>(elementArbitrary, newMinSize, maxSize);
+		return new DefaultListArbitrary<>(elementArbitrary, newMinSize, maxSize, lazy);
 	}
 
 	@Override
 	public ListArbitrary<T> ofMaxSize(int newMaxSize) {
-		return new DefaultListArbitrary<>(elementArbitrary, minSize, newMaxSize);
+		return new DefaultListArbitrary<>(elementArbitrary, minSize, newMaxSize, lazy);
+	}
+
+	@Override
+	public ListArbitrary<T> lazy() {
+		return new DefaultListArbitrary<>(elementArbitrary, minSize, maxSize, true);
 	}
 
 	@Override
@@ -45,11 +55,12 @@ public class DefaultListArbitrary<T> implements ListArbitrary<T> {
 
 		if (minSize != that.minSize) return false;
 		if (maxSize != that.maxSize) return false;
+		if (lazy != that.lazy) return false;
 		return elementArbitrary.equals(that.elementArbitrary);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(elementArbitrary, minSize, maxSize);
+		return Objects.hash(elementArbitrary, minSize, maxSize, lazy);
 	}
 }
@@ -0,0 +1,51 @@
+package jqwik2.internal.arbitraries;
+
+import java.util.*;
+
+import jqwik2.api.*;
+import jqwik2.api.arbitraries.*;
+import jqwik2.internal.generators.*;
+
+public class DefaultLongArbitrary implements LongArbitrary {
+
+	private final long min;
+	private final long max;
+
+	public DefaultLongArbitrary() {
+		this(Long.MIN_VALUE, Long.MAX_VALUE);
+	}
+
+	private DefaultLongArbitrary(long min, long max) {
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public LongArbitrary between(long min, long max) {
+		if (min > max) {
+			throw new IllegalArgumentException("min must be <= max");
+		}
+		return new DefaultLongArbitrary(min, max);
+	}
+
+	@Override
+	public Generator<Long> generator() {
+		return BaseGenerators.longs(min, max);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+
+		DefaultLongArbitrary that = (DefaultLongArbitrary) o;
+
+		if (min != that.min) return false;
+		return max == that.max;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(min, max);
+	}
+}
@@ -1,55 +1,36 @@
 package jqwik2.internal.arbitraries;
 
 import java.util.*;
-import java.util.stream.*;
 
 import jqwik2.api.*;
 import jqwik2.api.arbitraries.*;
-import jqwik2.internal.*;
 import jqwik2.internal.generators.*;
 
 public class DefaultStringArbitrary implements StringArbitrary {
 
-	static final Pair<Integer, Arbitrary<? extends Integer>> WHITESPACE_CHARS;
+	// determine WHITESPACE_CHARS at runtime because the environments differ . . .
+	static final CodepointTable WHITESPACE_CHARS =
+		CodepointTable.matching(Character.MIN_VALUE, Character.MAX_VALUE, Character::isWhitespace);
 
-	static {
-		// determine WHITESPACE_CHARS at runtime because the environments differ . . .
-		var whitespace =
-			IntStream.range(Character.MIN_VALUE, Character.MAX_VALUE + 1)
-					 .filter(Character::isWhitespace).boxed().collect(Collectors.toSet());
-		WHITESPACE_CHARS = Pair.of(whitespace.size(), Values.of(whitespace));
-	}
-
-	private static Generator<Integer> defaultUnicodes() {
-		// Per default only characters in Multilingual Plane 0 are generated and non-characters and private use characters are excluded
-		return BaseGenerators.integers(Character.MIN_VALUE, Character.MAX_VALUE)
-							 .filter(c -> !isNonCharacter(c) && !isPrivateUseCharacter(c));
-	}
-
-	private static boolean isNonCharacter(int codepoint) {
-		if (codepoint >= 0xfdd0 && codepoint <= 0xfdef)
-			return true;
-		// see https://en.wikipedia.org/wiki/UTF-16#U+D800_to_U+DFFF
-		if (codepoint >= 0xd800 && codepoint <= 0xdfff)
-			return true;
-		return codepoint == 0xfffe || codepoint == 0xffff;
-	}
-
-	private static boolean isPrivateUseCharacter(int codepoint) {
-		return codepoint >= 0xe000 && codepoint <= 0xf8ff;
-	}
+	// Per default only characters in Multilingual Plane 0 are generated and
+	// surrogates, non-characters and private use characters are excluded
+	// see https://en.wikipedia.org/wiki/UTF-16#U+D800_to_U+DFFF
+	private static final CodepointTable DEFAULT_UNICODES =
+		CodepointTable.range(0x0000, 0xd7ff)
+					  .union(CodepointTable.range(0xf900, 0xfdcf))
+					  .union(CodepointTable.range(0xfdf0, 0xfffd));
 
 	private final int minLength;
 	private final int maxLength;
 
-	private final Set<Pair<Integer, Arbitrary<? extends Integer>>> unicodeFrequencies;
+	private final CodepointTable allowedCodepoints;
 
 	public DefaultStringArbitrary() {
-		this(Set.of(), 0, BaseGenerators.DEFAULT_COLLECTION_SIZE);
+		this(CodepointTable.EMPTY, 0, BaseGenerators.DEFAULT_COLLECTION_SIZE);
 	}
 
-	private DefaultStringArbitrary(Set<Pair<Integer, Arbitrary<? extends Integer>>> unicodeFrequencies, int minLength, int maxLength) {
-		this.unicodeFrequencies = unicodeFrequencies;
+	private DefaultStringArbitrary(CodepointTable allowedCodepoints, int minLength, int maxLength) {
+		this.allowedCodepoints = allowedCodepoints;
 		if (minLength < 0) {
 			throw new IllegalArgumentException("minLength must be >= 0");
 		}
@@ -69,10 +50,10 @@ public class DefaultStringArbitrary implements StringArbitrary {
 	}
 
 	private Generator<Integer> unicodes() {
-		if (unicodeFrequencies.isEmpty()) {
-			return defaultUnicodes();
+		if (allowedCodepoints.isEmpty()) {
+			return new CodepointGenerator(DEFAULT_UNICODES);
 		}
-		return Values.frequencyOf(unicodeFrequencies).generator();
+		return new CodepointGenerator(allowedCodepoints);
 	}
 
 	/**
@@ -84,7 +65,7 @@ public class DefaultStringArbitrary implements StringArbitrary {
 	 */
 	@Override
 	public StringArbitrary ofMaxLength(int nexMaxLength) {
-		return new DefaultStringArbitrary(unicodeFrequencies, Math.min(minLength, nexMaxLength), nexMaxLength);
+		return new DefaultStringArbitrary(allowedCodepoints, Math.min(minLength, nexMaxLength), nexMaxLength);
 	}
 
 	/**
@@ -96,7 +77,7 @@ public class DefaultStringArbitrary implements StringArbitrary {
 	 */
 	@Override
 	public StringArbitrary ofMinLength(int newMinLength) {
-		return new DefaultStringArbitrary(unicodeFrequencies, newMinLength, Math.max(maxLength, newMinLength));
+		return new DefaultStringArbitrary(allowedCodepoints, newMinLength, Math.max(maxLength, newMinLength));
 	}
 
 	/**
@@ -140,17 +121,29 @@ public class DefaultStringArbitrary implements StringArbitrary {
 		return with(WHITESPACE_CHARS);
 	}
 
+	@Override
+	public StringArbitrary withChars(char... chars) {
+		int[] codepoints = new int[chars.length];
+		for (int i = 0; i < chars.length; i++) {
+			codepoints[i] = chars[i];
+		}
+		return with(CodepointTable.of(codepoints));
+	}
+
+	@Override
+	public StringArbitrary withCharRange(char from, char to) {
+		return withCodepoints(from, to);
+	}
+
 	private DefaultStringArbitrary withCodepoints(int minCodepoint, int maxCodepoint) {
 		if (minCodepoint < 0 || maxCodepoint < 0 || minCodepoint > maxCodepoint) {
 			throw new IllegalArgumentException("minCodepoint and maxCodepoint must be >= 0 and minCodepoint <= maxCodepoint");
 		}
-		return with(Pair.of(maxCodepoint - minCodepoint, Numbers.integers().between(minCodepoint, maxCodepoint)));
+		return with(CodepointTable.range(minCodepoint, maxCodepoint));
 	}
 
-	private DefaultStringArbitrary with(Pair<Integer, Arbitrary<? extends Integer>> frequency) {
-		var newFrequencies = new LinkedHashSet<>(unicodeFrequencies);
-		newFrequencies.add(frequency);
-		return new DefaultStringArbitrary(newFrequencies, minLength, maxLength);
+	private DefaultStringArbitrary with(CodepointTable codepoints) {
+		return new DefaultStringArbitrary(allowedCodepoints.union(codepoints), minLength, maxLength);
 	}
 
 	@Override
@@ -162,11 +155,11 @@ public class DefaultStringArbitrary implements StringArbitrary {
 
 		if (minLength != that.minLength) return false;
 		if (maxLength != that.maxLength) return false;
-		return unicodeFrequencies.equals(that.unicodeFrequencies);
+		return allowedCodepoints.equals(that.allowedCodepoints);
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(minLength, maxLength, unicodeFrequencies);
+		return Objects.hash(minLength, maxLength, allowedCodepoints);
 	}
 }
@@ -0,0 +1,35 @@
+package jqwik2.internal.description;
+
+import java.util.*;
+
+import jqwik2.api.arbitraries.*;
+import jqwik2.api.description.*;
+import jqwik2.api.functions.*;
+
+final class IntPropertyInvariant1 extends PropertyInvariant1<Integer>
+	implements PropertyDescription.IntInvariant1 {
+
+	IntPropertyInvariant1(
+		String propertyId,
+		List<Classifier> classifiers,
+		IntegerArbitrary a1
+	) {
+		super(propertyId, classifiers, a1);
+	}
+
+	@Override
+	public PropertyDescription checkInt(Check.IntC1 checker) {
+		return new GenericPropertyDescription(propertyId, List.of(a1), checker.asCondition(), classifiers);
+	}
+
+	@Override
+	public PropertyDescription verifyInt(Verify.IntV1 verifier) {
+		return checkInt(verifier.asCheck());
+	}
+
+	@Override
+	public PropertyDescription.IntInvariant1 classify(List<Classifier.Case<Check.C1<Integer>>> cases) {
+		List<Classifier> newClassifiers = addClassifierFromCases(cases);
+		return new IntPropertyInvariant1(propertyId, newClassifiers, (IntegerArbitrary) a1);
+	}
+}
@@ -0,0 +1,35 @@
+package jqwik2.internal.description;
+
+import java.util.*;
+
+import jqwik2.api.arbitraries.*;
+import jqwik2.api.description.*;
+import jqwik2.api.functions.*;
+
+final class IntPropertyInvariant2 extends PropertyInvariant2<Integer, Integer>
+	implements PropertyDescription.IntInvariant2 {
+
+	IntPropertyInvariant2(
+		String propertyId,
+		List<Classifier> classifiers,
+		IntegerArbitrary a1, IntegerArbitrary a2
+	) {
+		super(propertyId, classifiers, a1, a2);
+	}
+
+	@Override
+	public PropertyDescription checkInt(Check.IntC2 checker) {
+		return new GenericPropertyDescription(propertyId, List.of(a1, a2), checker.asCondition(), classifiers);
+	}
+
+	@Override
+	public PropertyDescription verifyInt(Verify.IntV2 verifier) {
+		return checkInt(verifier.asCheck());
+	}
+
+	@Override
+	public PropertyDescription.IntInvariant2 classify(List<Classifier.Case<Check.C2<Integer, Integer>>> cases) {
+		List<Classifier> newClassifiers = addClassifierFromCases(cases);
+		return new IntPropertyInvariant2(propertyId, newClassifiers, (IntegerArbitrary) a1, (IntegerArbitrary) a2);
+	}
+}
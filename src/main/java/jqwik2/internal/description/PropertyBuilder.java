@@ -3,6 +3,7 @@ package jqwik2.internal.description;
 import java.util.*;
 
 import jqwik2.api.*;
+import jqwik2.api.arbitraries.*;
 import jqwik2.api.description.*;
 
 public class PropertyBuilder implements PropertyDescription.Builder {
@@ -40,4 +41,14 @@ public class PropertyBuilder implements PropertyDescription.Builder {
 		return new PropertyInvariant2<>(propertyId, List.of(), a1, a2);
 	}
 
+	@Override
+	public PropertyDescription.IntInvariant1 forAll(IntegerArbitrary arbitrary) {
+		return new IntPropertyInvariant1(propertyId, List.of(), arbitrary);
+	}
+
+	@Override
+	public PropertyDescription.IntInvariant2 forAll(IntegerArbitrary a1, IntegerArbitrary a2) {
+		return new IntPropertyInvariant2(propertyId, List.of(), a1, a2);
+	}
+
 }
@@ -6,9 +6,9 @@ import jqwik2.api.*;
 import jqwik2.api.description.*;
 import jqwik2.api.functions.*;
 
-final class PropertyInvariant1<T1> extends AbstractPropertyInvariant
+class PropertyInvariant1<T1> extends AbstractPropertyInvariant
 	implements PropertyDescription.Invariant1<T1> {
-	private final Arbitrary<T1> a1;
+	protected final Arbitrary<T1> a1;
 
 	PropertyInvariant1(
 		String propertyId,
@@ -6,10 +6,10 @@ import jqwik2.api.*;
 import jqwik2.api.description.*;
 import jqwik2.api.functions.*;
 
-final class PropertyInvariant2<T1, T2> extends AbstractPropertyInvariant
+class PropertyInvariant2<T1, T2> extends AbstractPropertyInvariant
 		implements PropertyDescription.Invariant2<T1, T2> {
-	private final Arbitrary<T1> a1;
-	private final Arbitrary<T2> a2;
+	protected final Arbitrary<T1> a1;
+	protected final Arbitrary<T2> a2;
 
 	PropertyInvariant2(
 			String propertyId,
@@ -4,10 +4,15 @@ import java.util.*;
 
 import jqwik2.api.*;
 import jqwik2.api.recording.*;
+import jqwik2.internal.*;
 
 import static jqwik2.api.recording.Recording.*;
 
 abstract class AbstractCollectionGenerator<T, C> implements Generator<C> {
+
+	// Number of duplicates in a row after which the element space is considered to be exhausted
+	static final int MAX_UNIQUENESS_MISSES = 1000;
+
 	protected final Generator<T> elementGenerator;
 	protected final int minSize;
 	protected final int maxSize;
@@ -27,21 +32,60 @@ abstract class AbstractCollectionGenerator<T, C> implements Generator<C> {
 
 		List<T> elements = new ArrayList<>(size);
 		GenSource.List elementsSource = listSource.nextValue().list();
+		if (featureExtractors.isEmpty()) {
+			for (int i = 0; i < size; i++) {
+				elements.add(elementGenerator.generate(elementsSource.nextElement()));
+			}
+			return elements;
+		}
+
+		UniqueFeatures uniqueFeatures = new UniqueFeatures(size);
 		for (int i = 0; i < size; i++) {
 			GenSource elementSource = elementsSource.nextElement();
-			while (true) {
-				T element = elementGenerator.generate(elementSource);
-				boolean elementIsUniqueWithRegardToExtractors =
-					featureExtractors.stream().allMatch(
-						extractor -> extractor.isUniqueIn(element, elements)
-					);
-				if (elementIsUniqueWithRegardToExtractors) {
-					elements.add(element);
-					break;
+			elements.add(generateUniqueElement(elementSource, uniqueFeatures, i, size));
+		}
+		return elements;
+	}
+
+	private T generateUniqueElement(GenSource elementSource, UniqueFeatures uniqueFeatures, int index, int size) {
+		for (int misses = 0; misses < MAX_UNIQUENESS_MISSES; misses++) {
+			T element = elementGenerator.generate(elementSource);
+			if (uniqueFeatures.addIfUnique(element)) {
+				return element;
+			}
+		}
+		String message = "Could not generate unique element %d of %d: %d generated elements in a row were duplicates"
+							 .formatted(index + 1, size, MAX_UNIQUENESS_MISSES);
+		throw new CannotGenerateException(message);
+	}
+
+	/**
+	 * Features of all elements generated so far, one hash set per feature extractor.
+	 */
+	private class UniqueFeatures {
+		private final List<FeatureExtractor<T>> extractors = List.copyOf(featureExtractors);
+		private final List<Set<Object>> features = new ArrayList<>(extractors.size());
+		private final Object[] candidateFeatures = new Object[extractors.size()];
+
+		private UniqueFeatures(int expectedSize) {
+			for (int i = 0; i < extractors.size(); i++) {
+				features.add(HashSet.newHashSet(expectedSize));
+			}
+		}
+
+		private boolean addIfUnique(T element) {
+			for (int i = 0; i < extractors.size(); i++) {
+				Object feature = extractors.get(i).applySafe(element);
+				if (features.get(i).contains(feature)) {
+					return false;
 				}
+				candidateFeatures[i] = feature;
 			}
+			for (int i = 0; i < extractors.size(); i++) {
+				features.get(i).add(candidateFeatures[i]);
+			}
+			return true;
 		}
-		return elements;
 	}
 
 	protected int chooseSize(GenSource head) {
@@ -1,5 +1,6 @@
 package jqwik2.internal.generators;
 
+import java.math.*;
 import java.util.*;
 import java.util.function.*;
 
@@ -13,14 +14,26 @@ public class BaseGenerators {
 
 	private BaseGenerators() {}
 
-	public static Generator<Integer> integers(int min, int max) {
+	public static IntGenerator integers(int min, int max) {
 		return integers(min, max, RandomChoice.Distribution.UNIFORM);
 	}
 
-	public static Generator<Integer> integers(int min, int max, RandomChoice.Distribution distribution) {
+	public static IntGenerator integers(int min, int max, RandomChoice.Distribution distribution) {
 		return new IntegerGenerator(min, max, distribution);
 	}
 
+	public static Generator<Long> longs(long min, long max) {
+		return new LongGenerator(min, max);
+	}
+
+	public static Generator<Double> doubles(double min, double max) {
+		return new DoubleGenerator(min, max);
+	}
+
+	public static Generator<BigInteger> bigIntegers(BigInteger min, BigInteger max) {
+		return new BigIntegerGenerator(min, max);
+	}
+
 	public static Generator<String> strings(Generator<Integer> codepoints, int minLength, int maxLength) {
 		return new StringGenerator(codepoints, minLength, maxLength);
 	}
@@ -1,50 +1,134 @@
 package jqwik2.internal.generators;
 
 import java.math.*;
+import java.util.*;
 
 import jqwik2.api.*;
+import jqwik2.api.recording.*;
 
 public class BigIntegerGenerationSupport {
 
+	// Chunks stay below Long.MAX_VALUE so that each one fits into a single long choice
+	private static final int CHUNK_BITS = 62;
+	private static final long CHUNK_SIZE = 1L << CHUNK_BITS;
+
 	private final GenSource source;
 
 	public BigIntegerGenerationSupport(GenSource source) {
 		this.source = source;
 	}
 
+	/**
+	 * Choose a value between min and max. Both included.
+	 * Values are chosen like in {@linkplain LongGenerationSupport}, i.e. they shrink towards 0.
+	 *
+	 * @param min A value smaller than or equal to max
+	 * @param max A value greater than or equal to min
+	 * @return a choice between min and max (included)
+	 */
+	public BigInteger chooseBigInteger(BigInteger min, BigInteger max) {
+		if (min.compareTo(max) > 0) {
+			throw new IllegalArgumentException("min must be smaller than or equal to max");
+		}
+		BigInteger index = choosePositiveBigInteger(max.subtract(min));
+		return fromIndex(min, max, index);
+	}
+
 	/**
 	 * Choose a random BigInteger between 0 and max. Both included.
+	 *
+	 * <p>Values up to 62 bits take a single long choice,
+	 * larger values a tuple of 62 bit chunks - most significant chunk first.</p>
+	 *
 	 * @param max
 	 * @return a random BigInteger between 0 and max
 	 */
 	public BigInteger choosePositiveBigInteger(BigInteger max) {
-		var numBits = max.bitLength();
-
-		int bytes = (int) (((long) numBits + 7) / 8);
-		byte[] magnitude = new byte[bytes];
+		if (max.bitLength() <= CHUNK_BITS) {
+			return BigInteger.valueOf(source.choice().chooseLong(max.longValueExact() + 1));
+		}
 
+		int chunks = numberOfChunks(max);
+		long topChunkMax = max.shiftRight(CHUNK_BITS * (chunks - 1)).longValueExact();
 		while (true) {
 			var tuple = source.tuple();
-			fillBits(magnitude, numBits, tuple);
-			int signum = 1;
-			BigInteger value = new BigInteger(signum, magnitude);
+			BigInteger value = BigInteger.valueOf(tuple.nextValue().choice().chooseLong(topChunkMax + 1));
+			for (int i = 1; i < chunks; i++) {
+				long chunk = tuple.nextValue().choice().chooseLong(CHUNK_SIZE);
+				value = value.shiftLeft(CHUNK_BITS).or(BigInteger.valueOf(chunk));
+			}
 			if (value.compareTo(max) <= 0) {
 				return value;
 			}
 		}
 	}
 
-	private void fillBits(byte[] bytes, int bits, GenSource.Tuple tuple) {
-		var remainingBits = bits;
-		// Optimization: Choose more than one byte at a time
-		for (int i = 0; remainingBits > 0; i++) {
-			short bitsToFill = remainingBits >= 8 ? 8 : (short) remainingBits;
-			var maxExcluded = 2 << (bitsToFill - 1);
-			byte b = (byte) tuple.nextValue().choice().choose(maxExcluded);
-			bytes[i] = b;
-			remainingBits -= bitsToFill;
+	public static Collection<Recording> edgeCases(BigInteger min, BigInteger max) {
+		BigInteger maxIndex = max.subtract(min);
+		Set<Recording> recordings = new LinkedHashSet<>();
+		for (BigInteger edgeCase : List.of(min, max, BigInteger.ZERO, BigInteger.ONE, BigInteger.ONE.negate())) {
+			if (edgeCase.compareTo(min) < 0 || edgeCase.compareTo(max) > 0) {
+				continue;
+			}
+			recordings.add(positiveBigIntegerRecording(toIndex(min, max, edgeCase), maxIndex));
+		}
+		return recordings;
+	}
+
+	public static Optional<ExhaustiveSource<?>> exhaustive(BigInteger min, BigInteger max) {
+		BigInteger maxIndex = max.subtract(min);
+		if (maxIndex.compareTo(BigInteger.valueOf(Integer.MAX_VALUE)) >= 0) {
+			return Optional.empty();
+		}
+		return ExhaustiveSource.choice(maxIndex.intValueExact());
+	}
+
+	private static Recording positiveBigIntegerRecording(BigInteger value, BigInteger max) {
+		if (max.bitLength() <= CHUNK_BITS) {
+			return Recording.choice(value.longValueExact());
+		}
+		int chunks = numberOfChunks(max);
+		List<Recording> choices = new ArrayList<>();
+		for (int i = chunks - 1; i >= 0; i--) {
+			long chunk = value.shiftRight(CHUNK_BITS * i).longValue() & (CHUNK_SIZE - 1);
+			choices.add(Recording.choice(chunk));
+		}
+		return Recording.tuple(choices);
+	}
+
+	private static int numberOfChunks(BigInteger max) {
+		return (max.bitLength() + CHUNK_BITS - 1) / CHUNK_BITS;
+	}
+
+	private static BigInteger fromIndex(BigInteger min, BigInteger max, BigInteger index) {
+		if (min.signum() >= 0) {
+			return min.add(index);
+		}
+		if (max.signum() <= 0) {
+			return max.subtract(index);
 		}
+		BigInteger smallerSide = max.min(min.negate());
+		BigInteger alternating = smallerSide.shiftLeft(1);
+		if (index.compareTo(alternating) <= 0) {
+			return index.testBit(0) ? index.add(BigInteger.ONE).shiftRight(1) : index.shiftRight(1).negate();
+		}
+		BigInteger beyondAlternating = smallerSide.add(index.subtract(alternating));
+		return max.compareTo(min.negate()) > 0 ? beyondAlternating : beyondAlternating.negate();
 	}
 
+	private static BigInteger toIndex(BigInteger min, BigInteger max, BigInteger value) {
+		if (min.signum() >= 0) {
+			return value.subtract(min);
+		}
+		if (max.signum() <= 0) {
+			return max.subtract(value);
+		}
+		BigInteger smallerSide = max.min(min.negate());
+		BigInteger magnitude = value.abs();
+		if (magnitude.compareTo(smallerSide) <= 0) {
+			return value.signum() > 0 ? value.shiftLeft(1).subtract(BigInteger.ONE) : magnitude.shiftLeft(1);
+		}
+		return smallerSide.shiftLeft(1).add(magnitude.subtract(smallerSide));
+	}
 
 }
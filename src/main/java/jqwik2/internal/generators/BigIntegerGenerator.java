@@ -30,10 +30,10 @@ public class BigIntegerGenerator implements Generator<BigInteger> {
 	@Override
 	public BigInteger generate(GenSource source) {
 		if (isInIntegerRange) {
-			var intValue = new IntegerGenerationSupport(source, distribution).chooseInt(min.intValueExact(), max.intValueExact());
+			var intValue = IntegerGenerationSupport.chooseInt(source, distribution, min.intValueExact(), max.intValueExact());
 			return BigInteger.valueOf(intValue);
 		}
-		throw new UnsupportedOperationException("Values outside Integer range are not supported yet");
+		return new BigIntegerGenerationSupport(source).chooseBigInteger(min, max);
 	}
 
 	@Override
@@ -41,7 +41,7 @@ public class BigIntegerGenerator implements Generator<BigInteger> {
 		if (isInIntegerRange) {
 			return IntegerGenerationSupport.edgeCases(min.intValueExact(), max.intValueExact());
 		}
-		throw new UnsupportedOperationException("Values outside Integer range are not supported yet");
+		return BigIntegerGenerationSupport.edgeCases(min, max);
 	}
 
 	@Override
@@ -49,7 +49,7 @@ public class BigIntegerGenerator implements Generator<BigInteger> {
 		if (isInIntegerRange) {
 			return IntegerGenerationSupport.exhaustive(min.intValueExact(), max.intValueExact());
 		}
-		throw new UnsupportedOperationException("Values outside Integer range are not supported yet");
+		return BigIntegerGenerationSupport.exhaustive(min, max);
 	}
 
 	public BigInteger max() {
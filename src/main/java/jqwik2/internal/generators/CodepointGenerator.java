@@ -0,0 +1,60 @@
+package jqwik2.internal.generators;
+
+import java.util.*;
+
+import jqwik2.api.*;
+import jqwik2.api.recording.*;
+import jqwik2.api.support.*;
+
+/**
+ * Chooses code points from a table with a single, uniformly distributed choice.
+ * Shrinks towards the smallest code point of the table.
+ */
+public class CodepointGenerator implements IntGenerator {
+
+	private static final int MAX_LATIN_1_CODEPOINT = 0xFF;
+
+	private final CodepointTable table;
+
+	public CodepointGenerator(CodepointTable table) {
+		if (table.isEmpty()) {
+			throw new IllegalArgumentException("Code point table must not be empty");
+		}
+		this.table = table;
+	}
+
+	@Override
+	public int generateInt(GenSource source) {
+		int index = source.choice().choose(table.size());
+		return table.codepointAt(index);
+	}
+
+	boolean isLatin1() {
+		return table.maxCodepoint() <= MAX_LATIN_1_CODEPOINT;
+	}
+
+	@Override
+	public Iterable<Recording> edgeCases() {
+		if (table.size() == 1) {
+			return Set.of(Recording.choice(0));
+		}
+		return EdgeCasesSupport.forChoice(table.size() - 1);
+	}
+
+	@Override
+	public Optional<ExhaustiveSource<?>> exhaustive() {
+		return ExhaustiveSource.choice(table.size() - 1);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		return table.equals(((CodepointGenerator) o).table);
+	}
+
+	@Override
+	public int hashCode() {
+		return table.hashCode();
+	}
+}
@@ -0,0 +1,155 @@
+package jqwik2.internal.generators;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * An immutable set of code points, stored as sorted and merged ranges.
+ *
+ * <p>The n-th code point of the set can be looked up without iterating over the set,
+ * so that choosing a random code point needs a single choice.</p>
+ */
+public final class CodepointTable {
+
+	public static final CodepointTable EMPTY = new CodepointTable(new int[0], new int[0]);
+
+	private final int[] starts;
+	private final int[] ends;
+	// offsets[i] is the number of code points in all ranges before range i
+	private final int[] offsets;
+	private final int size;
+
+	private CodepointTable(int[] starts, int[] ends) {
+		this.starts = starts;
+		this.ends = ends;
+		this.offsets = new int[starts.length];
+		int count = 0;
+		for (int i = 0; i < starts.length; i++) {
+			offsets[i] = count;
+			count += ends[i] - starts[i] + 1;
+		}
+		this.size = count;
+	}
+
+	/**
+	 * All code points from {@code min} to {@code max}, both included.
+	 */
+	public static CodepointTable range(int min, int max) {
+		if (min < 0 || max < min || max > Character.MAX_CODE_POINT) {
+			String message = "Code point range [%d, %d] is not valid".formatted(min, max);
+			throw new IllegalArgumentException(message);
+		}
+		return new CodepointTable(new int[]{min}, new int[]{max});
+	}
+
+	public static CodepointTable of(int... codepoints) {
+		CodepointTable table = EMPTY;
+		for (int codepoint : codepoints) {
+			table = table.union(range(codepoint, codepoint));
+		}
+		return table;
+	}
+
+	/**
+	 * All code points from {@code min} to {@code max} that match {@code filter}.
+	 */
+	public static CodepointTable matching(int min, int max, IntPredicate filter) {
+		List<int[]> ranges = new ArrayList<>();
+		int rangeStart = -1;
+		for (int codepoint = min; codepoint <= max; codepoint++) {
+			if (filter.test(codepoint)) {
+				if (rangeStart < 0) {
+					rangeStart = codepoint;
+				}
+			} else if (rangeStart >= 0) {
+				ranges.add(new int[]{rangeStart, codepoint - 1});
+				rangeStart = -1;
+			}
+		}
+		if (rangeStart >= 0) {
+			ranges.add(new int[]{rangeStart, max});
+		}
+		return fromSortedRanges(ranges);
+	}
+
+	public CodepointTable union(CodepointTable other) {
+		List<int[]> all = new ArrayList<>();
+		for (int i = 0; i < starts.length; i++) {
+			all.add(new int[]{starts[i], ends[i]});
+		}
+		for (int i = 0; i < other.starts.length; i++) {
+			all.add(new int[]{other.starts[i], other.ends[i]});
+		}
+		all.sort(Comparator.comparingInt(range -> range[0]));
+
+		List<int[]> merged = new ArrayList<>();
+		for (int[] range : all) {
+			if (!merged.isEmpty() && range[0] <= merged.getLast()[1] + 1) {
+				int[] last = merged.getLast();
+				last[1] = Math.max(last[1], range[1]);
+			} else {
+				merged.add(new int[]{range[0], range[1]});
+			}
+		}
+		return fromSortedRanges(merged);
+	}
+
+	private static CodepointTable fromSortedRanges(List<int[]> ranges) {
+		int[] starts = new int[ranges.size()];
+		int[] ends = new int[ranges.size()];
+		for (int i = 0; i < ranges.size(); i++) {
+			starts[i] = ranges.get(i)[0];
+			ends[i] = ranges.get(i)[1];
+		}
+		return new CodepointTable(starts, ends);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int maxCodepoint() {
+		if (isEmpty()) {
+			throw new NoSuchElementException("Table is empty");
+		}
+		return ends[ends.length - 1];
+	}
+
+	/**
+	 * @param index A value between 0 and size() - 1
+	 */
+	public int codepointAt(int index) {
+		if (starts.length == 1) {
+			return starts[0] + index;
+		}
+		int found = Arrays.binarySearch(offsets, index);
+		int rangeIndex = found >= 0 ? found : -found - 2;
+		return starts[rangeIndex] + index - offsets[rangeIndex];
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) return true;
+		if (o == null || getClass() != o.getClass()) return false;
+		CodepointTable that = (CodepointTable) o;
+		return Arrays.equals(starts, that.starts) && Arrays.equals(ends, that.ends);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * Arrays.hashCode(starts) + Arrays.hashCode(ends);
+	}
+
+	@Override
+	public String toString() {
+		StringJoiner joiner = new StringJoiner(", ", "CodepointTable[", "]");
+		for (int i = 0; i < starts.length; i++) {
+			joiner.add("%x-%x".formatted(starts[i], ends[i]));
+		}
+		return joiner.toString();
+	}
+}
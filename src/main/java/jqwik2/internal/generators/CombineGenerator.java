@@ -10,7 +10,7 @@ class CombineGenerator<T> implements Generator<T> {
 
 	private final Function<Combinators.Sampler, T> combinator;
 	private final List<DecoratorFunction> decorators;
-	private SamplerSupplier samplerSupplier;
+	private volatile SamplerSupplier samplerSupplier;
 
 	public CombineGenerator(Function<Combinators.Sampler, T> combinator) {
 		this(combinator, List.of());
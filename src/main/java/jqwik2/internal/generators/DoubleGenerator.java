@@ -0,0 +1,94 @@
+package jqwik2.internal.generators;
+
+import java.util.*;
+
+import jqwik2.api.*;
+import jqwik2.api.recording.*;
+
+/**
+ * Generates doubles from an evenly spaced grid of at most 2^53 + 1 values between min and max.
+ *
+ * <p>The grid spacing is a power of two, so each value takes a single long choice
+ * and shrinks towards 0 or - if 0 is out of range - towards the bound closest to 0.
+ * min and max themselves are always part of the grid.</p>
+ */
+public class DoubleGenerator implements Generator<Double> {
+
+	private static final int PRECISION_BITS = 53;
+
+	private final double min;
+	private final double max;
+
+	// value = origin + step / scale
+	private final double origin;
+	private final double scale;
+	private final long minStep;
+	private final long maxStep;
+
+	public DoubleGenerator(double min, double max) {
+		if (!Double.isFinite(min) || !Double.isFinite(max)) {
+			throw new IllegalArgumentException("min and max must be finite");
+		}
+		if (min > max) {
+			throw new IllegalArgumentException("min must be smaller than or equal to max");
+		}
+		this.min = min;
+		this.max = max;
+		this.scale = scale(min, max);
+		if (min <= 0 && max >= 0) {
+			this.origin = 0;
+			this.minStep = (long) Math.ceil(min * scale);
+			this.maxStep = (long) Math.floor(max * scale);
+		} else if (min > 0) {
+			this.origin = min;
+			this.minStep = 0;
+			this.maxStep = (long) Math.floor((max - min) * scale);
+		} else {
+			this.origin = max;
+			this.minStep = -(long) Math.floor((max - min) * scale);
+			this.maxStep = 0;
+		}
+	}
+
+	private static double scale(double min, double max) {
+		if (min == max) {
+			return 1.0;
+		}
+		// Width can overflow to infinity, e.g. for -Double.MAX_VALUE..Double.MAX_VALUE
+		double width = max - min;
+		int widthExponent = Double.isInfinite(width) ? Double.MAX_EXPONENT + 1 : Math.getExponent(width);
+		int scaleExponent = Math.min(PRECISION_BITS - 1 - widthExponent, Double.MAX_EXPONENT);
+		return Math.scalb(1.0, scaleExponent);
+	}
+
+	@Override
+	public Double generate(GenSource source) {
+		long step = new LongGenerationSupport(source).chooseLong(minStep, maxStep);
+		return valueOf(step);
+	}
+
+	private double valueOf(long step) {
+		if (step == minStep) {
+			return min;
+		}
+		if (step == maxStep) {
+			return max;
+		}
+		double value = origin + step / scale;
+		// Rounding must not leave the range
+		return Math.max(min, Math.min(max, value));
+	}
+
+	@Override
+	public Iterable<Recording> edgeCases() {
+		return LongGenerationSupport.edgeCases(minStep, maxStep);
+	}
+
+	public double max() {
+		return max;
+	}
+
+	public double min() {
+		return min;
+	}
+}
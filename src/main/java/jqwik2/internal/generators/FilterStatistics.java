@@ -0,0 +1,21 @@
+package jqwik2.internal.generators;
+
+import java.util.*;
+
+/**
+ * Number of values a filter has been asked to test and how many of them it accepted.
+ */
+public record FilterStatistics(long tries, long accepted) {
+
+	public double acceptanceRate() {
+		if (tries == 0) {
+			return 1.0;
+		}
+		return (double) accepted / tries;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(Locale.ROOT, "%.2f%% accepted (%d of %d)", acceptanceRate() * 100, accepted, tries);
+	}
+}
@@ -5,37 +5,85 @@ import java.util.*;
 import jqwik2.api.*;
 import jqwik2.internal.*;
 
+/**
+ * Chooses an index with a probability proportional to its weight.
+ *
+ * <p>Uses Vose's alias method: The tables are built once in O(n),
+ * each choice then takes a single random double and constant time.</p>
+ *
+ * <p>See <a href="https://www.keithschwarz.com/darts-dice-coins/">Darts, Dice, and Coins: Sampling from a Discrete Distribution</a></p>
+ */
 class FrequencyBasedDistribution implements RandomChoice.Distribution {
 
-	private final List<Integer> ranges;
-	private final int maxRange;
+	private final double[] probabilities;
+	private final int[] aliases;
 
 	<T> FrequencyBasedDistribution(List<Pair<Integer, T>> frequencies) {
-		List<Integer> weights = frequencies.stream().map(Pair::first).toList();
-		this.ranges = calculateRanges(weights);
-		this.maxRange = ranges.getLast() + 1;
+		int size = frequencies.size();
+		this.probabilities = new double[size];
+		this.aliases = new int[size];
+		if (size > 0) {
+			buildTables(frequencies.stream().mapToInt(Pair::first).toArray());
+		}
 	}
 
-	@Override
-	public int nextInt(RandomChoice random, int maxExcluded) {
-		int range = random.nextInt(maxRange);
-		for (int i = 0; i < ranges.size(); i++) {
-			if (range <= ranges.get(i)) {
-				return i;
+	private void buildTables(int[] weights) {
+		int size = weights.length;
+		long totalWeight = 0;
+		for (int weight : weights) {
+			totalWeight += weight;
+		}
+
+		// Scale weights so that the average column is exactly full
+		double[] scaled = new double[size];
+		for (int i = 0; i < size; i++) {
+			scaled[i] = (double) weights[i] * size / totalWeight;
+		}
+
+		int[] small = new int[size];
+		int[] large = new int[size];
+		int countSmall = 0;
+		int countLarge = 0;
+		for (int i = size - 1; i >= 0; i--) {
+			if (scaled[i] < 1.0) {
+				small[countSmall++] = i;
+			} else {
+				large[countLarge++] = i;
 			}
 		}
-		// Should never happen
-		return 0;
-	}
 
-	private List<Integer> calculateRanges(List<Integer> weights) {
-		int upper = 0;
-		List<Integer> ranges = new ArrayList<>();
-		for (int weight : weights) {
-			upper += weight;
-			ranges.add(upper);
+		while (countSmall > 0 && countLarge > 0) {
+			int less = small[--countSmall];
+			int more = large[--countLarge];
+			probabilities[less] = scaled[less];
+			aliases[less] = more;
+			scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+			if (scaled[more] < 1.0) {
+				small[countSmall++] = more;
+			} else {
+				large[countLarge++] = more;
+			}
+		}
+
+		// Remaining columns are full apart from rounding errors
+		while (countLarge > 0) {
+			int index = large[--countLarge];
+			probabilities[index] = 1.0;
+			aliases[index] = index;
+		}
+		while (countSmall > 0) {
+			int index = small[--countSmall];
+			probabilities[index] = 1.0;
+			aliases[index] = index;
 		}
-		return ranges;
+	}
+
+	@Override
+	public int nextInt(RandomChoice random, int maxExcluded) {
+		// Integer part selects the column, fractional part decides between column and its alias
+		double x = random.nextDouble() * probabilities.length;
+		int column = (int) x;
+		return (x - column) < probabilities[column] ? column : aliases[column];
 	}
 
 }
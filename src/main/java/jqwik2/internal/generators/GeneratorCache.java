@@ -0,0 +1,68 @@
+package jqwik2.internal.generators;
+
+import java.util.*;
+
+import jqwik2.api.*;
+import jqwik2.internal.*;
+
+/**
+ * Process-wide cache of the generators that are created for arbitraries.
+ *
+ * <p>Equal arbitraries, e.g. subclasses of {@code CacheableArbitrary} with equal parts,
+ * share a generator if the same decorators are applied to it.
+ * Arbitraries without value equality, e.g. lambdas from {@code map()} or {@code filter()},
+ * are usually created anew for each property, so their generators are not cached at all.
+ * Neither are generators that contain filters or flat maps, because those keep state while generating.</p>
+ */
+public class GeneratorCache {
+
+	private record Key(Arbitrary<?> arbitrary, List<Generator.DecoratorFunction> decorators) {}
+
+	// Keys of generators that must not be shared are cached with an empty value
+	private static final LruCache<Key, Optional<Generator<?>>> CACHE = new LruCache<>(JqwikDefaults.defaultGeneratorCacheSize());
+
+	private GeneratorCache() {}
+
+	/**
+	 * @param decorators Applied in order to the arbitrary's generator.
+	 *                   Equality of decorator functions is part of the cache key.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Generator<T> generator(Arbitrary<T> arbitrary, List<Generator.DecoratorFunction> decorators) {
+		if (!ValueEquality.hasValueEquality(arbitrary)) {
+			return (Generator<T>) createGenerator(arbitrary, decorators);
+		}
+		var key = new Key(arbitrary, List.copyOf(decorators));
+		var cached = CACHE.computeIfAbsent(key, k -> shareable(createGenerator(k.arbitrary(), k.decorators())));
+		return (Generator<T>) cached.orElseGet(() -> createGenerator(arbitrary, decorators));
+	}
+
+	/**
+	 * Filters count their tries and flat maps keep their child generators,
+	 * so properties must not share generators that contain them.
+	 * Decorating is only used to traverse the generator tree; the decorated generator is discarded.
+	 */
+	private static Optional<Generator<?>> shareable(Generator<?> generator) {
+		List<Generator<?>> statefulGenerators = new ArrayList<>();
+		generator.decorate(g -> {
+			if (g instanceof GeneratorFilter<?> || g instanceof GeneratorFlatMap<?, ?>) {
+				statefulGenerators.add(g);
+			}
+			return g;
+		});
+		return statefulGenerators.isEmpty() ? Optional.of(generator) : Optional.empty();
+	}
+
+	private static Generator<?> createGenerator(Arbitrary<?> arbitrary, List<Generator.DecoratorFunction> decorators) {
+		if (decorators.isEmpty()) {
+			return arbitrary.generator();
+		}
+		// Reuse the generator with all but the last decorator
+		var undecorated = generator(arbitrary, decorators.subList(0, decorators.size() - 1));
+		return decorators.getLast().apply(undecorated);
+	}
+
+	public static LruCache.Statistics statistics() {
+		return CACHE.statistics();
+	}
+}
@@ -1,6 +1,7 @@
 package jqwik2.internal.generators;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
 import jqwik2.api.*;
@@ -13,6 +14,10 @@ public class GeneratorFilter<T> implements Generator<T> {
 	private final Predicate<T> filter;
 	private final int maxMisses;
 
+	// Adders instead of atomics because tries can run concurrently
+	private final LongAdder tries = new LongAdder();
+	private final LongAdder accepted = new LongAdder();
+
 	public GeneratorFilter(Generator<T> generator, Predicate<T> filter, int maxMisses) {
 		this.generator = generator;
 		this.filter = filter;
@@ -39,10 +44,20 @@ public class GeneratorFilter<T> implements Generator<T> {
 		return generator.exhaustive();
 	}
 
+	/**
+	 * Statistics over all values generated since this filter was created.
+	 * Values that are only tested to filter edge cases are not counted.
+	 */
+	public FilterStatistics statistics() {
+		return new FilterStatistics(tries.sum(), accepted.sum());
+	}
+
 	private T generateUntilAccepted(GenSource source) {
 		for (int i = 0; i < maxMisses; i++) {
 			T value = generator.generate(source);
+			tries.increment();
 			if (filter.test(value)) {
+				accepted.increment();
 				return value;
 			}
 		}
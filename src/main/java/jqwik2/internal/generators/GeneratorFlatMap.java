@@ -1,32 +1,46 @@
 package jqwik2.internal.generators;
 
 import java.util.*;
-import java.util.concurrent.*;
 import java.util.function.*;
 
 import jqwik2.api.*;
 import jqwik2.api.recording.*;
+import jqwik2.internal.*;
 
 import static jqwik2.api.recording.Recording.*;
 
 public class GeneratorFlatMap<T, R> implements Generator<R> {
 	private final Generator<T> generator;
 	private final Function<T, Generator<R>> mapper;
-	private final Map<T, Generator<R>> cache = new ConcurrentHashMap<>();
+	private final SegmentedLruCache<T, Generator<R>> cache;
 
 	public GeneratorFlatMap(Generator<T> generator, Function<T, Generator<R>> mapper) {
+		this(generator, mapper, JqwikDefaults.defaultFlatMapCacheSize());
+	}
+
+	/**
+	 * @param cacheSize Maximum number of child generators that are kept for reuse.
+	 *                  Bounded because heads from wide ranges would otherwise fill memory over a long run.
+	 *                  Segmented because concurrent tries look up child generators at the same time.
+	 */
+	public GeneratorFlatMap(Generator<T> generator, Function<T, Generator<R>> mapper, int cacheSize) {
 		this.generator = generator;
 		this.mapper = mapper;
+		this.cache = new SegmentedLruCache<>(cacheSize);
 	}
 
 	@Override
 	public R generate(GenSource source) {
 		var tuple = source.tuple();
 		var valueToMap = generator.generate(tuple.nextValue());
-		Generator<R> rGenerator = cache.computeIfAbsent(valueToMap, mapper::apply);
+		Generator<R> rGenerator = cache.computeIfAbsent(valueToMap, mapper);
 		return rGenerator.generate(tuple.nextValue());
 	}
 
+	public LruCache.Statistics cacheStatistics() {
+		return cache.statistics();
+	}
+
 	@Override
 	public Iterable<Recording> edgeCases() {
 		// TODO: make sure this does not run infinitely in highly nested cases
@@ -0,0 +1,51 @@
+package jqwik2.internal.generators;
+
+import java.util.*;
+
+import jqwik2.api.*;
+
+/**
+ * Generates int arrays with the same recordings as a list generator with the same element generator.
+ */
+public class IntArrayGenerator extends AbstractCollectionGenerator<Integer, int[]> {
+
+	public IntArrayGenerator(Generator<Integer> elementGenerator, int minSize, int maxSize) {
+		super(elementGenerator, minSize, maxSize, Collections.emptySet());
+	}
+
+	@Override
+	public int[] generate(GenSource source) {
+		GenSource.Tuple arraySource = source.tuple();
+		int size = chooseSize(arraySource.nextValue());
+
+		int[] elements = new int[size];
+		GenSource.List elementsSource = arraySource.nextValue().list();
+		// Decorators other than the edge cases decorator can hide the int generator
+		if (elementGenerator instanceof IntGenerator intGenerator) {
+			for (int i = 0; i < size; i++) {
+				elements[i] = intGenerator.generateInt(elementsSource.nextElement());
+			}
+		} else {
+			for (int i = 0; i < size; i++) {
+				elements[i] = elementGenerator.generate(elementsSource.nextElement());
+			}
+		}
+		return elements;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Generator<int[]> decorate(DecoratorFunction decorator) {
+		Generator<Integer> decoratedElementGenerator = elementGenerator.decorate(decorator);
+		return (Generator<int[]>) decorator.apply(new IntArrayGenerator(decoratedElementGenerator, minSize, maxSize));
+	}
+
+	@Override
+	public Optional<ExhaustiveSource<?>> exhaustive() {
+		return ExhaustiveSource.flatMap(
+			ExhaustiveSource.choice(maxSize - minSize),
+			head -> ExhaustiveSource.list(chooseSize(head), elementGenerator.exhaustive())
+		);
+	}
+
+}
@@ -29,16 +29,23 @@ public class IntegerGenerationSupport {
 	 * @return a choice between min and max (included)
 	 */
 	public int chooseInt(int min, int max) {
+		return chooseInt(source, distribution, min, max);
+	}
+
+	/**
+	 * Same as {@linkplain #chooseInt(int, int)} without creating a support instance for every value.
+	 */
+	public static int chooseInt(GenSource source, RandomChoice.Distribution distribution, int min, int max) {
 		if (min > max) {
 			throw new IllegalArgumentException("min must be smaller than or equal to max");
 		}
 		if (isPositiveUnsignedIntRange(min, max)) {
-			return chooseUnsignedInt(min, max);
+			return chooseUnsignedInt(source, distribution, min, max);
 		}
 		if (isNegativeUnsignedIntRange(min, max)) {
-			return -chooseUnsignedInt(Math.abs(max), Math.abs(min));
+			return -chooseUnsignedInt(source, distribution, Math.abs(max), Math.abs(min));
 		}
-		return chooseFullRangedInt(min, max);
+		return chooseFullRangedInt(source, distribution, min, max);
 	}
 
 	public static Collection<Recording> edgeCases(int min, int max) {
@@ -76,40 +83,30 @@ public class IntegerGenerationSupport {
 		return min > 0 || (min == 0 && max < Integer.MAX_VALUE);
 	}
 
-	private int chooseFullRangedInt(int min, int max) {
-		while (true) {
-			GenSource.Tuple intSource = source.tuple();
-			boolean isMinValueOrMaxValueRequested = min == Integer.MIN_VALUE || max == Integer.MAX_VALUE;
-			int maxUnsigned = isMinValueOrMaxValueRequested
-								  ? Integer.MAX_VALUE
-								  : Math.max(Math.abs(min), Math.abs(max)) + 1;
-			int valueUnsigned = chooseUnsignedValue(intSource.nextValue().choice(), maxUnsigned);
-			int signOrMaxMin = chooseSignOrMaxMin(intSource.nextValue().choice());
-			if (signOrMaxMin == 1 && valueUnsigned == 0) {
-				// Optimization to generate 0 less often
-				continue;
-			}
-			if (signOrMaxMin == 2) {
-				// MAX_VALUE is generated for the case (max, 2),
-				if (max == Integer.MAX_VALUE && valueUnsigned == maxUnsigned - 1) {
-					return Integer.MAX_VALUE;
-				} else {
-					continue;
-				}
-			}
-			if (signOrMaxMin == 3) {
-				// MIN_VALUE is generated for the case (min, 3),
-				if (min == Integer.MIN_VALUE && valueUnsigned == maxUnsigned - 1) {
-					return Integer.MIN_VALUE;
-				} else {
-					continue;
-				}
-			}
-			int valueWithSign = signOrMaxMin == 0 ? valueUnsigned : -valueUnsigned;
-			if (valueWithSign >= min && valueWithSign <= max) {
-				return valueWithSign;
-			}
-		}
+	/**
+	 * Full ranged ints are chosen as a tuple of magnitude and sign.
+	 * A sign that does not fit the magnitude is flipped, i.e. the magnitude continues on the longer side of the range.
+	 * Thereby every tuple maps to a value in range without retries and shrinking the magnitude shrinks towards 0.
+	 */
+	private static int chooseFullRangedInt(GenSource source, RandomChoice.Distribution distribution, int min, int max) {
+		GenSource.Tuple intSource = source.tuple();
+		int valueUnsigned = intSource.nextValue().choice().choose(maxUnsigned(min, max), distribution);
+		int signOrMaxMin = chooseSignOrMaxMin(intSource.nextValue().choice());
+		int value = switch (signOrMaxMin) {
+			case 0 -> valueUnsigned <= max ? valueUnsigned : -valueUnsigned;
+			case 1 -> -valueUnsigned >= min ? -valueUnsigned : valueUnsigned;
+			case 2 -> max;
+			default -> min;
+		};
+		// Magnitude 0 is 0 for both signs, which is out of range for e.g. [MIN_VALUE, -1]
+		return Math.min(value, max);
+	}
+
+	private static int maxUnsigned(int min, int max) {
+		boolean isMinValueOrMaxValueRequested = min == Integer.MIN_VALUE || max == Integer.MAX_VALUE;
+		return isMinValueOrMaxValueRequested
+				   ? Integer.MAX_VALUE
+				   : Math.max(Math.abs(min), Math.abs(max)) + 1;
 	}
 
 	private static int chooseSignOrMaxMin(GenSource.Choice intSource) {
@@ -118,31 +115,32 @@ public class IntegerGenerationSupport {
 		return intSource.choose(4, ONLY_0_OR_1);
 	}
 
-	private int chooseUnsignedValue(GenSource.Choice intSource, int maxUnsigned) {
-		return intSource.choose(maxUnsigned, distribution);
-	}
-
-	private int chooseUnsignedInt(int min, int max) {
+	private static int chooseUnsignedInt(GenSource source, RandomChoice.Distribution distribution, int min, int max) {
 		int range = max - min;
-		int delta = chooseUnsignedValue(source.choice(), range + 1);
+		int delta = source.choice().choose(range + 1, distribution);
 		return min + delta;
 	}
 
 	private static Set<Recording> fullRangeIntEdgeCases(int min, int max) {
+		int maxUnsigned = maxUnsigned(min, max);
 		Set<Recording> recordings = new LinkedHashSet<>();
-		recordings.add(Recording.tuple(Math.abs(max), 0));
-		recordings.add(Recording.tuple(0, 0));
-		recordings.add(Recording.tuple(1, 1));
-		recordings.add(Recording.tuple(1, 0));
-
-		if (min == Integer.MIN_VALUE) {
-			recordings.add(Recording.tuple(Integer.MAX_VALUE - 1, 2));
-		}
-		if (max == Integer.MAX_VALUE) {
-			recordings.add(Recording.tuple(Integer.MAX_VALUE - 1, 3));
-		} else {
-			recordings.add(Recording.tuple(Math.abs(min), 1));
+		for (int edgeCase : new int[]{max, 0, -1, 1, min}) {
+			if (edgeCase >= min && edgeCase <= max) {
+				recordings.add(fullRangeIntRecording(edgeCase, maxUnsigned));
+			}
 		}
 		return recordings;
 	}
+
+	private static Recording fullRangeIntRecording(int value, int maxUnsigned) {
+		// MAX_VALUE and MIN_VALUE are out of reach for the magnitude choice
+		if (value >= 0) {
+			return value < maxUnsigned
+					   ? Recording.tuple(value, 0)
+					   : Recording.tuple(Integer.MAX_VALUE - 1, 2);
+		}
+		return -(long) value < maxUnsigned
+				   ? Recording.tuple(-value, 1)
+				   : Recording.tuple(Integer.MAX_VALUE - 1, 3);
+	}
 }
@@ -1,11 +1,12 @@
 package jqwik2.internal.generators;
 
 import java.util.*;
+import java.util.function.*;
 
 import jqwik2.api.*;
 import jqwik2.api.recording.*;
 
-public class IntegerGenerator implements Generator<Integer> {
+public class IntegerGenerator implements IntGenerator {
 	private final int min;
 	private final int max;
 	private final RandomChoice.Distribution distribution;
@@ -21,8 +22,24 @@ public class IntegerGenerator implements Generator<Integer> {
 	}
 
 	@Override
-	public Integer generate(GenSource source) {
-		return new IntegerGenerationSupport(source, distribution).chooseInt(min, max);
+	public int generateInt(GenSource source) {
+		return IntegerGenerationSupport.chooseInt(source, distribution, min, max);
+	}
+
+	/**
+	 * Range filters are pushed down into a generator with a narrowed range,
+	 * so that rejected values are never generated.
+	 */
+	@Override
+	public Generator<Integer> filter(Predicate<Integer> filter) {
+		if (filter instanceof IntRangeFilter range && !range.isEmpty()) {
+			int narrowedMin = Math.max(min, range.min());
+			int narrowedMax = Math.min(max, range.max());
+			if (narrowedMin <= narrowedMax) {
+				return new IntegerGenerator(narrowedMin, narrowedMax, distribution);
+			}
+		}
+		return IntGenerator.super.filter(filter);
 	}
 
 	@Override
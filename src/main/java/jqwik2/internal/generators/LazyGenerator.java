@@ -8,7 +8,7 @@ import jqwik2.api.recording.*;
 
 class LazyGenerator<T> implements Generator<T> {
 	private final Supplier<Generator<T>> generatorSupplier;
-	private Generator<T> generator;
+	private volatile Generator<T> generator;
 
 	public LazyGenerator(Supplier<Generator<T>> generatorSupplier) {
 		this.generatorSupplier = generatorSupplier;
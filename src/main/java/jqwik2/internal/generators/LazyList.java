@@ -0,0 +1,83 @@
+package jqwik2.internal.generators;
+
+import java.util.*;
+
+import jqwik2.api.*;
+import jqwik2.internal.*;
+
+/**
+ * A read-only list that generates its elements in order up to the highest index accessed.
+ *
+ * <p>When regenerated from a recording that holds fewer elements than the list's size,
+ * e.g. during shrinking, elements beyond the recorded prefix are generated from the
+ * simplest possible choices.</p>
+ *
+ * <p>Equality and hash code follow the {@linkplain List} contract and therefore generate all elements.
+ * {@linkplain #toString()}, however, is bounded and does not generate elements beyond the ones shown.</p>
+ */
+class LazyList<T> extends AbstractList<T> implements RandomAccess {
+
+	private static final int MAX_ELEMENTS_IN_STRING = 20;
+
+	private final Generator<T> elementGenerator;
+	private final GenSource.List elementsSource;
+	private final int size;
+	private final List<T> generated = new ArrayList<>();
+
+	private boolean sourceExhausted = false;
+
+	LazyList(Generator<T> elementGenerator, GenSource.List elementsSource, int size) {
+		this.elementGenerator = elementGenerator;
+		this.elementsSource = elementsSource;
+		this.size = size;
+	}
+
+	@Override
+	public synchronized T get(int index) {
+		Objects.checkIndex(index, size);
+		while (generated.size() <= index) {
+			generated.add(elementGenerator.generate(nextElementSource()));
+		}
+		return generated.get(index);
+	}
+
+	private GenSource nextElementSource() {
+		if (!sourceExhausted) {
+			try {
+				return elementsSource.nextElement();
+			} catch (CannotGenerateException e) {
+				sourceExhausted = true;
+			}
+		}
+		return GenSource.any();
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Shows the elements generated so far, and when regenerated from a recording the recorded ones,
+	 * but never more than {@value #MAX_ELEMENTS_IN_STRING}.
+	 */
+	@Override
+	public synchronized String toString() {
+		int limit = Math.min(size, MAX_ELEMENTS_IN_STRING);
+		while (generated.size() < limit && !sourceExhausted) {
+			try {
+				generated.add(elementGenerator.generate(elementsSource.nextElement()));
+			} catch (CannotGenerateException e) {
+				sourceExhausted = true;
+			}
+		}
+		List<T> shown = generated.subList(0, Math.min(generated.size(), limit));
+		if (shown.size() == size) {
+			return shown.toString();
+		}
+		String elements = shown.toString();
+		String prefix = elements.substring(0, elements.length() - 1);
+		String separator = shown.isEmpty() ? "" : ", ";
+		return "%s%s... (%d more)]".formatted(prefix, separator, size - shown.size());
+	}
+}
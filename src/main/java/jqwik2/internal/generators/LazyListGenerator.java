@@ -0,0 +1,41 @@
+package jqwik2.internal.generators;
+
+import java.util.*;
+
+import jqwik2.api.*;
+
+/**
+ * Generates lists whose size is chosen up front but whose elements are only generated when accessed.
+ *
+ * <p>The recording of a lazy list contains the elements that have been accessed so far,
+ * so memory and time depend on what a property actually reads and not on the list's size.</p>
+ */
+public class LazyListGenerator<T> extends AbstractCollectionGenerator<T, List<T>> {
+
+	public LazyListGenerator(Generator<T> elementGenerator, int minSize, int maxSize) {
+		super(elementGenerator, minSize, maxSize, Collections.emptySet());
+	}
+
+	@Override
+	public List<T> generate(GenSource source) {
+		GenSource.Tuple listSource = source.tuple();
+		int size = chooseSize(listSource.nextValue());
+		GenSource.List elementsSource = listSource.nextValue().list();
+		return new LazyList<>(elementGenerator, elementsSource, size);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Generator<List<T>> decorate(DecoratorFunction decorator) {
+		Generator<T> decoratedElementGenerator = elementGenerator.decorate(decorator);
+		return (Generator<List<T>>) decorator.apply(new LazyListGenerator<>(decoratedElementGenerator, minSize, maxSize));
+	}
+
+	@Override
+	public Optional<ExhaustiveSource<?>> exhaustive() {
+		return ExhaustiveSource.flatMap(
+			ExhaustiveSource.choice(maxSize - minSize),
+			head -> ExhaustiveSource.list(chooseSize(head), elementGenerator.exhaustive())
+		);
+	}
+}
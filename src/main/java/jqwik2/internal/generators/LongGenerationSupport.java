@@ -0,0 +1,143 @@
+package jqwik2.internal.generators;
+
+import java.util.*;
+
+import jqwik2.api.*;
+import jqwik2.api.recording.*;
+
+/**
+ * Chooses long values with a single {@linkplain GenSource.Choice#chooseLong(long) 64-bit choice}.
+ *
+ * <p>The choice is an index into the range: Ranges on one side of 0 count from the bound closest to 0,
+ * ranges that span 0 alternate between positive and negative values (0, 1, -1, 2, -2, ...).
+ * Thereby shrinking a choice always shrinks the value towards 0.</p>
+ *
+ * <p>Only ranges with more than Long.MAX_VALUE values need two choices: magnitude and sign.</p>
+ */
+public class LongGenerationSupport {
+
+	private static final RandomChoice.Distribution ONLY_0_OR_1 = (random, maxExcluded) -> random.nextInt(2);
+
+	private final GenSource source;
+
+	public LongGenerationSupport(GenSource source) {
+		this.source = source;
+	}
+
+	/**
+	 * Choose a value between min and max. Both included.
+	 * min must be smaller than or equal to max.
+	 *
+	 * @param min A value between Long.MIN_VALUE and Long.MAX_VALUE
+	 * @param max A value between min and Long.MAX_VALUE
+	 * @return a choice between min and max (included)
+	 */
+	public long chooseLong(long min, long max) {
+		if (min > max) {
+			throw new IllegalArgumentException("min must be smaller than or equal to max");
+		}
+		if (isSingleChoiceRange(min, max)) {
+			long index = source.choice().chooseLong(max - min + 1);
+			return fromIndex(min, max, index);
+		}
+		return chooseFullRangedLong(min, max);
+	}
+
+	public static Collection<Recording> edgeCases(long min, long max) {
+		Set<Recording> recordings = new LinkedHashSet<>();
+		for (long edgeCase : new long[]{min, max, 0, 1, -1}) {
+			if (edgeCase < min || edgeCase > max) {
+				continue;
+			}
+			if (isSingleChoiceRange(min, max)) {
+				recordings.add(Recording.choice(toIndex(min, max, edgeCase)));
+			} else {
+				recordings.add(fullRangeRecording(edgeCase));
+			}
+		}
+		return recordings;
+	}
+
+	public static Optional<ExhaustiveSource<?>> exhaustive(long min, long max) {
+		if (!isSingleChoiceRange(min, max) || max - min >= Integer.MAX_VALUE) {
+			return Optional.empty();
+		}
+		return ExhaustiveSource.choice((int) (max - min));
+	}
+
+	/**
+	 * Ranges with up to Long.MAX_VALUE values can be covered by a single choice.
+	 */
+	static boolean isSingleChoiceRange(long min, long max) {
+		// Overflows to a negative span for ranges with more than Long.MAX_VALUE values
+		long span = max - min;
+		return span >= 0 && span < Long.MAX_VALUE;
+	}
+
+	static long fromIndex(long min, long max, long index) {
+		if (min >= 0) {
+			return min + index;
+		}
+		if (max <= 0) {
+			return max - index;
+		}
+		long alternating = 2 * Math.min(max, -min);
+		if (index <= alternating) {
+			return (index % 2 == 1) ? (index + 1) / 2 : -(index / 2);
+		}
+		long beyondAlternating = (alternating / 2) + (index - alternating);
+		return max > -min ? beyondAlternating : -beyondAlternating;
+	}
+
+	static long toIndex(long min, long max, long value) {
+		if (min >= 0) {
+			return value - min;
+		}
+		if (max <= 0) {
+			return max - value;
+		}
+		long smallerSide = Math.min(max, -min);
+		long magnitude = Math.abs(value);
+		if (magnitude <= smallerSide) {
+			return value > 0 ? 2 * value - 1 : -2 * value;
+		}
+		return 2 * smallerSide + (magnitude - smallerSide);
+	}
+
+	private long chooseFullRangedLong(long min, long max) {
+		while (true) {
+			GenSource.Tuple longSource = source.tuple();
+			long magnitude = longSource.nextValue().choice().chooseLong(Long.MAX_VALUE);
+			int signOrMaxMin = chooseSignOrMaxMin(longSource.nextValue().choice());
+			long value = switch (signOrMaxMin) {
+				case 0 -> magnitude;
+				case 1 -> -magnitude - 1;
+				case 2 -> Long.MAX_VALUE;
+				default -> Long.MIN_VALUE;
+			};
+			// Only a range missing MIN_VALUE or MAX_VALUE can reject values
+			if (value >= min && value <= max) {
+				return value;
+			}
+		}
+	}
+
+	private static int chooseSignOrMaxMin(GenSource.Choice longSource) {
+		// 0: positive, 1: negative, 2: max, 3: min
+		// The random choice is only between 0 and 1. 2 and 3 are there for the edge cases
+		return longSource.choose(4, ONLY_0_OR_1);
+	}
+
+	private static Recording fullRangeRecording(long value) {
+		if (value == Long.MAX_VALUE) {
+			return Recording.tuple(Recording.choice(0), Recording.choice(2));
+		}
+		if (value == Long.MIN_VALUE) {
+			return Recording.tuple(Recording.choice(0), Recording.choice(3));
+		}
+		if (value < 0) {
+			return Recording.tuple(Recording.choice(-value - 1), Recording.choice(1));
+		}
+		return Recording.tuple(Recording.choice(value), Recording.choice(0));
+	}
+}
@@ -0,0 +1,42 @@
+package jqwik2.internal.generators;
+
+import java.util.*;
+
+import jqwik2.api.*;
+import jqwik2.api.recording.*;
+
+public class LongGenerator implements Generator<Long> {
+	private final long min;
+	private final long max;
+
+	public LongGenerator(long min, long max) {
+		if (min > max) {
+			throw new IllegalArgumentException("min must be smaller than or equal to max");
+		}
+		this.min = min;
+		this.max = max;
+	}
+
+	@Override
+	public Long generate(GenSource source) {
+		return new LongGenerationSupport(source).chooseLong(min, max);
+	}
+
+	@Override
+	public Iterable<Recording> edgeCases() {
+		return LongGenerationSupport.edgeCases(min, max);
+	}
+
+	@Override
+	public Optional<ExhaustiveSource<?>> exhaustive() {
+		return LongGenerationSupport.exhaustive(min, max);
+	}
+
+	public long max() {
+		return max;
+	}
+
+	public long min() {
+		return min;
+	}
+}
@@ -30,10 +30,6 @@ class SamplerSupplier {
 	}
 
 	private Generator<?> createGenerator(Arbitrary<?> arbitrary) {
-		Generator<?> generator = arbitrary.generator();
-		for (Generator.DecoratorFunction decorator : decorators) {
-			generator = decorator.apply(generator);
-		}
-		return generator;
+		return GeneratorCache.generator(arbitrary, decorators);
 	}
 }
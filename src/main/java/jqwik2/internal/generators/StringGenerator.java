@@ -1,5 +1,6 @@
 package jqwik2.internal.generators;
 
+import java.nio.charset.*;
 import java.util.*;
 
 import jqwik2.api.*;
@@ -9,11 +10,45 @@ class StringGenerator extends AbstractCollectionGenerator<Integer, String> {
 		super(codepoints, minLength, maxLength, Collections.emptySet());
 	}
 
+	/**
+	 * Code points are written directly into a byte or char buffer.
+	 * The recording is the same as for a list of code points.
+	 */
 	@Override
 	public String generate(GenSource source) {
-		return generateCollection(source).stream()
-										.collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
-										.toString();
+		GenSource.Tuple stringSource = source.tuple();
+		int length = chooseSize(stringSource.nextValue());
+		GenSource.List codepointsSource = stringSource.nextValue().list();
+
+		if (elementGenerator instanceof CodepointGenerator codepoints && codepoints.isLatin1()) {
+			byte[] bytes = new byte[length];
+			for (int i = 0; i < length; i++) {
+				bytes[i] = (byte) codepoints.generateInt(codepointsSource.nextElement());
+			}
+			return new String(bytes, StandardCharsets.ISO_8859_1);
+		}
+
+		char[] chars = new char[length];
+		int count = 0;
+		for (int i = 0; i < length; i++) {
+			int codepoint = nextCodepoint(codepointsSource.nextElement());
+			if (Character.isBmpCodePoint(codepoint)) {
+				chars[count++] = (char) codepoint;
+			} else {
+				// Supplementary code points need two chars
+				chars = Arrays.copyOf(chars, chars.length + 1);
+				count += Character.toChars(codepoint, chars, count);
+			}
+		}
+		return new String(chars, 0, count);
+	}
+
+	private int nextCodepoint(GenSource source) {
+		// Decorators, e.g. for edge cases, can hide the int generator
+		if (elementGenerator instanceof IntGenerator intGenerator) {
+			return intGenerator.generateInt(source);
+		}
+		return elementGenerator.generate(source);
 	}
 
 	@Override
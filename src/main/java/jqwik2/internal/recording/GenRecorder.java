@@ -1,22 +1,49 @@
 package jqwik2.internal.recording;
 
-import java.util.*;
 import java.util.function.*;
-import java.util.stream.*;
 
 import jqwik2.api.*;
 import jqwik2.api.recording.*;
 
-public class GenRecorder extends AbstractRecorder<GenSource> {
+import static jqwik2.internal.recording.RecordingTape.*;
 
-	private AbstractRecorder<? extends GenSource> concreteRecorder;
+/**
+ * Records all choices and the structure of a generated value.
+ *
+ * <p>All recorders of a single generated value share one {@linkplain RecordingTape}.
+ * Each recorder is just a handle to a node on that tape.
+ * The {@linkplain Recording} is only materialized when {@linkplain #recording()} is called,
+ * which usually happens only if a sample has failed or is being shrunk.</p>
+ */
+public class GenRecorder implements GenSource, GenSource.Choice, GenSource.List, GenSource.Tuple {
+
+	private final RecordingTape tape;
+	private final int node;
+
+	private GenSource source;
+	private Choice choiceSource;
+	private List listSource;
+	private Tuple tupleSource;
+
+	private Recording materialized = null;
+	private int materializedAt = -1;
 
 	public GenRecorder(GenSource source) {
-		super(source);
+		this(new RecordingTape(), source);
+	}
+
+	private GenRecorder(RecordingTape tape, GenSource source) {
+		this(tape, tape.newNode(), source);
+	}
+
+	private GenRecorder(RecordingTape tape, int node, GenSource source) {
+		this.tape = tape;
+		this.node = node;
+		this.source = source;
 	}
 
 	public GenRecorder swapInnerSource(Function<GenSource, GenSource> swap) {
-		if (concreteRecorder != null) {
+		if (tape.kind(node) != UNUSED) {
 			throw new IllegalStateException("Recording has already been started");
 		}
 		source = swap.apply(source);
@@ -24,150 +51,85 @@ public class GenRecorder extends AbstractRecorder<GenSource> {
 	}
 
 	public Recording recording() {
-		if (concreteRecorder == null) {
-			return Recording.EMPTY;
+		if (materializedAt != tape.modifications()) {
+			materialized = tape.materialize(node);
+			materializedAt = tape.modifications();
 		}
-		return concreteRecorder.recording();
+		return materialized;
 	}
 
 	@Override
 	public Choice choice() {
-		concreteRecorder = new ChoiceRecorder(source.choice());
-		return (Choice) concreteRecorder;
+		choiceSource = source.choice();
+		tape.start(node, CHOICE);
+		return this;
 	}
 
 	@Override
 	public List list() {
-		concreteRecorder = new ListRecorder(source.list());
-		return (List) concreteRecorder;
+		listSource = source.list();
+		tape.start(node, LIST);
+		return this;
 	}
 
 	@Override
 	public Tuple tuple() {
-		concreteRecorder = new TupleRecorder(source.tuple());
-		return (Tuple) concreteRecorder;
+		tupleSource = source.tuple();
+		tape.start(node, TUPLE);
+		return this;
 	}
 
-	static class ChoiceRecorder extends AbstractRecorder<Choice> implements Choice {
-
-		private Optional<Integer> optionalChoice = Optional.empty();
-
-		ChoiceRecorder(Choice source) {
-			super(source);
-		}
-
-		@Override
-		public Choice choice() {
-			return this;
-		}
-
-		@Override
-		Recording recording() {
-			return new ChoiceRecording(optionalChoice);
-		}
-
-		@Override
-		public int choose(int maxExcluded) {
-			int choice = source.choose(maxExcluded);
-			optionalChoice = Optional.of(choice);
-			return choice;
-		}
-
-		@Override
-		public int choose(int maxExcluded, RandomChoice.Distribution distribution) {
-			int choice = source.choose(maxExcluded, distribution);
-			optionalChoice = Optional.of(choice);
-			return choice;
-		}
+	@Override
+	public int choose(int maxExcluded) {
+		int choice = choiceSource().choose(maxExcluded);
+		tape.choose(node, choice);
+		return choice;
 	}
 
-	static class ListRecorder extends AbstractRecorder<List> implements List {
-
-		private final java.util.List<AbstractRecorder<?>> elements = new ArrayList<>();
-
-		ListRecorder(List source) {
-			super(source);
-		}
-
-		@Override
-		public List list() {
-			return this;
-		}
-
-		@Override
-		Recording recording() {
-			java.util.List<Recording> elementRecordings = elements.stream()
-																  .map(AbstractRecorder::recording)
-																  .collect(Collectors.toList());
-			return Recording.list(elementRecordings);
-		}
-
-		@Override
-		public GenSource nextElement() {
-			AbstractRecorder<?> next = new GenRecorder(source.nextElement());
-			elements.add(next);
-			return next;
-		}
-
+	@Override
+	public int choose(int maxExcluded, RandomChoice.Distribution distribution) {
+		int choice = choiceSource().choose(maxExcluded, distribution);
+		tape.choose(node, choice);
+		return choice;
 	}
 
-	static class TupleRecorder extends AbstractRecorder<Tuple> implements Tuple {
-
-		private final java.util.List<AbstractRecorder<?>> values = new ArrayList<>();
-
-		TupleRecorder(Tuple source) {
-			super(source);
-		}
-
-		@Override
-		public Tuple tuple() {
-			return this;
-		}
-
-		@Override
-		Recording recording() {
-			java.util.List<Recording> elementRecordings = new ArrayList<>();
-			for (AbstractRecorder<?> value : values) {
-				Recording recording = value.recording();
-				elementRecordings.add(recording);
-			}
-			return Recording.tuple(elementRecordings);
-		}
-
-		@Override
-		public GenSource nextValue() {
-			AbstractRecorder<?> next = new GenRecorder(source.nextValue());
-			values.add(next);
-			return next;
-		}
+	@Override
+	public long chooseLong(long maxExcluded) {
+		long choice = choiceSource().chooseLong(maxExcluded);
+		tape.choose(node, choice);
+		return choice;
 	}
 
-}
-
-abstract class AbstractRecorder<T extends GenSource> implements GenSource {
-
-	T source;
-
-	AbstractRecorder(T source) {
-		this.source = source;
+	@Override
+	public GenSource nextElement() {
+		GenSource next = listSource().nextElement();
+		return new GenRecorder(tape, tape.addChild(node), next);
 	}
 
-	abstract Recording recording();
-
 	@Override
-	public Choice choice() {
-		throw new UnsupportedOperationException("Should never be called");
+	public GenSource nextValue() {
+		GenSource next = tupleSource().nextValue();
+		return new GenRecorder(tape, tape.addChild(node), next);
 	}
 
-	@Override
-	public List list() {
-		throw new UnsupportedOperationException("Should never be called");
+	private Choice choiceSource() {
+		if (tape.kind(node) != CHOICE) {
+			choice();
+		}
+		return choiceSource;
 	}
 
-	@Override
-	public Tuple tuple() {
-		throw new UnsupportedOperationException("Should never be called");
+	private List listSource() {
+		if (tape.kind(node) != LIST) {
+			list();
+		}
+		return listSource;
 	}
 
+	private Tuple tupleSource() {
+		if (tape.kind(node) != TUPLE) {
+			tuple();
+		}
+		return tupleSource;
+	}
 }
-
@@ -105,7 +105,7 @@ public abstract sealed class RecordedSource<T extends Recording> implements GenS
 
 	private static final class RecordedChoice extends RecordedSource<ChoiceRecording> implements Choice {
 
-		private final Iterator<Integer> noneOrOneChoice;
+		private final Iterator<Long> noneOrOneChoice;
 
 		private RecordedChoice(ChoiceRecording recording, GenSource backUpSource) {
 			super(recording, backUpSource);
@@ -123,7 +123,7 @@ public abstract sealed class RecordedSource<T extends Recording> implements GenS
 				if (maxExcluded == 0) {
 					return 0;
 				}
-				return noneOrOneChoice.next() % maxExcluded;
+				return (int) (noneOrOneChoice.next() % maxExcluded);
 			} else {
 				if (backUpSource != null) {
 					return backUpSource.choice().choose(maxExcluded);
@@ -132,6 +132,21 @@ public abstract sealed class RecordedSource<T extends Recording> implements GenS
 			}
 		}
 
+		@Override
+		public long chooseLong(long maxExcluded) {
+			if (noneOrOneChoice.hasNext()) {
+				if (maxExcluded == 0) {
+					return 0;
+				}
+				return noneOrOneChoice.next() % maxExcluded;
+			} else {
+				if (backUpSource != null) {
+					return backUpSource.choice().chooseLong(maxExcluded);
+				}
+				throw new CannotGenerateException("No more choices!");
+			}
+		}
+
 		@Override
 		public int choose(int maxExcluded, RandomChoice.Distribution ignore) {
 			return choose(maxExcluded);
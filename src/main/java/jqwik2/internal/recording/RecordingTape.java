@@ -0,0 +1,134 @@
+package jqwik2.internal.recording;
+
+import java.util.*;
+
+import jqwik2.api.recording.*;
+
+/**
+ * A flat, primitive representation of a recording tree.
+ *
+ * <p>Each node occupies {@value #NODE_SIZE} consecutive ints in a single growing array:
+ * its kind, the low and high half of its choice (or {@value #NO_CHOICE}),
+ * its first child, its last child and its next sibling.
+ * Children are linked through their sibling slots, so that generators can draw from
+ * several sub-sources in any order without breaking the recorded structure.</p>
+ *
+ * <p>{@linkplain Recording} objects are only materialized on demand,
+ * e.g. when a sample has failed or is being shrunk.</p>
+ *
+ * <p>Not thread safe. A tape is only ever written by the thread generating a value.</p>
+ */
+final class RecordingTape {
+
+	static final int UNUSED = 0;
+	static final int CHOICE = 1;
+	static final int LIST = 2;
+	static final int TUPLE = 3;
+
+	static final int NO_CHOICE = -1;
+	private static final int NO_NODE = -1;
+
+	private static final int NODE_SIZE = 6;
+	private static final int KIND = 0;
+	private static final int VALUE_LOW = 1;
+	private static final int VALUE_HIGH = 2;
+	private static final int FIRST_CHILD = 3;
+	private static final int LAST_CHILD = 4;
+	private static final int NEXT_SIBLING = 5;
+
+	private static final int INITIAL_NODES = 8;
+
+	private int[] nodes = new int[INITIAL_NODES * NODE_SIZE];
+	private int size = 0;
+	private int modifications = 0;
+
+	int newNode() {
+		int node = size;
+		int end = (node + 1) * NODE_SIZE;
+		if (end > nodes.length) {
+			nodes = Arrays.copyOf(nodes, Math.max(end, nodes.length * 2));
+		}
+		int offset = node * NODE_SIZE;
+		nodes[offset + KIND] = UNUSED;
+		nodes[offset + VALUE_LOW] = NO_CHOICE;
+		nodes[offset + VALUE_HIGH] = NO_CHOICE;
+		nodes[offset + FIRST_CHILD] = NO_NODE;
+		nodes[offset + LAST_CHILD] = NO_NODE;
+		nodes[offset + NEXT_SIBLING] = NO_NODE;
+		size++;
+		modifications++;
+		return node;
+	}
+
+	int kind(int node) {
+		return nodes[node * NODE_SIZE + KIND];
+	}
+
+	/**
+	 * Set the kind of a node and discard everything previously recorded for it.
+	 */
+	void start(int node, int kind) {
+		int offset = node * NODE_SIZE;
+		nodes[offset + KIND] = kind;
+		nodes[offset + VALUE_LOW] = NO_CHOICE;
+		nodes[offset + VALUE_HIGH] = NO_CHOICE;
+		nodes[offset + FIRST_CHILD] = NO_NODE;
+		nodes[offset + LAST_CHILD] = NO_NODE;
+		modifications++;
+	}
+
+	void choose(int node, long choice) {
+		int offset = node * NODE_SIZE;
+		nodes[offset + VALUE_LOW] = (int) choice;
+		nodes[offset + VALUE_HIGH] = (int) (choice >>> 32);
+		modifications++;
+	}
+
+	private long choice(int offset) {
+		return ((long) nodes[offset + VALUE_HIGH] << 32) | (nodes[offset + VALUE_LOW] & 0xFFFFFFFFL);
+	}
+
+	int addChild(int parent) {
+		int child = newNode();
+		int parentOffset = parent * NODE_SIZE;
+		int lastChild = nodes[parentOffset + LAST_CHILD];
+		if (lastChild == NO_NODE) {
+			nodes[parentOffset + FIRST_CHILD] = child;
+		} else {
+			nodes[lastChild * NODE_SIZE + NEXT_SIBLING] = child;
+		}
+		nodes[parentOffset + LAST_CHILD] = child;
+		return child;
+	}
+
+	/**
+	 * A counter that changes whenever anything on the tape changes.
+	 * Can be used to invalidate materialized recordings.
+	 */
+	int modifications() {
+		return modifications;
+	}
+
+	Recording materialize(int node) {
+		int offset = node * NODE_SIZE;
+		return switch (nodes[offset + KIND]) {
+			case CHOICE -> {
+				long choice = choice(offset);
+				yield choice == NO_CHOICE ? Recording.choice() : Recording.choice(choice);
+			}
+			case LIST -> Recording.list(materializeChildren(node));
+			case TUPLE -> Recording.tuple(materializeChildren(node));
+			default -> Recording.EMPTY;
+		};
+	}
+
+	private List<Recording> materializeChildren(int parent) {
+		List<Recording> children = new ArrayList<>();
+		int child = nodes[parent * NODE_SIZE + FIRST_CHILD];
+		while (child != NO_NODE) {
+			children.add(materialize(child));
+			child = nodes[child * NODE_SIZE + NEXT_SIBLING];
+		}
+		return children;
+	}
+}
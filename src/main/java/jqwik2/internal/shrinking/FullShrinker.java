@@ -1,6 +1,7 @@
 package jqwik2.internal.shrinking;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
@@ -12,19 +13,48 @@ public class FullShrinker {
 	private final FalsifiedSample falsifiedSample;
 	private final Tryable tryable;
 	private final BiConsumer<TryExecutionResult, Sample> onTry;
+	private final ExecutorService executorService;
+	private final TryResultCache cache;
 
 	public FullShrinker(FalsifiedSample falsifiedSample, Tryable tryable) {
 		this(falsifiedSample, tryable, (result, sample) -> {});
 	}
 
 	public FullShrinker(FalsifiedSample falsifiedSample, Tryable tryable, BiConsumer<TryExecutionResult, Sample> onTry) {
+		this(falsifiedSample, tryable, onTry, null);
+	}
+
+	public FullShrinker(
+		FalsifiedSample falsifiedSample, Tryable tryable,
+		BiConsumer<TryExecutionResult, Sample> onTry,
+		ExecutorService executorService
+	) {
+		this(falsifiedSample, tryable, onTry, executorService, JqwikDefaults.defaultShrinkingCacheSize());
+	}
+
+	/**
+	 * @param executorService if not null, shrinking candidates are tried concurrently on this executor service
+	 * @param cacheSize       maximum number of try results to remember, 0 switches caching off
+	 */
+	public FullShrinker(
+		FalsifiedSample falsifiedSample, Tryable tryable,
+		BiConsumer<TryExecutionResult, Sample> onTry,
+		ExecutorService executorService,
+		int cacheSize
+	) {
 		this.falsifiedSample = falsifiedSample;
 		this.tryable = tryable;
 		this.onTry = onTry;
+		this.executorService = executorService;
+		this.cache = new TryResultCache(cacheSize);
+	}
+
+	public TryResultCache.Statistics cacheStatistics() {
+		return cache.statistics();
 	}
 
 	public FalsifiedSample shrinkToEnd(Consumer<FalsifiedSample> eachShrinkStep) {
-		Shrinker shrinker = new Shrinker(falsifiedSample, tryable, onTry);
+		Shrinker shrinker = createShrinker();
 		AtomicInteger countShrinkingSteps = new AtomicInteger(0);
 		while (true) {
 			Optional<FalsifiedSample> next = shrinker.next(countShrinkingSteps.incrementAndGet());
@@ -34,4 +64,14 @@ public class FullShrinker {
 			eachShrinkStep.accept(next.get());
 		}
 	}
+
+	private Shrinker createShrinker() {
+		if (executorService == null) {
+			return new Shrinker(falsifiedSample, tryable, onTry, cache);
+		}
+		return new ParallelShrinker(
+			falsifiedSample, tryable, onTry, cache,
+			executorService, JqwikDefaults.defaultParallelShrinkingBatchSize()
+		);
+	}
 }
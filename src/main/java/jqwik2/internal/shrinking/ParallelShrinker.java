@@ -0,0 +1,127 @@
+package jqwik2.internal.shrinking;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import java.util.stream.*;
+
+import jqwik2.api.*;
+import jqwik2.api.recording.*;
+import jqwik2.api.support.*;
+import jqwik2.internal.*;
+
+/**
+ * A shrinker that tries shrinking candidates in batches of fixed size on an executor service.
+ *
+ * <p>From each batch the smallest falsifying candidate is chosen.
+ * Listeners are notified in the caller's thread and in the order in which candidates are produced.
+ * Thereby results only depend on the batch size, not on scheduling.</p>
+ */
+public class ParallelShrinker extends Shrinker {
+
+	private final ExecutorService executorService;
+	private final int batchSize;
+
+	public ParallelShrinker(
+		FalsifiedSample falsifiedSample, Tryable tryable,
+		BiConsumer<TryExecutionResult, Sample> onTry,
+		TryResultCache cache,
+		ExecutorService executorService, int batchSize
+	) {
+		super(falsifiedSample, tryable, onTry, cache);
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("batchSize must be at least 1");
+		}
+		this.executorService = executorService;
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	protected Optional<Pair<Sample, TryExecutionResult>> findSmallerFalsified(
+		Stream<Sample> candidates,
+		Collection<Sample> invalidSamples
+	) {
+		Iterator<Sample> iterator = candidates.iterator();
+		while (iterator.hasNext()) {
+			List<Sample> batch = nextBatch(iterator);
+
+			Map<Integer, TryExecutionResult> results = new HashMap<>();
+			Map<Integer, Sample> toExecute = new LinkedHashMap<>();
+			// Candidates with the same recording are regenerated from it and therefore behave the same.
+			// Only the first one is tried, the others are treated like cache hits.
+			Map<SampleRecording, Integer> firstIndexByRecording = new HashMap<>();
+			Map<Integer, Integer> duplicates = new HashMap<>();
+			for (int i = 0; i < batch.size(); i++) {
+				SampleRecording recording = batch.get(i).recording();
+				Optional<TryExecutionResult> cachedResult = cachedResult(recording);
+				if (cachedResult.isPresent()) {
+					results.put(i, cachedResult.get());
+					continue;
+				}
+				Integer firstIndex = firstIndexByRecording.putIfAbsent(recording, i);
+				if (firstIndex != null) {
+					duplicates.put(i, firstIndex);
+				} else {
+					toExecute.put(i, batch.get(i));
+				}
+			}
+			results.putAll(executeAll(toExecute));
+			duplicates.forEach((index, firstIndex) -> results.put(index, results.get(firstIndex)));
+
+			Pair<Sample, TryExecutionResult> smallest = null;
+			for (int i = 0; i < batch.size(); i++) {
+				Pair<Sample, TryExecutionResult> pair = Pair.of(batch.get(i), results.get(i));
+				if (toExecute.containsKey(i)) {
+					tried(pair.first(), pair.second());
+				}
+				if (!isSmallerFailure(pair)) {
+					continue;
+				}
+				if (isInvalid(pair.second())) {
+					invalidSamples.add(pair.first());
+				}
+				if (isFalsified(pair.second())) {
+					if (smallest == null || pair.first().compareTo(smallest.first()) < 0) {
+						smallest = pair;
+					}
+				}
+			}
+			if (smallest != null) {
+				return Optional.of(smallest);
+			}
+		}
+		return Optional.empty();
+	}
+
+	private List<Sample> nextBatch(Iterator<Sample> iterator) {
+		List<Sample> batch = new ArrayList<>(batchSize);
+		while (iterator.hasNext() && batch.size() < batchSize) {
+			batch.add(iterator.next());
+		}
+		return batch;
+	}
+
+	private Map<Integer, TryExecutionResult> executeAll(Map<Integer, Sample> toExecute) {
+		if (toExecute.isEmpty()) {
+			return Map.of();
+		}
+		List<Integer> indices = new ArrayList<>(toExecute.keySet());
+		List<Callable<TryExecutionResult>> tries =
+			indices.stream()
+				   .map(index -> (Callable<TryExecutionResult>) () -> execute(toExecute.get(index)))
+				   .toList();
+		try {
+			Map<Integer, TryExecutionResult> results = new HashMap<>();
+			List<Future<TryExecutionResult>> futures = executorService.invokeAll(tries);
+			for (int i = 0; i < indices.size(); i++) {
+				results.put(indices.get(i), futures.get(i).get());
+			}
+			return results;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Shrinking has been interrupted");
+		} catch (ExecutionException e) {
+			return ExceptionSupport.throwAsUnchecked(e.getCause());
+		}
+	}
+}
@@ -2,14 +2,17 @@ package jqwik2.internal.shrinking;
 
 import java.util.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 import jqwik2.api.*;
+import jqwik2.api.recording.*;
 import jqwik2.internal.*;
 
 public class Shrinker {
 	private final Tryable tryable;
 	private final Throwable originalThrowable;
 	private final BiConsumer<TryExecutionResult, Sample> onTry;
+	private final TryResultCache cache;
 	private FalsifiedSample best;
 
 	public Shrinker(FalsifiedSample falsifiedSample, Tryable tryable) {
@@ -17,10 +20,19 @@ public class Shrinker {
 	}
 
 	public Shrinker(FalsifiedSample falsifiedSample, Tryable tryable, BiConsumer<TryExecutionResult, Sample> onTry) {
+		this(falsifiedSample, tryable, onTry, new TryResultCache(JqwikDefaults.defaultShrinkingCacheSize()));
+	}
+
+	public Shrinker(
+		FalsifiedSample falsifiedSample, Tryable tryable,
+		BiConsumer<TryExecutionResult, Sample> onTry,
+		TryResultCache cache
+	) {
 		this.tryable = tryable;
 		this.best = falsifiedSample;
 		this.originalThrowable = falsifiedSample.throwable();
 		this.onTry = onTry;
+		this.cache = cache;
 	}
 
 	public FalsifiedSample best() {
@@ -35,18 +47,7 @@ public class Shrinker {
 		while (true) {
 			// System.out.println("shrinkBase: " + shrinkBase);
 			Optional<Pair<Sample, TryExecutionResult>> shrinkingResult =
-				shrinkBase.shrink()
-						  .map(sample -> executeTry(sample))
-						  .filter(pair -> pair.second().status() != TryExecutionResult.Status.SATISFIED)
-						  .filter(pair -> pair.first().compareTo(best.sample()) < 0)
-						  .peek(pair -> {
-							  TryExecutionResult result = pair.second();
-							  if (isInvalid(result)) {
-								  invalidSamples.add(pair.first());
-							  }
-						  })
-						  .filter(pair -> isFalsified(pair.second()))
-						  .findAny();
+				findSmallerFalsified(shrinkBase.shrink(), invalidSamples);
 
 			if (shrinkingResult.isPresent()) {
 				Sample sample = shrinkingResult.get().first();
@@ -70,19 +71,68 @@ public class Shrinker {
 		}
 	}
 
+	/**
+	 * Find a falsifying candidate that is smaller than the current best sample.
+	 * All invalid candidates that have been tried on the way must be added to {@code invalidSamples}.
+	 */
+	protected Optional<Pair<Sample, TryExecutionResult>> findSmallerFalsified(
+		Stream<Sample> candidates,
+		Collection<Sample> invalidSamples
+	) {
+		return candidates.map(sample -> executeTry(sample))
+						 .filter(pair -> isSmallerFailure(pair))
+						 .peek(pair -> {
+							 if (isInvalid(pair.second())) {
+								 invalidSamples.add(pair.first());
+							 }
+						 })
+						 .filter(pair -> isFalsified(pair.second()))
+						 .findAny();
+	}
+
 	private Pair<Sample, TryExecutionResult> executeTry(Sample sample) {
-		// TODO: Cache all results and take from cache if available
+		SampleRecording recording = sample.recording();
+		Optional<TryExecutionResult> cachedResult = cachedResult(recording);
+		if (cachedResult.isPresent()) {
+			return new Pair<>(sample, cachedResult.get());
+		}
+		TryExecutionResult executionResult = execute(sample);
+		tried(sample, executionResult);
+		return new Pair<>(sample, executionResult);
+	}
+
+	protected Optional<TryExecutionResult> cachedResult(SampleRecording recording) {
+		return cache.get(recording);
+	}
+
+	/**
+	 * Execute a try and cache its result without notifying listeners. Can be called from any thread.
+	 *
+	 * <p>The result is cached for the recording after the try,
+	 * since lazily generated values only record what the try has accessed.</p>
+	 */
+	protected TryExecutionResult execute(Sample sample) {
 		TryExecutionResult executionResult = tryable.apply(sample);
+		sample.freezeRecordings();
+		cache.put(sample.recording(), executionResult);
+		return executionResult;
+	}
+
+	protected void tried(Sample sample, TryExecutionResult executionResult) {
 		onTry.accept(executionResult, sample);
-		return new Pair<>(sample, executionResult);
 	}
 
-	private boolean isFalsified(TryExecutionResult tryExecutionResult) {
+	protected boolean isSmallerFailure(Pair<Sample, TryExecutionResult> pair) {
+		return pair.second().status() != TryExecutionResult.Status.SATISFIED
+				   && pair.first().compareTo(best.sample()) < 0;
+	}
+
+	protected boolean isFalsified(TryExecutionResult tryExecutionResult) {
 		return tryExecutionResult.status() == TryExecutionResult.Status.FALSIFIED
 				   && isCompatibleError(tryExecutionResult.throwable());
 	}
 
-	private boolean isInvalid(TryExecutionResult result) {
+	protected boolean isInvalid(TryExecutionResult result) {
 		return result.status() == TryExecutionResult.Status.INVALID ||
 				   !isCompatibleError(result.throwable());
 	}
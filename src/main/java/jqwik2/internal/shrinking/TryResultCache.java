@@ -0,0 +1,58 @@
+package jqwik2.internal.shrinking;
+
+import java.util.*;
+
+import jqwik2.api.*;
+import jqwik2.api.recording.*;
+
+/**
+ * A bounded cache of try results during shrinking.
+ * The least recently used entry is evicted when the cache is full.
+ *
+ * <p>Shrinking candidates regularly overlap between shrinking steps,
+ * e.g. {@code choice - 1} and {@code choice / 2} for small choices.
+ * Those candidates need not be executed again.</p>
+ */
+public class TryResultCache {
+
+	public record Statistics(int hits, int misses) {
+		@Override
+		public String toString() {
+			return "%d hits, %d misses".formatted(hits, misses);
+		}
+	}
+
+	private final Map<SampleRecording, TryExecutionResult> results;
+	private int hits = 0;
+	private int misses = 0;
+
+	public TryResultCache(int maxSize) {
+		if (maxSize < 0) {
+			throw new IllegalArgumentException("maxSize must not be negative");
+		}
+		this.results = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<SampleRecording, TryExecutionResult> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	public synchronized Optional<TryExecutionResult> get(SampleRecording recording) {
+		TryExecutionResult result = results.get(recording);
+		if (result == null) {
+			misses++;
+			return Optional.empty();
+		}
+		hits++;
+		return Optional.of(result);
+	}
+
+	public synchronized void put(SampleRecording recording, TryExecutionResult result) {
+		results.put(recording, result);
+	}
+
+	public synchronized Statistics statistics() {
+		return new Statistics(hits, misses);
+	}
+}
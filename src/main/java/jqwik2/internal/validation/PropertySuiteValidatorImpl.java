@@ -0,0 +1,159 @@
+package jqwik2.internal.validation;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import jqwik2.api.*;
+import jqwik2.api.database.*;
+import jqwik2.api.description.*;
+import jqwik2.api.support.*;
+import jqwik2.api.validation.*;
+import jqwik2.internal.*;
+
+public class PropertySuiteValidatorImpl implements PropertySuiteValidator {
+
+	private final List<PropertyDescription> properties;
+
+	private int parallelism;
+	private FailureDatabase database;
+	private PlatformPublisher platformPublisher;
+	private boolean publishSuccessfulResults;
+
+	public PropertySuiteValidatorImpl(List<PropertyDescription> properties) {
+		this.properties = properties;
+		this.parallelism = JqwikDefaults.defaultSuiteParallelism();
+		this.database = JqwikDefaults.defaultFailureDatabase();
+		this.platformPublisher = JqwikDefaults.defaultPlatformPublisher();
+		this.publishSuccessfulResults = JqwikDefaults.defaultPublishSuccessfulResults();
+	}
+
+	@Override
+	public Map<PropertyDescription, PropertyValidationResult> validate(PropertyValidationStrategy strategy, Duration maxSuiteRuntime) {
+		Instant suiteDeadline = maxSuiteRuntime.isZero() ? null : Instant.now().plus(maxSuiteRuntime);
+		Map<PropertyDescription, PropertyValidationResult> results = new ConcurrentHashMap<>();
+
+		// Each worker takes the next property from the queue, so that prioritized properties are started first
+		// and a slow property does not hold back properties that were queued behind it.
+		Queue<PropertyDescription> queue = new ConcurrentLinkedQueue<>(prioritized(properties));
+		int countWorkers = Math.max(1, Math.min(parallelism, properties.size()));
+		ExecutorService executorService = Executors.newWorkStealingPool(countWorkers);
+		// Concurrent tries of all properties share one executor service, so that properties compete for the same threads.
+		// It is separate from the workers' pool since workers block while their property is running.
+		ExecutorService triesExecutorService = triesExecutorService(strategy);
+		try {
+			List<Callable<Void>> workers = new ArrayList<>();
+			for (int i = 0; i < countWorkers; i++) {
+				workers.add(() -> {
+					PropertyDescription property;
+					while ((property = queue.poll()) != null) {
+						results.put(property, validateProperty(property, strategy, suiteDeadline, triesExecutorService));
+					}
+					return null;
+				});
+			}
+			for (Future<Void> future : executorService.invokeAll(workers)) {
+				future.get();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			ExceptionSupport.throwAsUnchecked(e);
+		} catch (ExecutionException e) {
+			ExceptionSupport.throwAsUnchecked(e.getCause());
+		} finally {
+			executorService.shutdownNow();
+			if (triesExecutorService != null) {
+				triesExecutorService.shutdownNow();
+			}
+		}
+
+		Map<PropertyDescription, PropertyValidationResult> orderedResults = new LinkedHashMap<>();
+		for (PropertyDescription property : properties) {
+			orderedResults.put(property, results.get(property));
+		}
+		return orderedResults;
+	}
+
+	private static ExecutorService triesExecutorService(PropertyValidationStrategy strategy) {
+		Supplier<ExecutorService> supplier = RunConfigurationBuilder.executorServiceSupplier(strategy.concurrency());
+		return supplier == null ? null : supplier.get();
+	}
+
+	private List<PropertyDescription> prioritized(List<PropertyDescription> properties) {
+		List<PropertyDescription> failedBefore = new ArrayList<>();
+		List<PropertyDescription> others = new ArrayList<>();
+		for (PropertyDescription property : properties) {
+			if (database.hasFailed(property.id())) {
+				failedBefore.add(property);
+			} else {
+				others.add(property);
+			}
+		}
+		failedBefore.addAll(others);
+		return failedBefore;
+	}
+
+	private PropertyValidationResult validateProperty(
+		PropertyDescription property,
+		PropertyValidationStrategy strategy,
+		Instant suiteDeadline,
+		ExecutorService triesExecutorService
+	) {
+		PropertyValidationStrategy propertyStrategy = strategy;
+		if (suiteDeadline != null) {
+			Duration remaining = Duration.between(Instant.now(), suiteDeadline);
+			if (remaining.toMillis() <= 0) {
+				return abortedBecauseSuiteTimedOut();
+			}
+			if (strategy.maxRuntime().isZero() || remaining.compareTo(strategy.maxRuntime()) < 0) {
+				propertyStrategy = PropertyValidationStrategy.builder(strategy)
+															 .withMaxRuntime(remaining)
+															 .build();
+			}
+		}
+		return new PropertyValidatorImpl(property)
+			.shareExecutorService(triesExecutorService)
+			.failureDatabase(database)
+			.publisher(platformPublisher)
+			.publishSuccessfulResults(publishSuccessfulResults)
+			.validate(propertyStrategy);
+	}
+
+	private static PropertyValidationResult abortedBecauseSuiteTimedOut() {
+		var abortionReason = new TimeoutException("Suite runtime was used up before property could start");
+		PropertyRunResult runResult = new PropertyRunResult(
+			PropertyValidationStatus.ABORTED, 0, 0,
+			new TreeSet<>(), Optional.empty(), Optional.of(abortionReason),
+			true
+		);
+		return new PropertyValidationResultFacade(runResult);
+	}
+
+	@Override
+	public PropertySuiteValidator parallelism(int parallelism) {
+		if (parallelism < 1) {
+			throw new IllegalArgumentException("Parallelism must be at least 1 but was " + parallelism);
+		}
+		this.parallelism = parallelism;
+		return this;
+	}
+
+	@Override
+	public PropertySuiteValidator failureDatabase(FailureDatabase database) {
+		this.database = database;
+		return this;
+	}
+
+	@Override
+	public PropertySuiteValidator publisher(PlatformPublisher publisher) {
+		this.platformPublisher = publisher;
+		return this;
+	}
+
+	@Override
+	public PropertySuiteValidator publishSuccessfulResults(boolean publishSuccessfulResults) {
+		this.publishSuccessfulResults = publishSuccessfulResults;
+		return this;
+	}
+}
@@ -82,7 +82,7 @@ public class PropertyValidationResultFacade implements PropertyValidationResult
 			return smallestFalsifiedSample.thrown().get();
 		}
 
-		var message = "Property check failed with sample {%s}".formatted(smallestFalsifiedSample.sample().values());
+		var message = "Property check failed with sample {%s}".formatted(smallestFalsifiedSample.sample().valuesToString());
 		return new AssertionFailedError(message);
 	}
 
@@ -1,6 +1,7 @@
 package jqwik2.internal.validation;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -13,6 +14,7 @@ import jqwik2.api.statistics.*;
 import jqwik2.api.support.*;
 import jqwik2.api.validation.*;
 import jqwik2.internal.*;
+import jqwik2.internal.generators.*;
 import jqwik2.internal.reporting.*;
 import jqwik2.internal.statistics.*;
 
@@ -24,10 +26,13 @@ public class PropertyValidatorImpl implements PropertyValidator {
 	private final ReportSection parametersReport = new ReportSection("parameters");
 	private final ReportSection resultReport = new ReportSection("result");
 	private final List<BiConsumer<TryExecutionResult, Sample>> tryExecutionListeners = new ArrayList<>();
+	private final List<FilterUsage> filterUsages = new ArrayList<>();
 
 	private FailureDatabase database;
 	private PlatformPublisher platformPublisher;
 	private boolean publishSuccessfulResults;
+	private RandomChoice.Engine effectiveRandomEngine;
+	private ExecutorService sharedExecutorService = null;
 
 	public PropertyValidatorImpl(PropertyDescription property) {
 		this.property = property;
@@ -47,7 +52,9 @@ public class PropertyValidatorImpl implements PropertyValidator {
 		publishClassifyingReports(collectors);
 
 		if (shouldPublishResult(validationResult.status())) {
-			publishRunReport(validationResult, true);
+			publishRunReport(validationResult, result, true);
+		} else {
+			publishFilterWarnings();
 		}
 
 		return validationResult;
@@ -67,7 +74,9 @@ public class PropertyValidatorImpl implements PropertyValidator {
 		PropertyValidationResult validationResult = new PropertyValidationResultFacade(result, true);
 
 		if (shouldPublishResult(validationResult.status())) {
-			publishRunReport(validationResult, false);
+			publishRunReport(validationResult, result, false);
+		} else {
+			publishFilterWarnings();
 		}
 
 		return validationResult;
@@ -77,7 +86,7 @@ public class PropertyValidatorImpl implements PropertyValidator {
 		if (result.status() == PropertyValidationStatus.SUCCESSFUL) {
 			database.deleteProperty(property.id());
 		} else if (result.status() == PropertyValidationStatus.FAILED) {
-			database.saveFailure(property.id(), effectiveSeed.orElse(null), Set.of());
+			database.saveFailure(property.id(), storedSeed(effectiveSeed, OptionalLong.empty()), Set.of());
 		}
 	}
 
@@ -86,7 +95,7 @@ public class PropertyValidatorImpl implements PropertyValidator {
 		StatisticalError allowedError,
 		PropertyValidationStrategy strategy
 	) {
-		List<Generator<?>> generators = generators(strategy.edgeCases());
+		List<Generator<?>> generators = generators(strategy.edgeCases(), strategy.maxTries());
 		Tryable tryable = safeTryable(property.invariant(), Set.of());
 		PropertyRunner runner = createRunner(generators, tryable);
 
@@ -105,9 +114,11 @@ public class PropertyValidatorImpl implements PropertyValidator {
 		String validationLabel = "STATISTICAL(%s, %s)".formatted(minPercentage, allowedError);
 		parametersReport.append("validation", validationLabel);
 
-		PropertyRunConfiguration runConfiguration = new RunConfigurationBuilder(property.id(), generators, strategy, database)
-														.forStatisticalCheck()
-														.build(parametersReport);
+		var builder = new RunConfigurationBuilder(property.id(), generators, strategy, database)
+			.shareExecutorService(sharedExecutorService)
+			.forStatisticalCheck();
+		PropertyRunConfiguration runConfiguration = builder.build(parametersReport);
+		effectiveRandomEngine = builder.randomEngine();
 
 		return wrapWithStatisticalCheck(runConfiguration, minPercentage, allowedError);
 	}
@@ -146,7 +157,11 @@ public class PropertyValidatorImpl implements PropertyValidator {
 
 	private void publishOriginalSample(SortedSet<FalsifiedSample> falsifiedSamples, StringBuilder report) {
 		FalsifiedSample originalFalsifiedSample = falsifiedSamples.last();
-		publishSample("Original Falsified Sample", originalFalsifiedSample, report);
+		String label = originalFalsifiedSample.tryIndex().stream()
+											  .mapToObj("Original Falsified Sample (try %d)"::formatted)
+											  .findFirst()
+											  .orElse("Original Falsified Sample");
+		publishSample(label, originalFalsifiedSample, report);
 	}
 
 	private void publishSample(String label, FalsifiedSample sample, StringBuilder report) {
@@ -157,12 +172,20 @@ public class PropertyValidatorImpl implements PropertyValidator {
 		// TODO: Report differences between original and regenerated sample values
 		for (int index = 0; index < values.size(); index++) {
 			var arg = values.get(index);
-			argsReport.appendLn(0, "arg-%d: %s".formatted(index, arg));
+			argsReport.appendLn(0, "arg-%d: %s".formatted(index, formatArg(arg)));
 		}
 	}
 
+	private static String formatArg(Object arg) {
+		if (arg != null && arg.getClass().isArray()) {
+			String wrapped = Arrays.deepToString(new Object[]{arg});
+			return wrapped.substring(1, wrapped.length() - 1);
+		}
+		return String.valueOf(arg);
+	}
+
 	private PropertyRunResult runStrictValidation(PropertyValidationStrategy strategy, Set<ClassifyingCollector<List<Object>>> collectors) {
-		List<Generator<?>> generators = generators(strategy.edgeCases());
+		List<Generator<?>> generators = generators(strategy.edgeCases(), strategy.maxTries());
 		Tryable tryable = safeTryable(property.invariant(), collectors);
 		PropertyRunner runner = createRunner(generators, tryable);
 
@@ -176,17 +199,20 @@ public class PropertyValidatorImpl implements PropertyValidator {
 	private PropertyRunner createRunner(List<Generator<?>> generators, Tryable tryable) {
 		PropertyRunner propertyRunner = new PropertyRunner(generators, tryable);
 		tryExecutionListeners.forEach(propertyRunner::registerTryExecutionListener);
+		// Shrinking runs through the same filters; their rejections must not count as filter tries
+		propertyRunner.registerGenerationFinishedListener(() -> filterUsages.forEach(FilterUsage::freeze));
 		return propertyRunner;
 	}
 
-	private void publishRunReport(PropertyValidationResult result, boolean publishFalsifiedSamples) {
-		fillInResultReport(result);
+	private void publishRunReport(PropertyValidationResult result, PropertyRunResult runResult, boolean publishFalsifiedSamples) {
+		fillInResultReport(result, runResult);
 
 		StringBuilder report = new StringBuilder();
 
 		result.failure().ifPresent(failure -> publishFailure(failure, report));
 		resultReport.publish(report);
 		parametersReport.publish(report);
+		filtersReport().publish(report);
 
 		if (publishFalsifiedSamples) {
 			publishFalsifiedSamples(result.falsifiedSamples(), report);
@@ -196,12 +222,35 @@ public class PropertyValidatorImpl implements PropertyValidator {
 		platformPublisher.publish(reportKey, report.toString());
 	}
 
-	private void fillInResultReport(PropertyValidationResult result) {
+	private void fillInResultReport(PropertyValidationResult result, PropertyRunResult runResult) {
 		resultReport.append("status", result.status().name());
 		result.failure()
 			  .ifPresent(failure -> resultReport.append("failure", failure.getClass().getName()));
 		resultReport.append("# tries", result.countTries());
 		resultReport.append("# checks", result.countChecks());
+		runResult.shrinkingCacheStatistics()
+				 .ifPresent(statistics -> resultReport.append("shrinking cache", statistics));
+	}
+
+	private ReportSection filtersReport() {
+		var filtersReport = new ReportSection("filters");
+		double minAcceptanceRate = JqwikDefaults.defaultMinFilterAcceptanceRate();
+		for (FilterUsage usage : filterUsages) {
+			FilterStatistics statistics = usage.statistics();
+			String warning = statistics.acceptanceRate() < minAcceptanceRate
+								 ? String.format(Locale.ROOT, " WARNING: less than %.2f%%", minAcceptanceRate * 100)
+								 : "";
+			filtersReport.append(usage.label(), statistics + warning);
+		}
+		return filtersReport;
+	}
+
+	private void publishFilterWarnings() {
+		double minAcceptanceRate = JqwikDefaults.defaultMinFilterAcceptanceRate();
+		boolean anyBelowMin = filterUsages.stream().anyMatch(u -> u.statistics().acceptanceRate() < minAcceptanceRate);
+		if (anyBelowMin) {
+			filtersReport().publish("%s: filters".formatted(property.id()), platformPublisher);
+		}
 	}
 
 	private void publishFailure(Throwable throwable, StringBuilder report) {
@@ -224,35 +273,71 @@ public class PropertyValidatorImpl implements PropertyValidator {
 		return status != PropertyValidationStatus.SUCCESSFUL || publishSuccessfulResults;
 	}
 
-	private List<Generator<?>> generators(PropertyValidationStrategy.EdgeCasesMode edgeCasesMode) {
+	private List<Generator<?>> generators(PropertyValidationStrategy.EdgeCasesMode edgeCasesMode, int maxTries) {
 		List<Generator<?>> generators = new ArrayList<>();
-		Optional<Generator.DecoratorFunction> edgeCasesDecorator = edgeCasesDecorator(edgeCasesMode);
+		List<Generator.DecoratorFunction> decorators = edgeCasesDecorator(edgeCasesMode, maxTries).map(List::of).orElse(List.of());
+		filterUsages.clear();
 		for (Arbitrary<?> a : property.arbitraries()) {
-			Generator<?> toDecorate = a.generator();
-			if (edgeCasesDecorator.isPresent()) {
-				toDecorate = edgeCasesDecorator.get().apply(toDecorate);
-			}
-			generators.add(toDecorate);
+			Generator<?> generator = GeneratorCache.generator(a, decorators);
+			collectFilterUsages("arg-%d".formatted(generators.size()), generator);
+			generators.add(generator);
 		}
 		return generators;
 	}
 
-	private Tryable safeTryable(Condition condition, Set<ClassifyingCollector<List<Object>>> collectors) {
-		return Tryable.from(args -> {
-			try {
-				collectors.forEach(c -> c.classify(args));
-				return condition.check(args);
-			} catch (Throwable t) {
-				ExceptionSupport.rethrowIfBlacklisted(t);
-				return ExceptionSupport.throwAsUnchecked(t);
+	private void collectFilterUsages(String argLabel, Generator<?> generator) {
+		List<GeneratorFilter<?>> filters = filters(generator);
+		for (int i = 0; i < filters.size(); i++) {
+			String label = i == 0 ? argLabel : "%s #%d".formatted(argLabel, i + 1);
+			filterUsages.add(new FilterUsage(label, filters.get(i)));
+		}
+	}
+
+	/**
+	 * Decorating is only used to traverse the generator tree; the decorated generator is discarded.
+	 * Filters hidden in flat-mapping functions cannot be found this way.
+	 */
+	private static List<GeneratorFilter<?>> filters(Generator<?> generator) {
+		List<GeneratorFilter<?>> filters = new ArrayList<>();
+		generator.decorate(g -> {
+			if (g instanceof GeneratorFilter<?> filter) {
+				filters.add(filter);
 			}
+			return g;
 		});
+		return filters;
 	}
 
-	private static Optional<Generator.DecoratorFunction> edgeCasesDecorator(PropertyValidationStrategy.EdgeCasesMode edgeCasesMode) {
+	private Tryable safeTryable(Condition condition, Set<ClassifyingCollector<List<Object>>> collectors) {
+		return Tryable.from(
+			args -> {
+				try {
+					collectors.forEach(c -> c.classify(args));
+					return condition.check(args);
+				} catch (Throwable t) {
+					ExceptionSupport.rethrowIfBlacklisted(t);
+					return ExceptionSupport.throwAsUnchecked(t);
+				}
+			},
+			sample -> {
+				try {
+					// Only classifiers need the boxed values
+					if (!collectors.isEmpty()) {
+						List<Object> args = sample.values();
+						collectors.forEach(c -> c.classify(args));
+					}
+					return condition.check(sample);
+				} catch (Throwable t) {
+					ExceptionSupport.rethrowIfBlacklisted(t);
+					return ExceptionSupport.throwAsUnchecked(t);
+				}
+			}
+		);
+	}
+
+	private static Optional<Generator.DecoratorFunction> edgeCasesDecorator(PropertyValidationStrategy.EdgeCasesMode edgeCasesMode, int maxTries) {
 		return switch (edgeCasesMode) {
-			// TODO: Calculate edge cases probability and maxEdgeCases from maxTries
-			case MIXIN -> Optional.of(WithEdgeCasesDecorator.function(0.05, 100));
+			case MIXIN -> Optional.of(WithEdgeCasesDecorator.function(maxTries));
 			case OFF -> Optional.empty();
 			case null -> throw new IllegalArgumentException("Edge cases mode must not be null");
 		};
@@ -266,7 +351,10 @@ public class PropertyValidatorImpl implements PropertyValidator {
 		String validationLabel = "STRICT";
 		parametersReport.append("validation", validationLabel);
 
-		var plainRunConfiguration = new RunConfigurationBuilder(property.id(), generators, strategy, database).build(parametersReport);
+		var builder = new RunConfigurationBuilder(property.id(), generators, strategy, database)
+			.shareExecutorService(sharedExecutorService);
+		var plainRunConfiguration = builder.build(parametersReport);
+		effectiveRandomEngine = builder.randomEngine();
 
 		if (!isCoverageCheckPresent(collectors)) {
 			return plainRunConfiguration;
@@ -340,7 +428,23 @@ public class PropertyValidatorImpl implements PropertyValidator {
 		Set<SampleRecording> sampleRecordings = result.falsifiedSamples().stream()
 													  .map(s -> s.sample().recording())
 													  .collect(Collectors.toSet());
-		database.saveFailure(property.id(), effectiveSeed.orElse(null), sampleRecordings);
+		OptionalLong firstFailingTry = result.falsifiedSamples().stream()
+											 .map(FalsifiedSample::tryIndex)
+											 .filter(OptionalLong::isPresent)
+											 .mapToLong(OptionalLong::getAsLong)
+											 .min();
+		database.saveFailure(property.id(), storedSeed(effectiveSeed, firstFailingTry), sampleRecordings);
+	}
+
+	/**
+	 * Counter-based runs are replayed starting with the first failing try.
+	 */
+	private String storedSeed(Optional<String> effectiveSeed, OptionalLong firstFailingTry) {
+		RandomChoice.Engine engine = effectiveRandomEngine;
+		if (engine instanceof CounterBasedEngine counterBased && firstFailingTry.isPresent()) {
+			engine = counterBased.startingAt(firstFailingTry.getAsLong());
+		}
+		return StoredSeed.encode(engine, effectiveSeed.orElse(null));
 	}
 
 	@Override
@@ -361,9 +465,47 @@ public class PropertyValidatorImpl implements PropertyValidator {
 		return this;
 	}
 
+	/**
+	 * Used by suites, so that their properties do not each create an executor service for concurrent tries.
+	 */
+	PropertyValidatorImpl shareExecutorService(ExecutorService sharedExecutorService) {
+		this.sharedExecutorService = sharedExecutorService;
+		return this;
+	}
+
 	@Override
 	public PropertyValidator registerTryExecutionListener(BiConsumer<TryExecutionResult, Sample> tryExecutionListener) {
 		tryExecutionListeners.add(tryExecutionListener);
 		return this;
 	}
+
+	/**
+	 * Statistics are only reported up to the end of generation because shrinking also goes through the filters.
+	 */
+	private static class FilterUsage {
+		private final String label;
+		private final GeneratorFilter<?> filter;
+		private volatile FilterStatistics frozen = null;
+
+		private FilterUsage(String label, GeneratorFilter<?> filter) {
+			this.label = label;
+			this.filter = filter;
+		}
+
+		String label() {
+			return label;
+		}
+
+		void freeze() {
+			frozen = statistics();
+		}
+
+		FilterStatistics statistics() {
+			FilterStatistics current = frozen;
+			if (current != null) {
+				return current;
+			}
+			return filter.statistics();
+		}
+	}
 }
@@ -28,6 +28,8 @@ class RunConfigurationBuilder {
 	private EdgeCasesMode edgeCases;
 	private ConcurrencyMode concurrency;
 	private boolean filterOutDuplicateSamples;
+	private RandomChoice.Engine randomEngine;
+	private ExecutorService sharedExecutorService = null;
 
 	RunConfigurationBuilder(String id, List<Generator<?>> generators, PropertyValidationStrategy strategy, FailureDatabase database) {
 		this.id = id;
@@ -40,19 +42,24 @@ class RunConfigurationBuilder {
 		this.edgeCases = strategy.edgeCases();
 		this.concurrency = strategy.concurrency();
 		this.filterOutDuplicateSamples = strategy.filterOutDuplicateSamples();
+		this.randomEngine = strategy.randomEngine();
 	}
 
 	PropertyRunConfiguration build(ReportSection parametersReport) {
 		PropertyRunConfiguration runConfiguration = buildConfiguration(parametersReport);
+		if (shrinking == ShrinkingMode.PARALLEL && runConfiguration.shrinkingEnabled()) {
+			runConfiguration = PropertyRunConfiguration.withParallelShrinking(runConfiguration);
+		}
 		parametersReport.append("max tries", runConfiguration.maxTries());
 		parametersReport.append("max runtime", runConfiguration.maxRuntime());
 		parametersReport.append("filter duplicates", filterOutDuplicateSamples);
 		parametersReport.append("shrinking", shrinking);
 		parametersReport.append("edge cases", edgeCases);
 		parametersReport.append("concurrency", concurrency);
-		runConfiguration.effectiveSeed().ifPresent(
-			seed -> parametersReport.append("seed", seed)
-		);
+		runConfiguration.effectiveSeed().ifPresent(seed -> {
+			parametersReport.append("random engine", randomEngine);
+			parametersReport.append("seed", seed);
+		});
 
 		return runConfiguration;
 	}
@@ -87,11 +94,32 @@ class RunConfigurationBuilder {
 
 	private PropertyRunConfiguration replayLastRun(List<Generator<?>> generators, ReportSection parametersReport) {
 		Supplier<String> seedSupplier = database.loadSeed(id)
-												.map(s -> (Supplier<String>) () -> s)
+												.map(stored -> StoredSeed.decode(stored, randomEngine))
+												.map(storedSeed -> {
+													// Replay with the engine the seed has been used with
+													randomEngine = storedSeed.engine();
+													return (Supplier<String>) storedSeed::seed;
+												})
 												.orElseGet(strategy::seedSupplier);
 		return buildDefaultConfiguration(generators, seedSupplier, parametersReport);
 	}
 
+	/**
+	 * Concurrent tries run on the threads of this executor service instead of one created for this property.
+	 * Has no effect with {@link ConcurrencyMode#SINGLE_THREAD}.
+	 */
+	RunConfigurationBuilder shareExecutorService(ExecutorService sharedExecutorService) {
+		this.sharedExecutorService = sharedExecutorService;
+		return this;
+	}
+
+	/**
+	 * The random engine of the built configuration, which can differ from the strategy's engine when replaying.
+	 */
+	RandomChoice.Engine randomEngine() {
+		return randomEngine;
+	}
+
 	private PropertyRunConfiguration buildDefaultConfiguration(
 		List<Generator<?>> generators,
 		Supplier<String> seedSupplier,
@@ -154,6 +182,7 @@ class RunConfigurationBuilder {
 			isShrinkingEnabled(),
 			filterOutDuplicateSamples,
 			serviceSupplier(),
+			randomEngine,
 			generators,
 			parametersReport
 		);
@@ -174,11 +203,22 @@ class RunConfigurationBuilder {
 			maxTries,
 			maxRuntime, isShrinkingEnabled(),
 			filterOutDuplicateSamples,
-			serviceSupplier()
+			serviceSupplier(),
+			randomEngine
 		);
 	}
 
 	private Supplier<ExecutorService> serviceSupplier() {
+		if (sharedExecutorService != null && concurrency != ConcurrencyMode.SINGLE_THREAD) {
+			return () -> new BorrowedExecutorService(sharedExecutorService);
+		}
+		return executorServiceSupplier(concurrency);
+	}
+
+	/**
+	 * @return null if tries should run in the calling thread
+	 */
+	static Supplier<ExecutorService> executorServiceSupplier(ConcurrencyMode concurrency) {
 		return switch (concurrency) {
 			case SINGLE_THREAD -> null;
 			case CACHED_THREAD_POOL -> Executors::newCachedThreadPool;
@@ -189,7 +229,7 @@ class RunConfigurationBuilder {
 	}
 
 	private boolean isShrinkingEnabled() {
-		return shrinking == ShrinkingMode.FULL;
+		return shrinking != ShrinkingMode.OFF;
 	}
 
 	RunConfigurationBuilder forStatisticalCheck() {
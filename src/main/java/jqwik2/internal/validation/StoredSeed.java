@@ -0,0 +1,74 @@
+package jqwik2.internal.validation;
+
+import java.util.*;
+
+import jqwik2.api.*;
+import jqwik2.internal.*;
+
+/**
+ * A seed as stored in a failure database, prefixed with the random engine it was used with,
+ * e.g. {@code XOSHIRO_256_STAR_STAR:42}. Thereby a replay creates the same samples
+ * even if the default or configured engine has changed in between.
+ *
+ * <p>Only standard engines - plain or counter-based - can be named.
+ * Counter-based engines also keep the try to start with, e.g. {@code COUNTER_BASED(XOSHIRO_256_STAR_STAR)@17:42}.
+ * Seeds of other engines, and seeds stored without engine, are replayed with the configured engine.</p>
+ */
+record StoredSeed(RandomChoice.Engine engine, String seed) {
+
+	private static final char SEPARATOR = ':';
+	private static final String COUNTER_BASED = "COUNTER_BASED(%s)";
+	private static final char TRY_INDEX_SEPARATOR = '@';
+
+	static String encode(RandomChoice.Engine engine, String seed) {
+		if (seed == null) {
+			return null;
+		}
+		return engineName(engine).map(name -> name + SEPARATOR + seed).orElse(seed);
+	}
+
+	static StoredSeed decode(String stored, RandomChoice.Engine configuredEngine) {
+		int separatorIndex = stored.indexOf(SEPARATOR);
+		if (separatorIndex >= 0) {
+			Optional<RandomChoice.Engine> engine = engineFromName(stored.substring(0, separatorIndex));
+			if (engine.isPresent()) {
+				return new StoredSeed(engine.get(), stored.substring(separatorIndex + 1));
+			}
+		}
+		return new StoredSeed(configuredEngine, stored);
+	}
+
+	private static Optional<String> engineName(RandomChoice.Engine engine) {
+		return switch (engine) {
+			case RandomChoice.StandardEngine standard -> Optional.of(standard.name());
+			case CounterBasedEngine(RandomChoice.StandardEngine standard, long firstTryIndex) -> {
+				String name = COUNTER_BASED.formatted(standard.name());
+				yield Optional.of(firstTryIndex == 0 ? name : name + TRY_INDEX_SEPARATOR + firstTryIndex);
+			}
+			default -> Optional.empty();
+		};
+	}
+
+	private static Optional<RandomChoice.Engine> engineFromName(String name) {
+		String engineName = name;
+		long firstTryIndex = 0;
+		int tryIndexStart = name.indexOf(TRY_INDEX_SEPARATOR);
+		if (tryIndexStart >= 0) {
+			engineName = name.substring(0, tryIndexStart);
+			try {
+				firstTryIndex = Long.parseLong(name.substring(tryIndexStart + 1));
+			} catch (NumberFormatException e) {
+				return Optional.empty();
+			}
+		}
+		for (RandomChoice.StandardEngine standard : RandomChoice.StandardEngine.values()) {
+			if (tryIndexStart < 0 && engineName.equals(standard.name())) {
+				return Optional.of(standard);
+			}
+			if (engineName.equals(COUNTER_BASED.formatted(standard.name())) && firstTryIndex >= 0) {
+				return Optional.of(RandomChoice.Engine.counterBased(standard, firstTryIndex));
+			}
+		}
+		return Optional.empty();
+	}
+}
@@ -12,11 +12,16 @@ import jqwik2.api.support.*;
 public class DirectoryBasedTddDatabase extends AbstractDirectoryBasedDatabase implements TddDatabase {
 
 	public static final String CASE_PREFIX = "tdd#";
+	public static final String BINARY_SUFFIX = ".bin";
 
 	public DirectoryBasedTddDatabase(Path databasePath) {
 		super(databasePath);
 	}
 
+	public DirectoryBasedTddDatabase(Path databasePath, RecordingFormat recordingFormat) {
+		super(databasePath, recordingFormat);
+	}
+
 	@Override
 	public void saveSample(String propertyId, String caseLabel, SampleRecording recording) {
 		ExceptionSupport.runUnchecked(() -> {
@@ -26,9 +31,17 @@ public class DirectoryBasedTddDatabase extends AbstractDirectoryBasedDatabase im
 	}
 
 	private void saveSampleToCase(SampleRecording recording, String caseLabel, Path propertyDirectory) throws IOException {
-		Path caseFile = caseFile(caseLabel, propertyDirectory);
-		var recordings = readSampleRecordings(caseFile);
-		if (!recordings.contains(recording)) {
+		var recordings = readSampleRecordings(caseLabel, propertyDirectory);
+		if (recordings.contains(recording)) {
+			return;
+		}
+		if (recordingFormat == RecordingFormat.BINARY) {
+			Path caseFile = caseFile(caseLabel, propertyDirectory, BINARY_SUFFIX);
+			try (var out = new BufferedOutputStream(Files.newOutputStream(caseFile, StandardOpenOption.APPEND))) {
+				recording.writeTo(out);
+			}
+		} else {
+			Path caseFile = caseFile(caseLabel, propertyDirectory, "");
 			try (var writer = Files.newBufferedWriter(caseFile, StandardOpenOption.APPEND)) {
 				writer.write(recording.serialize());
 				writer.newLine();
@@ -36,15 +49,19 @@ public class DirectoryBasedTddDatabase extends AbstractDirectoryBasedDatabase im
 		}
 	}
 
-	private Path caseFile(String caseLabel, Path propertyDirectory) throws IOException {
-		var caseLabelFileName = CASE_PREFIX + toFileName(caseLabel);
-		Path caseFile = propertyDirectory.resolve(caseLabelFileName);
+	private Path caseFile(String caseLabel, Path propertyDirectory, String suffix) throws IOException {
+		Path caseFile = caseFilePath(caseLabel, propertyDirectory, suffix);
 		if (Files.notExists(caseFile)) {
 			Files.createFile(caseFile);
 		}
 		return caseFile;
 	}
 
+	private static Path caseFilePath(String caseLabel, Path propertyDirectory, String suffix) {
+		var caseLabelFileName = CASE_PREFIX + toFileName(caseLabel) + suffix;
+		return propertyDirectory.resolve(caseLabelFileName);
+	}
+
 	@Override
 	public Set<SampleRecording> loadSamples(String propertyId, String caseLabel) {
 		return ExceptionSupport.runUnchecked(() -> {
@@ -52,17 +69,31 @@ public class DirectoryBasedTddDatabase extends AbstractDirectoryBasedDatabase im
 			if (Files.notExists(propertyDirectory)) {
 				return Collections.emptySet();
 			}
-			var caseFile = caseFile(caseLabel, propertyDirectory);
-			return readSampleRecordings(caseFile);
+			return readSampleRecordings(caseLabel, propertyDirectory);
 		});
 	}
 
-	private static Set<SampleRecording> readSampleRecordings(Path caseFile) throws IOException {
-		return Files.readAllLines(caseFile)
-			 .stream()
-			 .filter(line -> !line.isBlank())
-			 .map(SampleRecording::deserialize)
-			 .collect(Collectors.toSet());
+	// Samples are read from both text and binary case files so that switching the format keeps existing samples
+	private static Set<SampleRecording> readSampleRecordings(String caseLabel, Path propertyDirectory) throws IOException {
+		Set<SampleRecording> recordings = new HashSet<>();
+		var textFile = caseFilePath(caseLabel, propertyDirectory, "");
+		if (Files.exists(textFile)) {
+			Files.readAllLines(textFile)
+				 .stream()
+				 .filter(line -> !line.isBlank())
+				 .map(SampleRecording::deserialize)
+				 .forEach(recordings::add);
+		}
+		var binaryFile = caseFilePath(caseLabel, propertyDirectory, BINARY_SUFFIX);
+		if (Files.exists(binaryFile)) {
+			try (var in = new BufferedInputStream(Files.newInputStream(binaryFile))) {
+				Optional<SampleRecording> next;
+				while ((next = SampleRecording.readFrom(in)).isPresent()) {
+					recordings.add(next.get());
+				}
+			}
+		}
+		return recordings;
 	}
 
 	@Override
@@ -8,6 +8,7 @@ import jqwik2.api.*;
 import jqwik2.api.arbitraries.Combinators;
 import jqwik2.api.arbitraries.*;
 import jqwik2.internal.*;
+import jqwik2.internal.generators.*;
 
 import net.jqwik.api.*;
 
@@ -198,6 +199,44 @@ class ArbitrariesTests {
 		});
 	}
 
+	@Example
+	void equalArbitrariesShareCachedGenerator() {
+		var decorators = List.of(WithEdgeCasesDecorator.function(0.1, 10));
+
+		Generator<Integer> first = GeneratorCache.generator(Values.of(1, 2, 3), decorators);
+		Generator<Integer> second = GeneratorCache.generator(Values.of(1, 2, 3), decorators);
+		assertThat(second).isSameAs(first);
+
+		Generator<Integer> otherValues = GeneratorCache.generator(Values.of(1, 2, 4), decorators);
+		assertThat(otherValues).isNotSameAs(first);
+
+		var otherDecorators = List.of(WithEdgeCasesDecorator.function(0.2, 10));
+		Generator<Integer> otherDecorated = GeneratorCache.generator(Values.of(1, 2, 3), otherDecorators);
+		assertThat(otherDecorated).isNotSameAs(first);
+	}
+
+	@Example
+	void arbitrariesWithoutValueEqualityAreNotCached() {
+		Arbitrary<Integer> filtered = Numbers.integers().between(0, 100).filter(i -> i % 2 == 0);
+
+		Generator<Integer> first = GeneratorCache.generator(filtered, List.of());
+		Generator<Integer> second = GeneratorCache.generator(filtered, List.of());
+		assertThat(second).isNotSameAs(first);
+	}
+
+	@Example
+	void generatorsWithFiltersOrFlatMapsAreNotCached() {
+		var decorators = List.of(WithEdgeCasesDecorator.function(0.1, 10));
+		// Lists have value equality, but their element generators keep state
+		Arbitrary<List<Integer>> filtered = Numbers.integers().between(0, 100).filter(i -> i % 2 == 0).list();
+		Arbitrary<List<Integer>> flatMapped = Values.of(1, 2, 3).flatMap(i -> Values.just(i)).list();
+
+		assertThat(GeneratorCache.generator(filtered, decorators))
+			.isNotSameAs(GeneratorCache.generator(filtered, decorators));
+		assertThat(GeneratorCache.generator(flatMapped, decorators))
+			.isNotSameAs(GeneratorCache.generator(flatMapped, decorators));
+	}
+
 	@Group
 	class StringArbitraries {
 
@@ -236,6 +275,29 @@ class ArbitrariesTests {
 			});
 		}
 
+		@Example
+		void withCharsAndCharRange() {
+			Arbitrary<String> strings = Strings.strings()
+											   .withChars('x', 'y', ':')
+											   .withCharRange('0', '3')
+											   .ofMinLength(1).ofMaxLength(10);
+
+			strings.samples(false).limit(20).forEach(sample -> {
+				assertThat(sample).hasSizeBetween(1, 10);
+				assertThat(sample).matches("[xy:0-3]+");
+			});
+		}
+
+		@Example
+		void overlappingCharSetsAreMerged() {
+			assertThat(Strings.strings().withCharRange('a', 'c').ascii())
+				.isEqualTo(Strings.strings().ascii());
+			assertThat(Strings.strings().alpha().numeric())
+				.isEqualTo(Strings.strings().numeric().alpha());
+			assertThat(Strings.strings().withChars('a', 'b', 'c'))
+				.isEqualTo(Strings.strings().withCharRange('a', 'c'));
+		}
+
 		@Example
 		void equality() {
 			Arbitrary<String> strings = Strings.strings().ascii().ofMaxLength(10);
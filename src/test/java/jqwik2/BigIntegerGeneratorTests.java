@@ -143,7 +143,6 @@ class BigIntegerGeneratorTests {
 	}
 
 	@Group
-	@Disabled
 	class UniformDistribution {
 
 		@Example
@@ -160,6 +159,50 @@ class BigIntegerGeneratorTests {
 			}
 		}
 
+		@Example
+		void beyondLongRange() {
+			BigInteger min = BigInteger.TWO.pow(100).negate();
+			BigInteger max = BigInteger.TWO.pow(200);
+			Generator<BigInteger> wideRange = new BigIntegerGenerator(min, max);
+			RandomGenSource source = new RandomGenSource("42");
+
+			for (int i = 0; i < 100; i++) {
+				GenRecorder recorder = new GenRecorder(source);
+				BigInteger value = wideRange.generate(recorder);
+				assertThat(value).isBetween(min, max);
+
+				GenSource recorded = RecordedSource.of(recorder.recording());
+				assertThat(wideRange.generate(recorded)).isEqualTo(value);
+			}
+		}
+
+		@Example
+		void edgeCasesBeyondLongRange() {
+			BigInteger min = BigInteger.TWO.pow(100).negate();
+			BigInteger max = BigInteger.TWO.pow(200);
+			Generator<BigInteger> wideRange = new BigIntegerGenerator(min, max);
+
+			var edgeCases = EdgeCasesTests.collectAllEdgeCases(wideRange);
+			assertThat(edgeCases).containsExactlyInAnyOrder(
+				BigInteger.valueOf(0),
+				BigInteger.valueOf(-1),
+				BigInteger.valueOf(1),
+				min,
+				max
+			);
+		}
+
+		@Example
+		void smallRangeBeyondLongRangeIsExhaustive() {
+			BigInteger min = BigInteger.TWO.pow(100);
+			BigInteger max = min.add(BigInteger.TEN);
+			Generator<BigInteger> smallRange = new BigIntegerGenerator(min, max);
+
+			var exhaustive = smallRange.exhaustive();
+			assertThat(exhaustive).isPresent();
+			assertThat(exhaustive.get().maxCount()).isEqualTo(11);
+		}
+
 	}
 
 }
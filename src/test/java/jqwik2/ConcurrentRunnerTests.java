@@ -121,6 +121,61 @@ class ConcurrentRunnerTests {
 		assertThat(countShutdowns.get()).isGreaterThanOrEqualTo(1);
 	}
 
+	@Example
+	void tasksThatWereNotStartedBeforeShutdownAreCancelled() throws Exception {
+		ConcurrentRunner runner = new ConcurrentRunner(Executors.newSingleThreadExecutor(), Duration.ofSeconds(10), 20);
+		CountDownLatch allSubmitted = new CountDownLatch(10);
+		AtomicInteger countRun = new AtomicInteger();
+		AtomicInteger countCancelled = new AtomicInteger();
+
+		var taskIterator = new Iterator<ConcurrentRunner.Task>() {
+			private int submitted = 0;
+
+			@Override
+			public boolean hasNext() {
+				return submitted < 10;
+			}
+
+			@Override
+			public ConcurrentRunner.Task next() {
+				submitted++;
+				allSubmitted.countDown();
+				return new ConcurrentRunner.Task() {
+					@Override
+					public void run(TaskRunner.Shutdown shutdown) throws Throwable {
+						countRun.incrementAndGet();
+						allSubmitted.await();
+						shutdown.shutdown();
+					}
+
+					@Override
+					public void cancelled() {
+						countCancelled.incrementAndGet();
+					}
+				};
+			}
+		};
+		runner.run(taskIterator);
+
+		assertThat(countRun.get()).isEqualTo(1);
+		assertThat(countCancelled.get()).isEqualTo(9);
+	}
+
+	@Example
+	void runsOnBorrowedExecutorServiceWithoutShuttingDownTheSharedOne() throws Exception {
+		ExecutorService shared = Executors.newFixedThreadPool(2);
+		try {
+			runSuccessfullyWithShutdown(new BorrowedExecutorService(shared));
+			assertThat(shared.isShutdown()).isFalse();
+
+			// Interrupts of the shut down run must not affect the next run on the same threads
+			runAllTasksToEnd(new BorrowedExecutorService(shared));
+			assertThat(shared.isShutdown()).isFalse();
+		} finally {
+			shared.shutdownNow();
+		}
+	}
+
 	@Property
 	void shutdownOnTimeoutEvenIfTasksAreStillBeingAdded(@ForAll("services") Pair<String, Supplier<ExecutorService>> pair) {
 		ExecutorService service = pair.second().get();
@@ -167,6 +222,37 @@ class ConcurrentRunnerTests {
 		assertThat(runTasks.get()).isLessThan(20);
 	}
 
+	@Property
+	void numberOfTasksInFlightIsBounded(@ForAll("services") Pair<String, Supplier<ExecutorService>> pair) throws Exception {
+		ExecutorService service = pair.second().get();
+		ConcurrentRunner runner = new ConcurrentRunner(service, Duration.ofSeconds(10), 3);
+
+		AtomicInteger createdTasks = new AtomicInteger();
+		AtomicInteger finishedTasks = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		var taskIterator = new Iterator<ConcurrentRunner.Task>() {
+			@Override
+			public boolean hasNext() {
+				return createdTasks.get() < 100;
+			}
+
+			@Override
+			public ConcurrentRunner.Task next() {
+				int inFlight = createdTasks.incrementAndGet() - finishedTasks.get();
+				maxInFlight.accumulateAndGet(inFlight, Math::max);
+				return shutdown -> {
+					sleep(1);
+					finishedTasks.incrementAndGet();
+				};
+			}
+		};
+
+		runner.run(taskIterator);
+
+		assertThat(finishedTasks.get()).isEqualTo(100);
+		assertThat(maxInFlight.get()).isLessThanOrEqualTo(3);
+	}
+
 	public static void sleep(int millis) {
 		try {
 			Thread.sleep(millis);
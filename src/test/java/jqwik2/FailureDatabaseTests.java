@@ -1,6 +1,8 @@
 package jqwik2;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
 import java.nio.file.*;
 import java.util.*;
 import java.util.concurrent.atomic.*;
@@ -93,6 +95,24 @@ class FailureDatabaseTests {
 		assertThat(failures).contains(sample1, sample2, sample3);
 	}
 
+	@Example
+	void saveAndLoadFailuresInBinaryFormat() {
+		var sample1 = new SampleRecording(List.of(choice(1), choice(2)));
+		var sample2 = new SampleRecording(List.of(list(choice(1), choice(300)), tuple(1, 2)));
+
+		database.saveFailingSample("id1", sample1);
+
+		var binaryDatabase = new DirectoryBasedFailureDatabase(basePath, RecordingFormat.BINARY);
+		binaryDatabase.saveFailingSample("id1", sample2);
+
+		var sample2File = basePath.resolve("id1").resolve(DirectoryBasedFailureDatabase.SAMPLEFILE_PREFIX + sample2.hashCode());
+		assertThat(sample2File).hasBinaryContent(sample2.serializeToBytes());
+
+		// Both formats can be loaded from either database
+		assertThat(binaryDatabase.loadFailingSamples("id1")).containsExactlyInAnyOrder(sample1, sample2);
+		assertThat(database.loadFailingSamples("id1")).containsExactlyInAnyOrder(sample1, sample2);
+	}
+
 	@Example
 	void saveAndDeleteFailure() {
 		var sample1 = new SampleRecording(List.of(choice(1), choice(2)));
@@ -202,4 +222,168 @@ class FailureDatabaseTests {
 			// assertThat(database.loadFailingSamples(propertyId)).hasSize(2);
 		});
 	}
+
+	@Group
+	class LogFile {
+
+		Path logFile;
+		LogFileFailureDatabase logDatabase;
+
+		@BeforeExample
+		void setupLogDatabase() {
+			logFile = basePath.resolve("failures.log");
+			logDatabase = new LogFileFailureDatabase(logFile, 10);
+		}
+
+		@AfterExample
+		void closeLogDatabase() {
+			logDatabase.close();
+		}
+
+		@Example
+		void saveAndReload() {
+			var sample1 = new SampleRecording(List.of(choice(1), choice(2)));
+			var sample2 = new SampleRecording(List.of(list(choice(1), choice(300)), tuple(1, 2)));
+
+			logDatabase.saveFailure("id1", "1234567890", Set.of(sample1, sample2));
+			logDatabase.saveFailingSample("id2", sample1);
+			logDatabase.saveSeed("id3", null);
+			logDatabase.saveFailingSample("id4", sample1);
+			logDatabase.deleteFailure("id1", sample1);
+			logDatabase.deleteProperty("id4");
+			logDatabase.close();
+
+			var reopened = new LogFileFailureDatabase(logFile);
+			assertThat(reopened.failingProperties()).containsExactlyInAnyOrder("id1", "id2", "id3");
+			assertThat(reopened.loadSeed("id1")).hasValue("1234567890");
+			assertThat(reopened.loadFailingSamples("id1")).containsExactly(sample2);
+			assertThat(reopened.loadFailingSamples("id2")).containsExactly(sample1);
+			assertThat(reopened.hasFailed("id3")).isTrue();
+			assertThat(reopened.loadSeed("id3")).isEmpty();
+			assertThat(reopened.hasFailed("id4")).isFalse();
+			reopened.close();
+		}
+
+		@Example
+		void partiallyWrittenRecordIsDiscarded() throws IOException {
+			var sample = new SampleRecording(List.of(choice(1), choice(2)));
+			logDatabase.saveFailingSample("id1", sample);
+			logDatabase.close();
+
+			Files.write(logFile, new byte[]{1, 0, 0}, StandardOpenOption.APPEND);
+
+			var reopened = new LogFileFailureDatabase(logFile);
+			assertThat(reopened.loadFailingSamples("id1")).containsExactly(sample);
+			reopened.saveSeed("id1", "42");
+			reopened.close();
+
+			reopened = new LogFileFailureDatabase(logFile);
+			assertThat(reopened.loadSeed("id1")).hasValue("42");
+			reopened.close();
+		}
+
+		@Example
+		void lastRecordThatWasCutOffIsDiscarded() throws IOException {
+			var sample = new SampleRecording(List.of(choice(1), choice(2)));
+			logDatabase.saveFailingSample("id1", sample);
+			long sizeWithFirstRecord = Files.size(logFile);
+			logDatabase.saveFailingSample("id2", sample);
+			logDatabase.close();
+
+			try (var channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+				channel.truncate(sizeWithFirstRecord + 10);
+			}
+
+			var reopened = new LogFileFailureDatabase(logFile);
+			assertThat(reopened.failingProperties()).containsExactly("id1");
+			assertThat(Files.size(logFile)).isEqualTo(sizeWithFirstRecord);
+			reopened.close();
+		}
+
+		@Example
+		void corruptRecordIsNotDiscarded() throws IOException {
+			var sample = new SampleRecording(List.of(choice(1), choice(2)));
+			logDatabase.saveFailingSample("id1", sample);
+			logDatabase.close();
+
+			// Flip the type of the first record, which starts after the 16 byte header and the 8 byte length frame
+			byte[] bytes = Files.readAllBytes(logFile);
+			bytes[24] ^= 1;
+			Files.write(logFile, bytes);
+
+			assertThatThrownBy(() -> new LogFileFailureDatabase(logFile))
+				.isInstanceOf(IOException.class)
+				.hasMessageContaining("Corrupt record at offset 16");
+			assertThat(Files.readAllBytes(logFile)).isEqualTo(bytes);
+		}
+
+		@Example
+		void corruptLengthBeforeLastRecordIsNotTakenForPartiallyWrittenRecord() throws IOException {
+			var sample = new SampleRecording(List.of(choice(1), choice(2)));
+			logDatabase.saveFailingSample("id1", sample);
+			logDatabase.saveFailingSample("id2", sample);
+			logDatabase.close();
+			long sizeWithCorruptLength = Files.size(logFile);
+
+			try (var channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+				channel.write(ByteBuffer.allocate(4).putInt(Integer.MAX_VALUE).flip(), 16);
+			}
+
+			assertThatThrownBy(() -> new LogFileFailureDatabase(logFile))
+				.isInstanceOf(IOException.class)
+				.hasMessageContaining("Corrupt record at offset 16");
+			assertThat(Files.size(logFile)).isEqualTo(sizeWithCorruptLength);
+		}
+
+		@Example
+		void changesOfOtherInstancesAreReplayedBeforeWriting() {
+			var sample = new SampleRecording(List.of(choice(1), choice(2)));
+			var other = new LogFileFailureDatabase(logFile, 10);
+
+			logDatabase.saveFailingSample("id1", sample);
+			other.saveFailingSample("id2", sample);
+			logDatabase.saveSeed("id3", "42");
+			assertThat(logDatabase.failingProperties()).containsExactly("id1", "id2", "id3");
+
+			other.compact();
+			logDatabase.deleteProperty("id2");
+			other.clear();
+			logDatabase.saveSeed("id4", "43");
+			other.close();
+
+			assertThat(logDatabase.failingProperties()).containsExactly("id4");
+			var reopened = new LogFileFailureDatabase(logFile);
+			assertThat(reopened.failingProperties()).containsExactly("id4");
+			assertThat(reopened.loadSeed("id4")).hasValue("43");
+			reopened.close();
+		}
+
+		@Example
+		void logIsCompactedWhenMostRecordsAreObsolete() throws IOException {
+			var sample = new SampleRecording(List.of(choice(1), choice(2)));
+			logDatabase.saveFailingSample("id1", sample);
+			logDatabase.saveFailingSample("id2", sample);
+			long sizeWithTwoProperties = Files.size(logFile);
+
+			for (int i = 0; i < 100; i++) {
+				logDatabase.saveSeed("id1", Integer.toString(i));
+				logDatabase.deleteProperty("id1");
+			}
+
+			assertThat(Files.size(logFile)).isLessThan(2 * sizeWithTwoProperties);
+			assertThat(logDatabase.failingProperties()).containsExactly("id2");
+			assertThat(logDatabase.loadFailingSamples("id2")).containsExactly(sample);
+		}
+
+		@Example
+		void clear() {
+			logDatabase.saveFailingSample("id1", new SampleRecording(List.of(choice(1))));
+			logDatabase.clear();
+			logDatabase.close();
+
+			var reopened = new LogFileFailureDatabase(logFile);
+			assertThat(reopened.failingProperties()).isEmpty();
+			reopened.close();
+		}
+	}
 }
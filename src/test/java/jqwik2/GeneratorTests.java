@@ -1,6 +1,7 @@
 package jqwik2;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import jqwik2.api.Arbitrary;
 import jqwik2.api.Shrinkable;
@@ -119,6 +120,30 @@ class GeneratorTests {
 		assertThat(values).containsExactly("a", "b", "c");
 	}
 
+	@Example
+	void frequencyGeneratorChoosesProportionallyToWeights() {
+		Generator<String> choices = BaseGenerators.frequency(List.of(
+			new Pair<>(1, "a"),
+			new Pair<>(0, "never"),
+			new Pair<>(3, "b"),
+			new Pair<>(4, "c")
+		));
+
+		GenSource source = new RandomGenSource("42");
+
+		Map<String, Integer> counts = new HashMap<>();
+		int tries = 80_000;
+		for (int i = 0; i < tries; i++) {
+			String value = choices.generate(source);
+			counts.compute(value, (k, v) -> v == null ? 1 : v + 1);
+		}
+
+		assertThat(counts).doesNotContainKey("never");
+		assertThat(counts.get("a")).isCloseTo(10_000, withPercentage(5));
+		assertThat(counts.get("b")).isCloseTo(30_000, withPercentage(5));
+		assertThat(counts.get("c")).isCloseTo(40_000, withPercentage(5));
+	}
+
 	@Group
 	class OneOf {
 		@Example
@@ -230,6 +255,45 @@ class GeneratorTests {
 				// System.out.println("shrink value: " + s.value());
 			});
 		}
+
+		@Example
+		void filterCountsAcceptedValues() {
+			var evenNumbers = (GeneratorFilter<Integer>) integers(0, 99).filter(i -> i % 2 == 0);
+
+			RandomGenSource source = new RandomGenSource("42");
+			for (int i = 0; i < 100; i++) {
+				evenNumbers.generate(source);
+			}
+
+			FilterStatistics statistics = evenNumbers.statistics();
+			assertThat(statistics.accepted()).isEqualTo(100);
+			assertThat(statistics.tries()).isGreaterThan(100);
+			assertThat(statistics.acceptanceRate()).isBetween(0.3, 0.7);
+		}
+
+		@Example
+		void rangeFiltersArePushedDownIntoIntegerGenerator() {
+			var range = IntRangeFilter.greaterThan(10).and(IntRangeFilter.atMost(20));
+			Generator<Integer> narrowed = integers(-100, 100).filter(range);
+
+			assertThat(narrowed).isInstanceOf(IntegerGenerator.class);
+			assertThat(((IntegerGenerator) narrowed).min()).isEqualTo(11);
+			assertThat(((IntegerGenerator) narrowed).max()).isEqualTo(20);
+
+			RandomGenSource source = new RandomGenSource("42");
+			for (int i = 0; i < 100; i++) {
+				assertThat(narrowed.generate(source)).isBetween(11, 20);
+			}
+		}
+
+		@Example
+		void disjointRangeFilterIsNotPushedDown() {
+			Generator<Integer> impossible = integers(0, 10).filter(IntRangeFilter.lessThan(0));
+
+			assertThat(impossible).isInstanceOf(GeneratorFilter.class);
+			assertThatThrownBy(() -> impossible.generate(new RandomGenSource("42")))
+				.isInstanceOf(TooManyFilterMissesException.class);
+		}
 	}
 
 	@Group
@@ -382,6 +446,73 @@ class GeneratorTests {
 
 		}
 
+		@Example
+		void childGeneratorsAreCachedUpToCacheSize() {
+			var listOfInts = new GeneratorFlatMap<>(
+				integers(0, 10_000),
+				size -> integers(0, 3).list(0, 5),
+				10
+			);
+
+			RandomGenSource source = new RandomGenSource("42");
+			for (int i = 0; i < 1000; i++) {
+				listOfInts.generate(source);
+			}
+
+			LruCache.Statistics statistics = listOfInts.cacheStatistics();
+			assertThat(statistics.hits() + statistics.misses()).isEqualTo(1000);
+			assertThat(statistics.evictions()).isEqualTo(statistics.misses() - 10);
+		}
+
+		@Example
+		void childGeneratorsForSameHeadAreReused() {
+			var listOfInts = new GeneratorFlatMap<>(
+				integers(0, 2),
+				size -> integers(0, 3).list(size, size)
+			);
+
+			RandomGenSource source = new RandomGenSource("42");
+			for (int i = 0; i < 100; i++) {
+				listOfInts.generate(source);
+			}
+
+			LruCache.Statistics statistics = listOfInts.cacheStatistics();
+			assertThat(statistics.misses()).isEqualTo(3);
+			assertThat(statistics.hits()).isEqualTo(97);
+			assertThat(statistics.evictions()).isZero();
+		}
+
+		@Example
+		void childGeneratorsAreCachedWhenGeneratingConcurrently() throws Exception {
+			var listOfInts = new GeneratorFlatMap<>(
+				integers(0, 100),
+				size -> integers(0, 3).list(size, size),
+				50
+			);
+
+			ExecutorService executorService = Executors.newFixedThreadPool(4);
+			try {
+				List<Future<?>> futures = new ArrayList<>();
+				for (int t = 0; t < 4; t++) {
+					RandomGenSource source = new RandomGenSource(Integer.toString(t));
+					futures.add(executorService.submit(() -> {
+						for (int i = 0; i < 1000; i++) {
+							assertThat(listOfInts.generate(source)).hasSizeLessThanOrEqualTo(100);
+						}
+					}));
+				}
+				for (Future<?> future : futures) {
+					future.get();
+				}
+			} finally {
+				executorService.shutdownNow();
+			}
+
+			LruCache.Statistics statistics = listOfInts.cacheStatistics();
+			assertThat(statistics.hits() + statistics.misses()).isEqualTo(4000);
+			assertThat(statistics.hits()).isGreaterThan(0);
+		}
+
 	}
 
 	@Group
@@ -685,6 +816,151 @@ class GeneratorTests {
 			// printHistogram(histogram);
 		}
 
+		@Example
+		void intsWithoutBoxing() {
+			IntGenerator minus10to100 = integers(-10, 100);
+			RandomGenSource unboxedSource = new RandomGenSource("42");
+			RandomGenSource boxedSource = new RandomGenSource("42");
+
+			for (int i = 0; i < 10; i++) {
+				int value = minus10to100.generateInt(unboxedSource.split());
+				assertThat(value).isBetween(-10, 100);
+				assertThat(minus10to100.generate(boxedSource.split())).isEqualTo(value);
+			}
+		}
+
+		@Example
+		void signsThatDoNotFitTheRangeAreFlipped() {
+			IntegerGenerator mostlyPositive = new IntegerGenerator(-10, Integer.MAX_VALUE);
+			assertThat(mostlyPositive.generate(RecordedSource.of(tuple(5, 1)))).isEqualTo(-5);
+			assertThat(mostlyPositive.generate(RecordedSource.of(tuple(1000, 1)))).isEqualTo(1000);
+			assertThat(mostlyPositive.generate(RecordedSource.of(tuple(0, 1)))).isEqualTo(0);
+
+			IntegerGenerator mostlyNegative = new IntegerGenerator(Integer.MIN_VALUE, 10);
+			assertThat(mostlyNegative.generate(RecordedSource.of(tuple(5, 0)))).isEqualTo(5);
+			assertThat(mostlyNegative.generate(RecordedSource.of(tuple(1000, 0)))).isEqualTo(-1000);
+
+			assertThat(EdgeCasesTests.collectAllEdgeCases(mostlyNegative)).containsExactlyInAnyOrder(
+				Integer.MIN_VALUE, -1, 0, 1, 10
+			);
+		}
+
+		@Example
+		void negativeFullRangedIntsNeverGenerateZero() {
+			IntegerGenerator negative = new IntegerGenerator(Integer.MIN_VALUE, -1);
+			assertThat(negative.generate(RecordedSource.of(tuple(0, 0)))).isEqualTo(-1);
+			assertThat(negative.generate(RecordedSource.of(tuple(0, 1)))).isEqualTo(-1);
+
+			IntegerGenerator biased = new IntegerGenerator(Integer.MIN_VALUE, -1, RandomChoice.Distribution.biased(5));
+			RandomGenSource source = new RandomGenSource("42");
+			for (int i = 0; i < 10_000; i++) {
+				GenRecorder recorder = new GenRecorder(source);
+				int value = biased.generate(recorder);
+				assertThat(value).isNegative();
+
+				recorder.recording().shrink().forEach(shrunk -> {
+					int shrunkValue = biased.generate(RecordedSource.of(shrunk));
+					assertThat(shrunkValue).isNegative();
+				});
+			}
+		}
+
+		@Example
+		void everyMagnitudeAndSignGivesValueInRange() {
+			IntegerGenerator mostlyPositive = new IntegerGenerator(-10, Integer.MAX_VALUE);
+			Random random = new Random(42);
+
+			for (int i = 0; i < 1000; i++) {
+				int magnitude = random.nextInt(Integer.MAX_VALUE);
+				int sign = random.nextInt(2);
+				// A retry would fail because the recorded source cannot provide another tuple
+				int value = mostlyPositive.generate(RecordedSource.of(tuple(magnitude, sign)));
+				assertThat(value).isBetween(-10, Integer.MAX_VALUE);
+			}
+		}
+
+		@Example
+		void longsTakeASingleChoice() {
+			Generator<Long> longs = longs(-1_000_000_000_000L, 5_000_000_000_000L);
+			RandomGenSource source = new RandomGenSource("42");
+
+			for (int i = 0; i < 100; i++) {
+				GenRecorder recorder = new GenRecorder(source);
+				long value = longs.generate(recorder);
+				assertThat(value).isBetween(-1_000_000_000_000L, 5_000_000_000_000L);
+				assertThat(recorder.recording()).isInstanceOf(ChoiceRecording.class);
+
+				GenSource recorded = RecordedSource.of(recorder.recording());
+				assertThat(longs.generate(recorded)).isEqualTo(value);
+			}
+		}
+
+		@Example
+		void fullRangeLongs() {
+			Generator<Long> longs = longs(Long.MIN_VALUE, Long.MAX_VALUE);
+			RandomGenSource source = new RandomGenSource("42");
+
+			Set<Integer> signs = new HashSet<>();
+			for (int i = 0; i < 100; i++) {
+				GenRecorder recorder = new GenRecorder(source);
+				long value = longs.generate(recorder);
+				signs.add(Long.signum(value));
+
+				GenSource recorded = RecordedSource.of(recorder.recording());
+				assertThat(longs.generate(recorded)).isEqualTo(value);
+			}
+			assertThat(signs).contains(-1, 1);
+
+			Set<Long> edgeCases = EdgeCasesTests.collectAllEdgeCases(longs);
+			assertThat(edgeCases).containsExactlyInAnyOrder(
+				Long.MIN_VALUE, Long.MAX_VALUE, 0L, 1L, -1L
+			);
+		}
+
+		@Example
+		void shrinkingLongsShrinksTowardsZero() {
+			Generator<Long> longs = longs(-1_000_000_000_000L, 1_000_000_000_000L);
+			GenRecorder recorder = new GenRecorder(new RandomGenSource("42"));
+			long value = longs.generate(recorder);
+
+			recorder.recording().shrink().forEach(shrunk -> {
+				long shrunkValue = longs.generate(RecordedSource.of(shrunk));
+				assertThat(Math.abs(shrunkValue)).isLessThanOrEqualTo(Math.abs(value));
+			});
+		}
+
+		@Example
+		void doubles() {
+			Generator<Double> doubles = doubles(-0.5, 1000.25);
+			RandomGenSource source = new RandomGenSource("42");
+
+			for (int i = 0; i < 100; i++) {
+				GenRecorder recorder = new GenRecorder(source);
+				double value = doubles.generate(recorder);
+				assertThat(value).isBetween(-0.5, 1000.25);
+				assertThat(recorder.recording()).isInstanceOf(ChoiceRecording.class);
+
+				GenSource recorded = RecordedSource.of(recorder.recording());
+				assertThat(doubles.generate(recorded)).isEqualTo(value);
+			}
+
+			Set<Double> edgeCases = EdgeCasesTests.collectAllEdgeCases(doubles);
+			assertThat(edgeCases).contains(-0.5, 1000.25, 0.0);
+		}
+
+		@Example
+		void doublesInRangesWithoutZero() {
+			Generator<Double> positive = doubles(0.1, 0.3);
+			Generator<Double> negative = doubles(-1e300, -1e299);
+			RandomGenSource source = new RandomGenSource("42");
+
+			for (int i = 0; i < 100; i++) {
+				assertThat(positive.generate(source)).isBetween(0.1, 0.3);
+				assertThat(negative.generate(source)).isBetween(-1e300, -1e299);
+			}
+			assertThat(EdgeCasesTests.collectAllEdgeCases(positive)).contains(0.1, 0.3);
+		}
+
 	}
 
 	@Group
@@ -722,6 +998,27 @@ class GeneratorTests {
 			}
 		}
 
+		@Example
+		void stringsFromCodepointTable() {
+			CodepointTable table = CodepointTable.range('a', 'c').union(CodepointTable.of('x', 'z'));
+			Generator<String> strings = BaseGenerators.strings(new CodepointGenerator(table), 0, 10);
+			Generator<List<Integer>> codepointLists = new CodepointGenerator(table).list(0, 10);
+			RandomGenSource source = new RandomGenSource("42");
+
+			for (int i = 0; i < 10; i++) {
+				GenRecorder recorder = new GenRecorder(source.split());
+				String value = strings.generate(recorder);
+				assertThat(value).matches("[abcxz]*");
+
+				// Recordings are the same as for lists of code points
+				List<Integer> codepoints = codepointLists.generate(RecordedSource.of(recorder.recording()));
+				assertThat(value.codePoints().boxed().toList()).isEqualTo(codepoints);
+			}
+
+			var edgeCases = EdgeCasesTests.collectAllEdgeCases(strings);
+			assertThat(edgeCases).containsExactlyInAnyOrder("", "a", "z");
+		}
+
 		@Example
 		void exhaustiveStrings() {
 			Generator<Integer> unicodes = integers('a', 'c');
@@ -793,6 +1090,76 @@ class GeneratorTests {
 				assertThat(value).hasSizeLessThanOrEqualTo(5);
 			}
 		}
+
+		@Example
+		void intArraysAreGeneratedLikeLists() {
+			Generator<int[]> arrayOfInts = integers(-10, 100).array(0, 5);
+			Generator<List<Integer>> listOfInts = integers(-10, 100).list(0, 5);
+
+			RandomGenSource source = new RandomGenSource("42");
+
+			for (int i = 0; i < 10; i++) {
+				GenRecorder recorder = new GenRecorder(source.split());
+				int[] value = arrayOfInts.generate(recorder);
+				assertThat(value.length).isLessThanOrEqualTo(5);
+
+				List<Integer> sameAsList = listOfInts.generate(RecordedSource.of(recorder.recording()));
+				assertThat(value).containsExactly(sameAsList.stream().mapToInt(Integer::intValue).toArray());
+			}
+		}
+
+		@Example
+		void intArraysWithEdgeCases() {
+			Generator<int[]> arrayOfInts = integers(-100, 100).array(0, 5);
+			Generator<int[]> arrayWithEdgeCases = WithEdgeCasesDecorator.decorate(arrayOfInts, 0.5, 10);
+
+			RandomGenSource source = new RandomGenSource("42");
+
+			for (int i = 0; i < 50; i++) {
+				int[] value = arrayWithEdgeCases.generate(source.split());
+				assertThat(value.length).isLessThanOrEqualTo(5);
+				for (int element : value) {
+					assertThat(element).isBetween(-100, 100);
+				}
+			}
+		}
+
+		@Example
+		void intGeneratorsStayUnboxedWhenDecoratedWithEdgeCases() {
+			Generator<Integer> intsWithEdgeCases = WithEdgeCasesDecorator.decorate(integers(-100, 100), 1.0, 10);
+			assertThat(intsWithEdgeCases).isInstanceOf(IntGenerator.class);
+
+			Generator<int[]> arrayOfInts = integers(-100, 100).array(5, 5);
+			Generator<int[]> arrayWithEdgeCases = arrayOfInts.decorate(WithEdgeCasesDecorator.function(1.0, 10));
+
+			RandomGenSource source = new RandomGenSource("42");
+			Set<Integer> elements = new HashSet<>();
+			for (int i = 0; i < 50; i++) {
+				for (int element : arrayWithEdgeCases.generate(source.split())) {
+					elements.add(element);
+				}
+			}
+			assertThat(elements).containsOnly(-100, -1, 0, 1, 100);
+		}
+
+		@Example
+		void lazyListsOnlyGenerateAndRecordAccessedElements() {
+			Generator<List<Integer>> lazyLists = integers(0, 1000).lazyList(1_000_000, 1_000_000);
+
+			GenRecorder recorder = new GenRecorder(new RandomGenSource("42"));
+			List<Integer> list = lazyLists.generate(recorder);
+			assertThat(list).hasSize(1_000_000);
+			assertThat(recorder.recording()).isEqualTo(tuple(choice(0), list()));
+
+			List<Integer> prefix = List.of(list.get(0), list.get(1), list.get(2));
+			TupleRecording recording = (TupleRecording) recorder.recording();
+			assertThat(((ListRecording) recording.elements().get(1)).elements()).hasSize(3);
+
+			List<Integer> regenerated = lazyLists.generate(RecordedSource.of(recording));
+			assertThat(regenerated.subList(0, 3)).isEqualTo(prefix);
+			// Elements beyond the recorded prefix are generated from simplest choices
+			assertThat(regenerated.get(999_999)).isEqualTo(0);
+		}
 	}
 
 	@Group
@@ -824,6 +1191,27 @@ class GeneratorTests {
 			}
 		}
 
+		@Example
+		void largeSetOfUniqueElements() {
+			Generator<Set<Integer>> setOfInts = integers(0, 1_000_000).set(10_000, 10_000);
+
+			RandomGenSource source = new RandomGenSource("42");
+
+			Set<Integer> value = setOfInts.generate(source);
+			assertThat(value).hasSize(10_000);
+		}
+
+		@Example
+		void setLargerThanElementSpaceCannotBeGenerated() {
+			Generator<Set<Integer>> setOfInts = integers(0, 5).set(10, 10);
+
+			RandomGenSource source = new RandomGenSource("42");
+
+			assertThatThrownBy(() -> setOfInts.generate(source))
+				.isInstanceOf(CannotGenerateException.class)
+				.hasMessageContaining("duplicates");
+		}
+
 		@Example
 		void setEdgeCases() {
 			Generator<Set<Integer>> setOfInts = integers(0, 15).set(0, 10);
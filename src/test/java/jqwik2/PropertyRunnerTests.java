@@ -104,6 +104,36 @@ class PropertyRunnerTests {
 		assertThat(result.countChecks()).isEqualTo(3);
 	}
 
+	@Property(generation = GenerationMode.EXHAUSTIVE)
+	void samplesThatCannotBeGeneratedDoNotCountAsTries(@ForAll("serviceSuppliers") Supplier<ExecutorService> serviceSupplier) {
+		Generator<Integer> evenOnly = new IntegerGenerator(0, 100).map(i -> {
+			if (i % 2 == 1) {
+				throw new CannotGenerateException("odd");
+			}
+			return i;
+		});
+		AtomicInteger countExecutions = new AtomicInteger();
+		Tryable tryable = Tryable.from(args -> {
+			countExecutions.incrementAndGet();
+			return true;
+		});
+
+		PropertyRunner runner = new PropertyRunner(List.of(evenOnly), tryable);
+
+		PropertyRunResult result = runner.run(
+			randomized(
+				"42", 100,
+				Duration.ofSeconds(10), false,
+				false,
+				serviceSupplier
+			)
+		);
+		assertThat(result.status()).isEqualTo(SUCCESSFUL);
+		assertThat(result.countTries()).isEqualTo(100);
+		assertThat(result.countChecks()).isEqualTo(100);
+		assertThat(countExecutions.get()).isEqualTo(100);
+	}
+
 	@Property(generation = GenerationMode.EXHAUSTIVE)
 	void failPropertyWithNoReason(@ForAll("serviceSuppliers") Supplier<ExecutorService> serviceSupplier) {
 		List<Generator<?>> generators = List.of(
@@ -336,6 +366,34 @@ class PropertyRunnerTests {
 		);
 	}
 
+	@Property(tries = 10)
+	void concurrentRunsGenerateSameSamplesAsMainThreadRunner(@ForAll long seed) {
+		List<Generator<?>> generators = List.of(
+			new IntegerGenerator(0, 1000),
+			new IntegerGenerator(-1000, 0)
+		);
+		Tryable tryable = Tryable.from(args -> true);
+
+		PropertyRunner runner = new PropertyRunner(generators, tryable);
+		final Set<Sample> collectedSamples = Collections.synchronizedSet(new HashSet<>());
+		runner.registerTryExecutionListener((result, sample) -> collectedSamples.add(sample));
+
+		PropertyRunResult inMainThread = runner.run(randomized(
+			Long.toString(seed), 100, Duration.ofSeconds(10), false, false, null
+		));
+		Set<Sample> samplesInMainThread = new HashSet<>(collectedSamples);
+		collectedSamples.clear();
+
+		PropertyRunResult concurrent = runner.run(randomized(
+			Long.toString(seed), 100, Duration.ofSeconds(10), false, false,
+			() -> Executors.newFixedThreadPool(4)
+		));
+
+		assertThat(inMainThread.countTries()).isEqualTo(100);
+		assertThat(concurrent.countTries()).isEqualTo(100);
+		assertThat(collectedSamples).hasSameElementsAs(samplesInMainThread);
+	}
+
 	private static void reproduceSameSamplesTwice(long seed, Supplier<ExecutorService> serviceSupplier) {
 		List<Generator<?>> generators = List.of(
 			new IntegerGenerator(0, 100)
@@ -2,6 +2,7 @@ package jqwik2;
 
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
 import java.util.function.*;
 
@@ -101,6 +102,35 @@ class PropertyValidationTests {
 		assertThat(result.countChecks()).isBetween(20, 80);
 	}
 
+	@Example
+	void verifyIntWith1ParameterSucceeds() {
+		var property = PropertyDescription.property().forAll(Numbers.integers().between(0, 100)).verifyInt(i -> {
+			assertThat(i).isBetween(0, 100);
+		});
+
+		PropertyValidationResult result = PropertyValidator.forProperty(property).validate();
+
+		assertThat(result.isSuccessful()).isTrue();
+		assertThat(result.countTries()).isEqualTo(100);
+		assertThat(result.countChecks()).isEqualTo(100);
+	}
+
+	@Example
+	void checkIntWith2ParametersFailsAndIsShrunk() {
+		var property = PropertyDescription.property()
+										  .forAll(Numbers.integers().between(0, 1000), Numbers.integers().between(0, 1000))
+										  .checkInt((i1, i2) -> i1 + i2 < 1000);
+
+		PropertyValidationStrategy strategy = PropertyValidationStrategy.builder()
+																		.withSeed("42")
+																		.build();
+		PropertyValidationResult result = PropertyValidator.forProperty(property).validate(strategy);
+
+		assertThat(result.isFailed()).isTrue();
+		List<Object> smallest = result.falsifiedSamples().getFirst().values();
+		assertThat((int) smallest.get(0) + (int) smallest.get(1)).isEqualTo(1000);
+	}
+
 	@Example
 	void checkWith1ParameterFails() {
 		var property = PropertyDescription.property("cp")
@@ -186,6 +216,8 @@ class PropertyValidationTests {
 		var countsScrubber = new RegExScrubber("\\(\\d{1,10}\\)", "([count%d])"::formatted);
 		var ratioScrubber = new RegExScrubber("\\(\\d{1,10}\\/\\d{1,10}\\)", "(ratio%d)"::formatted);
 		var percentageScrubber = new RegExScrubber("\\d{1,2}.\\d{2}%", "[percentage%d]"::formatted);
+		// Cache hits and misses depend on the seed
+		var shrinkingCacheScrubber = new RegExScrubber("\\r?\\n[ \\t]*shrinking cache[^\\r\\n]*", "");
 		var scrubbers = Scrubbers.scrubAll(
 			trimWhitespaceScrubber,
 			seedScrubber,
@@ -193,7 +225,8 @@ class PropertyValidationTests {
 			countChecksScrubber,
 			countsScrubber,
 			ratioScrubber,
-			percentageScrubber
+			percentageScrubber,
+			shrinkingCacheScrubber
 		);
 		return new Options(scrubbers);
 	}
@@ -401,6 +434,158 @@ class PropertyValidationTests {
 		assertThat(countFalsified.get()).isEqualTo(1);
 	}
 
+	@Example
+	void filterAcceptanceIsReported() {
+		var property = PropertyDescription.property("filtered")
+										  .forAll(Numbers.integers().between(0, 999).filter(i -> i % 2 == 0))
+										  .check(i -> true);
+
+		PropertyValidationResult result = PropertyValidator.forProperty(property)
+														   .failureDatabase(FailureDatabase.NULL)
+														   .publisher(stringPublisher)
+														   .validate(PropertyValidationStrategy.builder().withSeed("42").build());
+
+		assertThat(result.isSuccessful()).isTrue();
+		assertThat(stringPublisher.contents()).contains("filters");
+		assertThat(stringPublisher.contents()).containsPattern("arg-0 \\| \\d+\\.\\d{2}% accepted \\(100 of \\d+\\)");
+		assertThat(stringPublisher.contents()).doesNotContain("WARNING");
+	}
+
+	@Example
+	void filterAcceptanceOfSharedArbitraryIsCountedPerRun() {
+		var evenNumbers = Numbers.integers().between(0, 999).filter(i -> i % 2 == 0).list().ofMinSize(1).ofMaxSize(1);
+		var inner = PropertyDescription.property("inner").forAll(evenNumbers).check(l -> true);
+		var outer = PropertyDescription.property("outer").forAll(evenNumbers).check(l -> {
+			// Runs while the outer property is running, with the same cached generator
+			PropertyValidator.forProperty(inner)
+							 .failureDatabase(FailureDatabase.NULL)
+							 .publisher(PlatformPublisher.NULL)
+							 .validate(PropertyValidationStrategy.builder().withMaxTries(10).build());
+			return true;
+		});
+
+		PropertyValidationResult result = PropertyValidator.forProperty(outer)
+														   .failureDatabase(FailureDatabase.NULL)
+														   .publisher(stringPublisher)
+														   .validate(PropertyValidationStrategy.builder().withMaxTries(10).build());
+
+		assertThat(result.isSuccessful()).isTrue();
+		assertThat(stringPublisher.contents()).contains("accepted (10 of ");
+	}
+
+	@Example
+	void filterWithLowAcceptanceIsWarnedAboutEvenIfSuccessfulResultsAreNotPublished() {
+		var property = PropertyDescription.property("rarely accepted")
+										  .forAll(Numbers.integers().between(0, 999).filter(i -> i % 100 == 1))
+										  .check(i -> true);
+
+		PropertyValidationResult result = PropertyValidator.forProperty(property)
+														   .failureDatabase(FailureDatabase.NULL)
+														   .publisher(stringPublisher)
+														   .publishSuccessfulResults(false)
+														   .validate(PropertyValidationStrategy.builder().withSeed("42").build());
+
+		assertThat(result.isSuccessful()).isTrue();
+		assertThat(stringPublisher.contents()).contains("rarely accepted: filters");
+		assertThat(stringPublisher.contents()).contains("WARNING: less than 10.00%");
+	}
+
+	@Example
+	void lazySampleIsReportedWithAccessedElementsOnly() {
+		var property = PropertyDescription.property("lazy")
+										  .forAll(Numbers.integers().between(0, 100).list()
+														 .ofMinSize(1_000_000).ofMaxSize(1_000_000).lazy())
+										  .check(list -> list.get(1) < 50);
+
+		PropertyValidationResult result = PropertyValidator.forProperty(property)
+														   .failureDatabase(FailureDatabase.NULL)
+														   .publisher(stringPublisher)
+														   .validate(PropertyValidationStrategy.builder().withSeed("42").build());
+
+		assertThat(result.isFailed()).isTrue();
+		List<?> smallest = (List<?>) result.falsifiedSamples().getFirst().values().getFirst();
+		assertThat(smallest.get(1)).isEqualTo(50);
+		assertThat(stringPublisher.contents()).contains("arg-0: [0, 50, ... (999998 more)]");
+	}
+
+	@Example
+	void arraySampleIsReportedWithItsElements() {
+		var property = PropertyDescription.property("array")
+										  .forAll(Numbers.integers().between(0, 100).array(3, 3))
+										  .check(array -> array[0] < 50);
+
+		PropertyValidationResult result = PropertyValidator.forProperty(property)
+														   .failureDatabase(FailureDatabase.NULL)
+														   .publisher(stringPublisher)
+														   .validate(PropertyValidationStrategy.builder().withSeed("42").build());
+
+		assertThat(result.isFailed()).isTrue();
+		assertThat(stringPublisher.contents()).contains("Property check failed with sample {[[50, 0, 0]]}");
+		assertThat(stringPublisher.contents()).contains("arg-0: [50, 0, 0]");
+	}
+
+	@Example
+	void lazySamplesOfSameSizeAreNotFilteredOutAsDuplicates() {
+		var property = PropertyDescription.property("lazy without duplicates")
+										  .forAll(Numbers.integers().between(0, 1000).list()
+														 .ofMinSize(10).ofMaxSize(10).lazy())
+										  .check(list -> list.get(0) >= 0);
+
+		PropertyValidationStrategy strategy = PropertyValidationStrategy.builder()
+																		.withFilterOutDuplicateSamples(true)
+																		.withMaxTries(200)
+																		.build();
+		PropertyValidationResult result = PropertyValidator.forProperty(property)
+														   .failureDatabase(FailureDatabase.NULL)
+														   .validate(strategy);
+
+		assertThat(result.isSuccessful()).isTrue();
+		assertThat(result.countTries()).isEqualTo(200);
+	}
+
+	@Example
+	void filterAcceptanceOfFailingPropertyDoesNotCountShrinking() {
+		var property = PropertyDescription.property("filtered and shrunk")
+										  .forAll(Numbers.integers().between(0, 999).filter(i -> i >= 100))
+										  .check(i -> i < 700);
+
+		PropertyValidationResult result = PropertyValidator.forProperty(property)
+														   .failureDatabase(FailureDatabase.NULL)
+														   .publisher(stringPublisher)
+														   .validate(PropertyValidationStrategy.builder().withSeed("42").build());
+
+		assertThat(result.isFailed()).isTrue();
+		assertThat(result.falsifiedSamples().getFirst().values()).containsExactly(700);
+		// Each try accepts exactly one value; rejected shrinking candidates are not counted
+		assertThat(stringPublisher.contents()).contains(String.format(Locale.ROOT, "accepted (%d of ", result.countTries()));
+		assertThat(stringPublisher.contents()).doesNotContain("WARNING");
+	}
+
+	@Example
+	void parallelShrinkingOfSeveralPropertiesSharesThreads() {
+		Set<Thread> shrinkingThreads = ConcurrentHashMap.newKeySet();
+		var property = PropertyDescription.property("shrunk in parallel")
+										  .forAll(Numbers.integers().between(0, 10000))
+										  .check(i -> {
+											  Thread thread = Thread.currentThread();
+											  if (thread.getName().startsWith("jqwik-shrinking-")) {
+												  shrinkingThreads.add(thread);
+											  }
+											  return i < 100;
+										  });
+		var strategy = PropertyValidationStrategy.builder().withShrinking(PARALLEL).withSeed("42").build();
+
+		for (int i = 0; i < 3; i++) {
+			PropertyValidationResult result = PropertyValidator.forProperty(property)
+															   .failureDatabase(FailureDatabase.NULL)
+															   .publisher(PlatformPublisher.NULL)
+															   .validate(strategy);
+			assertThat(result.falsifiedSamples().getFirst().values()).containsExactly(100);
+		}
+		assertThat(shrinkingThreads).isNotEmpty();
+		assertThat(shrinkingThreads).hasSizeLessThanOrEqualTo(Runtime.getRuntime().availableProcessors());
+	}
+
 	@Group
 	class Classifiers {
 
@@ -551,6 +736,34 @@ class PropertyValidationTests {
 			assertThat(triedValues).isEqualTo(initiallyTriedValues);
 		}
 
+		@Example
+		void REPLAY_usesRandomEngineOfFailedRun() {
+			var integers = Numbers.integers().between(-1000, 1000);
+			List<Integer> triedValues = new ArrayList<>();
+			var property = PropertyDescription.property("idFor_REPLAY_withEngine").forAll(integers).check(i -> {
+				triedValues.add(i);
+				return i > -10 && i < 10;
+			});
+
+			var failingStrategy = PropertyValidationStrategy.builder()
+															.withAfterFailure(PropertyValidationStrategy.AfterFailureMode.REPLAY)
+															.withRandomEngine(RandomChoice.StandardEngine.XOR_SHIFT)
+															.build();
+			var initialResult = PropertyValidator.forProperty(property).validate(failingStrategy);
+			assertThat(initialResult.isFailed()).isTrue();
+
+			List<Integer> initiallyTriedValues = new ArrayList<>(triedValues);
+
+			triedValues.clear();
+			var replayStrategy = PropertyValidationStrategy.builder()
+														   .withAfterFailure(PropertyValidationStrategy.AfterFailureMode.REPLAY)
+														   .build();
+			var replayedResult = PropertyValidator.forProperty(property).validate(replayStrategy);
+			assertThat(replayedResult).isEqualTo(initialResult);
+
+			assertThat(triedValues).isEqualTo(initiallyTriedValues);
+		}
+
 		@Example
 		void SAMPLES_ONLY() {
 			var strategy = PropertyValidationStrategy.builder()
@@ -724,6 +937,115 @@ class PropertyValidationTests {
 		}
 	}
 
+	@Group
+	class SuiteValidation {
+
+		@Example
+		void allPropertiesAreValidatedAndResultsKeepTheirOrder() {
+			List<PropertyDescription> properties = new ArrayList<>();
+			for (int i = 0; i < 20; i++) {
+				int index = i;
+				properties.add(PropertyDescription.property("suite-" + i).forAll(Numbers.integers()).check(n -> index != 7));
+			}
+
+			var results = PropertySuiteValidator.forProperties(properties)
+												.failureDatabase(FailureDatabase.NULL)
+												.parallelism(4)
+												.validate();
+
+			assertThat(results.keySet()).containsExactlyElementsOf(properties);
+			results.forEach((property, result) -> {
+				if (property.id().equals("suite-7")) {
+					assertThat(result.isFailed()).isTrue();
+				} else {
+					assertThat(result.isSuccessful()).isTrue();
+					assertThat(result.countTries()).isEqualTo(100);
+				}
+			});
+		}
+
+		@Example
+		void propertiesThatFailedBeforeAreValidatedFirst() {
+			FailureDatabase database = mock(FailureDatabase.class);
+			when(database.hasFailed("failedBefore")).thenReturn(true);
+
+			List<String> startedProperties = Collections.synchronizedList(new ArrayList<>());
+			Function<String, PropertyDescription> property = id -> PropertyDescription.property(id).forAll(Numbers.integers()).check(n -> {
+				if (!startedProperties.contains(id)) {
+					startedProperties.add(id);
+				}
+				return true;
+			});
+			var properties = List.of(property.apply("first"), property.apply("second"), property.apply("failedBefore"));
+
+			PropertySuiteValidator.forProperties(properties)
+								  .failureDatabase(database)
+								  .parallelism(1)
+								  .validate();
+
+			assertThat(startedProperties).containsExactly("failedBefore", "first", "second");
+		}
+
+		@Example
+		void propertiesShareSuiteRuntime() {
+			// Without max tries each property runs until its runtime, i.e. the remaining suite runtime, is used up
+			var strategy = PropertyValidationStrategy.builder().withMaxTries(0).build();
+			Set<String> checkedProperties = Collections.synchronizedSet(new LinkedHashSet<>());
+			CountDownLatch bothWorkersBusy = new CountDownLatch(2);
+			List<PropertyDescription> properties = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				String id = "endless-" + i;
+				properties.add(PropertyDescription.property(id).forAll(Numbers.integers()).verify(n -> {
+					if (checkedProperties.add(id)) {
+						// Only continue once the other worker is busy, too
+						bothWorkersBusy.countDown();
+						bothWorkersBusy.await();
+					}
+				}));
+			}
+
+			var results = PropertySuiteValidator.forProperties(properties)
+												.failureDatabase(FailureDatabase.NULL)
+												.parallelism(2)
+												.validate(strategy, Duration.ofMillis(500));
+
+			// The first two properties use up the whole suite runtime, the other two cannot start
+			assertThat(checkedProperties).containsExactlyInAnyOrder("endless-0", "endless-1");
+			assertThat(results.get(properties.get(0)).isSuccessful()).isTrue();
+			assertThat(results.get(properties.get(1)).isSuccessful()).isTrue();
+			for (PropertyDescription notStarted : properties.subList(2, 4)) {
+				PropertyValidationResult result = results.get(notStarted);
+				assertThat(result.isAborted()).isTrue();
+				assertThat(result.countTries()).isZero();
+				assertThat(result.failure()).containsInstanceOf(TimeoutException.class);
+			}
+		}
+
+		@Example
+		void propertiesShareOneExecutorServiceForConcurrentTries() {
+			Set<String> threadPools = Collections.synchronizedSet(new HashSet<>());
+			List<PropertyDescription> properties = new ArrayList<>();
+			for (int i = 0; i < 4; i++) {
+				properties.add(PropertyDescription.property("concurrent-" + i).forAll(Numbers.integers()).verify(n -> {
+					// Threads of Executors.defaultThreadFactory() are named "pool-<pool number>-thread-<thread number>"
+					String threadName = Thread.currentThread().getName();
+					threadPools.add(threadName.substring(0, threadName.indexOf("-thread-")));
+				}));
+			}
+			var strategy = PropertyValidationStrategy.builder()
+													 .withConcurrency(ConcurrencyMode.CACHED_THREAD_POOL)
+													 .build();
+
+			var results = PropertySuiteValidator.forProperties(properties)
+												.failureDatabase(FailureDatabase.NULL)
+												.parallelism(4)
+												.validate(strategy, Duration.ZERO);
+
+			assertThat(results.values()).allMatch(PropertyValidationResult::isSuccessful);
+			assertThat(threadPools).hasSize(1);
+		}
+	}
+
 	@Group
 	class StatisticalValidation {
 
@@ -0,0 +1,191 @@
+package jqwik2;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import jqwik2.api.*;
+import jqwik2.api.arbitraries.*;
+import jqwik2.api.database.*;
+import jqwik2.api.description.*;
+import jqwik2.api.validation.*;
+import jqwik2.internal.*;
+import jqwik2.internal.generators.*;
+
+import net.jqwik.api.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RandomChoiceTests {
+
+	@Example
+	void defaultEngineIsUsedWhenCreatingFromSeed() {
+		RandomChoice fromDefault = RandomChoice.create("42");
+		RandomChoice fromEngine = JqwikDefaults.defaultRandomEngine().create("42");
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(fromDefault.nextInt(1000)).isEqualTo(fromEngine.nextInt(1000));
+		}
+	}
+
+	@Property(tries = 10)
+	void sameSeedGivesSameSequence(@ForAll RandomChoice.StandardEngine engine, @ForAll long seed) {
+		RandomChoice first = engine.create(Long.toString(seed));
+		RandomChoice second = engine.create(Long.toString(seed));
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(first.nextInt(Integer.MAX_VALUE)).isEqualTo(second.nextInt(Integer.MAX_VALUE));
+			assertThat(first.nextDouble()).isEqualTo(second.nextDouble());
+			assertThat(first.nextGaussian()).isEqualTo(second.nextGaussian());
+		}
+		assertThat(first.seed()).hasValue(Long.toString(seed));
+	}
+
+	@Property(tries = 10)
+	void bulkDrawsAreSameAsSingleDraws(@ForAll RandomChoice.StandardEngine engine, @ForAll long seed) {
+		RandomChoice bulk = engine.create(Long.toString(seed));
+		RandomChoice single = engine.create(Long.toString(seed));
+
+		int[] ints = new int[100];
+		bulk.nextInts(ints, 17);
+		for (int anInt : ints) {
+			assertThat(anInt).isEqualTo(single.nextInt(17));
+		}
+	}
+
+	@Property(tries = 10)
+	void valuesStayInRange(@ForAll RandomChoice.StandardEngine engine) {
+		RandomChoice random = engine.create(RandomChoice.generateRandomSeed());
+
+		Set<Integer> seen = new HashSet<>();
+		for (int i = 0; i < 1000; i++) {
+			int value = random.nextInt(10);
+			assertThat(value).isBetween(0, 9);
+			seen.add(value);
+
+			double aDouble = random.nextDouble();
+			assertThat(aDouble).isGreaterThanOrEqualTo(0.0).isLessThan(1.0);
+
+			long aLong = random.nextLong(Long.MAX_VALUE);
+			assertThat(aLong).isBetween(0L, Long.MAX_VALUE - 1);
+			assertThat(random.nextLong(10_000_000_000L)).isBetween(0L, 9_999_999_999L);
+		}
+		assertThat(seen).hasSize(10);
+	}
+
+	@Property(tries = 10)
+	void splitGivesIndependentDeterministicChoice(@ForAll RandomChoice.StandardEngine engine, @ForAll long seed) {
+		RandomChoice first = engine.create(Long.toString(seed)).split();
+		RandomChoice second = engine.create(Long.toString(seed)).split();
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(first.nextInt(1000)).isEqualTo(second.nextInt(1000));
+		}
+	}
+
+	@Example
+	void invalidSeedIsRejected() {
+		for (RandomChoice.StandardEngine engine : RandomChoice.StandardEngine.values()) {
+			assertThatThrownBy(() -> engine.create("not a number"))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	@Example
+	void randomEngineCanBeConfiguredInStrategy() {
+		var strategy = PropertyValidationStrategy.builder()
+												 .withRandomEngine(RandomChoice.StandardEngine.XOR_SHIFT)
+												 .build();
+		assertThat(strategy.randomEngine()).isEqualTo(RandomChoice.StandardEngine.XOR_SHIFT);
+		assertThat(PropertyValidationStrategy.DEFAULT.randomEngine()).isEqualTo(JqwikDefaults.defaultRandomEngine());
+	}
+
+	@Example
+	void counterBasedSourceRegeneratesAnyTryDirectly() {
+		var engine = RandomChoice.Engine.counterBased(RandomChoice.StandardEngine.XOSHIRO_256_STAR_STAR);
+		var source = (CounterBasedRandomSource) engine.samples("42");
+		Generator<Integer> integers = BaseGenerators.integers(0, 1_000_000);
+
+		Iterator<SampleSource> iterator = source.iterator();
+		List<Integer> values = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			values.add(integers.generate(iterator.next().sources(2).get(1)));
+		}
+
+		for (int tryIndex : List.of(0, 42, 99)) {
+			GenSource secondParameter = source.sampleSource(tryIndex).sources(2).get(1);
+			assertThat(integers.generate(secondParameter)).isEqualTo(values.get(tryIndex));
+		}
+	}
+
+	@Example
+	void numericSeedsCreateSameChoicesAsStringSeeds() {
+		for (RandomChoice.StandardEngine engine : RandomChoice.StandardEngine.values()) {
+			RandomChoice fromString = engine.create("-4711");
+			RandomChoice fromLong = engine.create(-4711L);
+			for (int i = 0; i < 100; i++) {
+				assertThat(fromLong.nextLong(Long.MAX_VALUE)).isEqualTo(fromString.nextLong(Long.MAX_VALUE));
+			}
+		}
+	}
+
+	@Example
+	void counterBasedRunCanStartWithReportedTryIndex() {
+		var engine = RandomChoice.StandardEngine.XOSHIRO_256_STAR_STAR;
+		List<Integer> triedValues = new ArrayList<>();
+		var property = PropertyDescription.property().forAll(Numbers.integers().between(0, 1000)).check(i -> {
+			triedValues.add(i);
+			return i < 900;
+		});
+
+		PropertyValidationResult failed = PropertyValidator.forProperty(property)
+														   .failureDatabase(FailureDatabase.NULL)
+														   .validate(counterBasedStrategy(RandomChoice.Engine.counterBased(engine)));
+		assertThat(failed.isFailed()).isTrue();
+		FalsifiedSample original = failed.falsifiedSamples().getFirst();
+		assertThat(original.tryIndex()).hasValue(failed.countTries() - 1);
+
+		triedValues.clear();
+		long tryIndex = original.tryIndex().getAsLong();
+		PropertyValidationResult restarted = PropertyValidator.forProperty(property)
+															  .failureDatabase(FailureDatabase.NULL)
+															  .validate(counterBasedStrategy(RandomChoice.Engine.counterBased(engine, tryIndex)));
+		assertThat(restarted.countTries()).isEqualTo(1);
+		assertThat(triedValues).containsExactly((Integer) original.values().getFirst());
+	}
+
+	private static PropertyValidationStrategy counterBasedStrategy(RandomChoice.Engine engine) {
+		return PropertyValidationStrategy.builder()
+										 .withSeed("42")
+										 .withRandomEngine(engine)
+										 .withEdgeCases(PropertyValidationStrategy.EdgeCasesMode.OFF)
+										 .withShrinking(PropertyValidationStrategy.ShrinkingMode.OFF)
+										 .build();
+	}
+
+	@Example
+	void counterBasedEngineGeneratesSameSamplesWithAnyConcurrency() {
+		var engine = RandomChoice.Engine.counterBased(RandomChoice.StandardEngine.XOSHIRO_256_STAR_STAR);
+
+		Set<Integer> singleThreaded = generatedValues(engine, PropertyValidationStrategy.ConcurrencyMode.SINGLE_THREAD);
+		Set<Integer> concurrent = generatedValues(engine, PropertyValidationStrategy.ConcurrencyMode.CACHED_THREAD_POOL);
+
+		assertThat(concurrent).isEqualTo(singleThreaded);
+	}
+
+	private static Set<Integer> generatedValues(RandomChoice.Engine engine, PropertyValidationStrategy.ConcurrencyMode concurrency) {
+		Set<Integer> values = ConcurrentHashMap.newKeySet();
+		var property = PropertyDescription.property().forAll(Numbers.integers()).verify(values::add);
+		var strategy = PropertyValidationStrategy.builder()
+												 .withSeed("42")
+												 .withMaxTries(1000)
+												 .withRandomEngine(engine)
+												 .withConcurrency(concurrency)
+												 .build();
+
+		PropertyValidationResult result = PropertyValidator.forProperty(property)
+														   .failureDatabase(FailureDatabase.NULL)
+														   .validate(strategy);
+		assertThat(result.isSuccessful()).isTrue();
+		return values;
+	}
+}
@@ -7,6 +7,8 @@ import jqwik2.internal.*;
 
 import net.jqwik.api.*;
 
+import static org.assertj.core.api.Assertions.*;
+
 class RandomDistributionTests {
 
 	RandomChoice randomChoice = RandomChoice.create();
@@ -41,6 +43,84 @@ class RandomDistributionTests {
 		// printHistogram(counts);
 	}
 
+	@Example
+	void biasedFollowsPowerOfUniform() {
+		RandomChoice.Distribution biasedDistribution = new BiasedDistribution(5);
+		RandomChoice random = RandomChoice.create("42");
+		int[] counts = new int[10];
+		var tries = 1000000;
+		for (int i = 0; i < tries; i++) {
+			counts[randomChoice(random, biasedDistribution, 10)]++;
+		}
+
+		// P(value < k) = (k / 10)^(1/5)
+		for (int k = 0; k < 10; k++) {
+			double expected = Math.pow((k + 1) / 10.0, 0.2) - Math.pow(k / 10.0, 0.2);
+			assertThat(counts[k] / (double) tries).isCloseTo(expected, within(0.005));
+		}
+	}
+
+	@Example
+	void biasedMatchesExactPowerOfUniform() {
+		for (double bias : new double[]{0.1, 0.5, 1, 3, 5, 20}) {
+			RandomChoice.Distribution biasedDistribution = new BiasedDistribution(bias);
+			for (int maxExcluded : new int[]{10, 1000, Integer.MAX_VALUE}) {
+				RandomChoice random = RandomChoice.create("42");
+				RandomChoice exactRandom = RandomChoice.create("42");
+				for (int i = 0; i < 100000; i++) {
+					int value = randomChoice(random, biasedDistribution, maxExcluded);
+					int exact = exactBiasedChoice(exactRandom, bias, maxExcluded);
+					// Off by one where floor rounds differently, otherwise a relative error well below 1e-5
+					assertThat((double) value).isCloseTo(exact, within(1 + exact * 1e-5));
+				}
+			}
+		}
+	}
+
+	/**
+	 * The sampler that BiasedDistribution used before it had a power table.
+	 */
+	private static int exactBiasedChoice(RandomChoice random, double bias, int maxExcluded) {
+		while (true) {
+			var x = random.nextDouble();
+			long value = (long) Math.floor(Math.pow(x, bias) * maxExcluded);
+			if (value < maxExcluded) {
+				return (int) value;
+			}
+		}
+	}
+
+	@Example
+	void gaussianFrequenciesDecrease() {
+		RandomChoice.Distribution gaussianDistribution = new GaussianDistribution(2.8);
+		RandomChoice random = RandomChoice.create("42");
+		int[] counts = new int[10];
+		for (int i = 0; i < 100000; i++) {
+			counts[randomChoice(random, gaussianDistribution, 10)]++;
+		}
+
+		for (int k = 1; k < 10; k++) {
+			assertThat(counts[k]).isLessThan(counts[k - 1]);
+		}
+	}
+
+	@Example
+	void sameDistributionAndSeedGivesSameValues() {
+		RandomChoice.Distribution biasedDistribution = new BiasedDistribution(3);
+		RandomChoice first = RandomChoice.create("42");
+		RandomChoice second = RandomChoice.create("42");
+		for (int i = 0; i < 1000; i++) {
+			assertThat(randomChoice(first, biasedDistribution, Integer.MAX_VALUE))
+				.isEqualTo(randomChoice(second, biasedDistribution, Integer.MAX_VALUE));
+		}
+	}
+
+	private static int randomChoice(RandomChoice random, RandomChoice.Distribution distribution, int maxExcluded) {
+		int value = random.nextInt(maxExcluded, distribution);
+		assertThat(value).isBetween(0, maxExcluded - 1);
+		return value;
+	}
+
 	public static <T extends Comparable<T>> void printHistogram(Map<T, Integer> counts) {
 		SortedSet<T> keys = new TreeSet<>(counts.keySet());
 		int maxValue = new TreeSet<>(counts.values()).last();
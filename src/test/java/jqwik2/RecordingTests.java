@@ -1,8 +1,11 @@
 package jqwik2;
 
+import java.io.*;
 import java.util.*;
 
+import jqwik2.api.*;
 import jqwik2.api.recording.*;
+import jqwik2.internal.recording.*;
 
 import net.jqwik.api.*;
 
@@ -35,6 +38,7 @@ class RecordingTests {
 			assertThat(Recording.deserialize(serialized)).isEqualTo(choice());
 
 			assertSerializeDeserialize(choice(2));
+			assertSerializeDeserialize(choice(Long.MAX_VALUE - 1));
 		}
 
 		@Example
@@ -84,10 +88,70 @@ class RecordingTests {
 			assertThat(SampleRecording.deserialize(serialized)).isEqualTo(sample);
 		}
 
+		@Example
+		void binaryRecordings() {
+			assertThat(Recording.deserialize(EMPTY.serializeToBytes())).isSameAs(EMPTY);
+
+			assertSerializeDeserializeBytes(choice(0));
+			assertSerializeDeserializeBytes(choice(Integer.MAX_VALUE));
+			assertSerializeDeserializeBytes(choice(Long.MAX_VALUE));
+			assertSerializeDeserializeBytes(choice());
+			assertSerializeDeserializeBytes(list());
+			assertSerializeDeserializeBytes(tuple(choice(13), list(
+				choice(99),
+				tuple(choice(3), list(choice(1), choice(2))),
+				list(choice(11), tuple(choice(12), choice(130000)))
+			)));
+		}
+
+		@Example
+		void binarySampleRecordingsCanBeStreamed() throws Exception {
+			SampleRecording sample1 = new SampleRecording(choice(1), list(choice(2), choice(300)));
+			SampleRecording sample2 = new SampleRecording();
+
+			assertThat(SampleRecording.deserialize(sample1.serializeToBytes())).isEqualTo(sample1);
+
+			var out = new ByteArrayOutputStream();
+			sample1.writeTo(out);
+			sample2.writeTo(out);
+			var in = new ByteArrayInputStream(out.toByteArray());
+
+			assertThat(SampleRecording.readFrom(in)).hasValue(sample1);
+			assertThat(SampleRecording.readFrom(in)).hasValue(sample2);
+			assertThat(SampleRecording.readFrom(in)).isEmpty();
+		}
+
+		@Example
+		void invalidBinaryRecordings() {
+			byte[] truncated = Arrays.copyOf(list(choice(1), choice(2)).serializeToBytes(), 3);
+			assertThatThrownBy(() -> Recording.deserialize(truncated))
+				.isInstanceOf(IllegalArgumentException.class);
+
+			byte[] text = "c[1]".getBytes();
+			assertThat(SampleRecording.isBinary(text)).isFalse();
+			assertThatThrownBy(() -> SampleRecording.deserialize(text))
+				.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Example
+		void deeplyNestedRecording() {
+			Recording nested = choice(1);
+			for (int i = 0; i < 500; i++) {
+				nested = list(nested, choice(i));
+			}
+
+			assertSerializeDeserialize(nested);
+			assertSerializeDeserializeBytes(nested);
+		}
+
 		private void assertSerializeDeserialize(Recording recording) {
 			assertThat(Recording.deserialize(recording.serialize())).isEqualTo(recording);
 		}
 
+		private void assertSerializeDeserializeBytes(Recording recording) {
+			assertThat(Recording.deserialize(recording.serializeToBytes())).isEqualTo(recording);
+		}
+
 	}
 
 	@Example
@@ -192,4 +256,36 @@ class RecordingTests {
 				.isomorphicTo(new SampleRecording(choice(1)))
 		).isFalse();
 	}
+
+	@Example
+	void recorderKeepsStructureOfInterleavedSources() {
+		Recording original = tuple(list(choice(1), choice(2)), list(choice(3)), choice(4));
+		GenRecorder recorder = new GenRecorder(RecordedSource.of(original));
+
+		GenSource.Tuple tuple = recorder.tuple();
+		GenSource.List first = tuple.nextValue().list();
+		GenSource.List second = tuple.nextValue().list();
+		GenSource.Choice last = tuple.nextValue().choice();
+
+		assertThat(last.choose(10)).isEqualTo(4);
+		assertThat(first.nextElement().choice().choose(10)).isEqualTo(1);
+		assertThat(second.nextElement().choice().choose(10)).isEqualTo(3);
+		assertThat(first.nextElement().choice().choose(10)).isEqualTo(2);
+
+		assertThat(recorder.recording()).isEqualTo(original);
+	}
+
+	@Example
+	void recorderOnlyKeepsLastRecordingWhenReused() {
+		GenRecorder recorder = new GenRecorder(RecordedSource.of(list(choice(1), choice(2), choice(3))));
+		assertThat(recorder.recording()).isEqualTo(EMPTY);
+
+		GenSource.List list = recorder.list();
+		list.nextElement().choice().choose(10);
+		list.nextElement().choice().choose(10);
+		assertThat(recorder.recording()).isEqualTo(list(choice(1), choice(2)));
+
+		recorder.list().nextElement().choice().choose(10);
+		assertThat(recorder.recording()).isEqualTo(list(choice(3)));
+	}
 }
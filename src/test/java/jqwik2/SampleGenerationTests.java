@@ -1,9 +1,11 @@
 package jqwik2;
 
 import java.util.*;
+import java.util.concurrent.atomic.*;
 
 import jqwik2.api.Shrinkable;
 import jqwik2.api.*;
+import jqwik2.api.recording.*;
 import jqwik2.internal.*;
 import jqwik2.internal.generators.*;
 import jqwik2.internal.recording.*;
@@ -69,6 +71,51 @@ class SampleGenerationTests {
 		assertThat(allSamples).doesNotHaveDuplicates();
 	}
 
+	@Example
+	void filteringOutDuplicatesIsNotConfusedByGrowingRecordingsOfLazyValues() {
+		Generator<List<Integer>> lazyLists = new IntegerGenerator(0, 100).lazyList(1000, 1000);
+
+		SampleGenerator sampleGenerator = SampleGenerator.from(lazyLists);
+		sampleGenerator.filterOutDuplicates();
+
+		Sample first = sampleGenerator.generate(List.of(new RandomGenSource("42"))).orElseThrow();
+		SampleRecording beforeTry = first.recording();
+
+		// Accessing elements during a try extends the recording
+		((List<?>) first.values().getFirst()).get(10);
+		first.freezeRecordings();
+		assertThat(first.recording()).isNotEqualTo(beforeTry);
+
+		// Reading more elements after the try no longer changes the recording
+		SampleRecording frozen = first.recording();
+		((List<?>) first.values().getFirst()).get(20);
+		assertThat(first.recording()).isEqualTo(frozen);
+	}
+
+	@Example
+	void lazyValuesAreComparedByRecordingAfterTheTry() {
+		Generator<List<Integer>> lazyLists = new IntegerGenerator(0, 100).lazyList(1000, 1000);
+
+		SampleGenerator sampleGenerator = SampleGenerator.from(lazyLists);
+		sampleGenerator.filterOutDuplicates();
+
+		// All lists have the same size, so before a try their recordings are equal
+		RandomGenSource randomGenSource = new RandomGenSource("42");
+		for (int i = 0; i < 100; i++) {
+			Optional<Sample> sample = sampleGenerator.generate(List.of(randomGenSource.split()));
+			assertThat(sample).isPresent();
+			((List<?>) sample.get().values().getFirst()).get(0);
+			sample.get().freezeRecordings();
+			sampleGenerator.tryFinished(sample.get());
+		}
+
+		// A try that accessed no element cannot tell lists of the same size apart
+		Sample untouched = sampleGenerator.generate(List.of(randomGenSource.split())).orElseThrow();
+		untouched.freezeRecordings();
+		sampleGenerator.tryFinished(untouched);
+		assertThat(sampleGenerator.generate(List.of(randomGenSource.split()))).isEmpty();
+	}
+
 
 	@Example
 	void useRandomSampleGeneratorWithEdgeCases() {
@@ -87,6 +134,66 @@ class SampleGenerationTests {
 		);
 	}
 
+	@Example
+	void decoratorsOfSameGeneratorShareEdgeCases() {
+		AtomicInteger edgeCasesCalls = new AtomicInteger();
+		Generator<Integer> ints = new Generator.Decorator<>(new IntegerGenerator(-100, 100)) {
+			@Override
+			public Iterable<Recording> edgeCases() {
+				edgeCasesCalls.incrementAndGet();
+				return super.edgeCases();
+			}
+		};
+		Generator<Integer> first = new WithEdgeCasesDecorator<>(ints, 1.0, 10);
+		Generator<Integer> second = new WithEdgeCasesDecorator<>(ints, 1.0, 10);
+
+		RandomGenSource source = new RandomGenSource("42");
+		for (int i = 0; i < 10; i++) {
+			assertThat(first.generate(source.split())).isIn(0, 1, -1, 100, -100);
+			assertThat(second.generate(source.split())).isIn(0, 1, -1, 100, -100);
+		}
+		assertThat(edgeCasesCalls).hasValue(1);
+	}
+
+	@Example
+	void decoratorsOfGeneratorWithoutValueEqualityKeepTheirOwnEdgeCases() {
+		AtomicInteger edgeCasesCalls = new AtomicInteger();
+		Generator<Integer> intGenerator = new IntegerGenerator(-100, 100);
+		Generator<Integer> ints = new Generator<>() {
+			@Override
+			public Integer generate(GenSource source) {
+				return intGenerator.generate(source);
+			}
+
+			@Override
+			public Iterable<Recording> edgeCases() {
+				edgeCasesCalls.incrementAndGet();
+				return intGenerator.edgeCases();
+			}
+		};
+		Generator<Integer> first = new WithEdgeCasesDecorator<>(ints, 1.0, 10);
+		Generator<Integer> second = new WithEdgeCasesDecorator<>(ints, 1.0, 10);
+
+		RandomGenSource source = new RandomGenSource("42");
+		for (int i = 0; i < 10; i++) {
+			assertThat(first.generate(source.split())).isIn(0, 1, -1, 100, -100);
+			assertThat(second.generate(source.split())).isIn(0, 1, -1, 100, -100);
+		}
+		assertThat(edgeCasesCalls).hasValue(2);
+	}
+
+	@Example
+	void edgeCasesAreDerivedFromMaxTries() {
+		assertThat(WithEdgeCasesDecorator.function(100))
+			.isEqualTo(WithEdgeCasesDecorator.function(0.05, 100));
+		assertThat(WithEdgeCasesDecorator.function(10_000))
+			.isEqualTo(WithEdgeCasesDecorator.function(0.01, 1000));
+		assertThat(WithEdgeCasesDecorator.function(1))
+			.isEqualTo(WithEdgeCasesDecorator.function(0.2, 10));
+		assertThat(WithEdgeCasesDecorator.function(0))
+			.isEqualTo(WithEdgeCasesDecorator.function(JqwikDefaults.defaultMaxTries()));
+	}
+
 	@Example
 	void generateWithEdgeCases() {
 		IntegerGenerator ints = new IntegerGenerator(-100, 100);
@@ -1,7 +1,9 @@
 package jqwik2;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
+import java.util.stream.*;
 
 import jqwik2.api.Shrinkable;
 import jqwik2.api.*;
@@ -61,6 +63,26 @@ public class ShrinkingTests {
 		});
 	}
 
+	@Example
+	void intValuesStayUnboxedWhileShrinking() {
+		IntegerGenerator ints = new IntegerGenerator(-10, 100);
+
+		// -10
+		GenSource source = RecordedSource.of(Recording.tuple(10, 1));
+
+		Shrinkable<Integer> shrinkable = new ShrinkableGenerator<>(ints).generate(source);
+		assertThat(shrinkable).isInstanceOf(GeneratedIntShrinkable.class);
+		assertThat(((GeneratedIntShrinkable) shrinkable).intValue()).isEqualTo(-10);
+
+		shrinkable.shrink().forEach(s -> {
+			assertThat(s).isInstanceOf(GeneratedIntShrinkable.class);
+			assertThat(((GeneratedIntShrinkable) s).intValue()).isEqualTo(s.value());
+		});
+
+		Sample sample = new Sample(List.of(shrinkable.asGeneric()));
+		assertThat(sample.intValue(0)).isEqualTo(-10);
+	}
+
 	@Example
 	void shrinkListOfInts() {
 		IntegerGenerator ints = new IntegerGenerator(-10, 100);
@@ -220,4 +242,126 @@ public class ShrinkingTests {
 		assertThat(best.countShrinkingSteps()).isGreaterThan(0);
 	}
 
-}
\ No newline at end of file
+	@Example
+	void shrinkSeveralParametersInParallel() throws InterruptedException {
+		IntegerGenerator gen1 = new IntegerGenerator(-100000, 100000);
+		IntegerGenerator gen2 = new IntegerGenerator(0, 100);
+
+		GenSource source1 = RecordedSource.of(Recording.tuple(9999, 1)); // -9999
+		GenSource source2 = RecordedSource.of(choice(50)); // 50
+
+		SampleGenerator sampleGenerator = SampleGenerator.from(gen1, gen2);
+		Sample sample = sampleGenerator.generate(List.of(source1, source2)).orElseThrow();
+
+		Tryable tryable = Tryable.from(args -> {
+			int i1 = (int) args.get(0);
+			int i2 = (int) args.get(1);
+			assertThat(i1 < -100 && i2 > 10).isFalse();
+		});
+		TryExecutionResult tryResult = tryable.apply(sample);
+		FalsifiedSample falsifiedSample = FalsifiedSample.original(sample, tryResult.throwable());
+
+		Thread callingThread = Thread.currentThread();
+		BiConsumer<TryExecutionResult, Sample> onTry = (result, s) -> {
+			assertThat(Thread.currentThread()).isSameAs(callingThread);
+		};
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			FullShrinker shrinker = new FullShrinker(falsifiedSample, tryable, onTry, executorService);
+			FalsifiedSample best = shrinker.shrinkToEnd(ignore -> {});
+			assertThat(best.values()).isEqualTo(List.of(-101, 11));
+			assertThat(best.countShrinkingSteps()).isGreaterThan(0);
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	@Example
+	void shrinkingNeverExecutesSameRecordingTwice() {
+		IntegerGenerator ints = new IntegerGenerator(-100000, 100000);
+		GenSource source = RecordedSource.of(Recording.tuple(9999, 0)); // 9999
+
+		SampleGenerator sampleGenerator = SampleGenerator.from(ints);
+		Sample sample = sampleGenerator.generate(List.of(source)).orElseThrow();
+
+		Tryable tryable = Tryable.from(args -> {
+			int i = (int) args.get(0);
+			assertThat(i).isLessThan(42);
+		});
+		TryExecutionResult tryResult = tryable.apply(sample);
+		FalsifiedSample falsifiedSample = FalsifiedSample.original(sample, tryResult.throwable());
+
+		List<SampleRecording> executedRecordings = new ArrayList<>();
+		BiConsumer<TryExecutionResult, Sample> onTry = (result, s) -> executedRecordings.add(s.recording());
+
+		FullShrinker shrinker = new FullShrinker(falsifiedSample, tryable, onTry);
+		FalsifiedSample best = shrinker.shrinkToEnd(ignore -> {});
+		assertThat(best.values()).isEqualTo(List.of(42));
+
+		assertThat(executedRecordings).doesNotHaveDuplicates();
+		TryResultCache.Statistics statistics = shrinker.cacheStatistics();
+		assertThat(statistics.misses()).isEqualTo(executedRecordings.size());
+		assertThat(statistics.hits()).isGreaterThan(0);
+	}
+
+	@Example
+	void parallelShrinkingTriesCandidatesWithSameRecordingInOneBatchOnlyOnce() {
+		IntegerGenerator ints = new IntegerGenerator(-100000, 100000);
+		GenSource source = RecordedSource.of(Recording.tuple(9999, 0)); // 9999
+
+		Shrinkable<Integer> shrinkable = new ShrinkableGenerator<>(ints).generate(source);
+		Sample sample = new Sample(List.of(new DuplicatingShrinkable<>(shrinkable).asGeneric()));
+
+		Tryable tryable = Tryable.from(args -> {
+			int i = (int) args.get(0);
+			assertThat(i).isLessThan(42);
+		});
+		TryExecutionResult tryResult = tryable.apply(sample);
+		FalsifiedSample falsifiedSample = FalsifiedSample.original(sample, tryResult.throwable());
+
+		List<SampleRecording> executedRecordings = Collections.synchronizedList(new ArrayList<>());
+		BiConsumer<TryExecutionResult, Sample> onTry = (result, s) -> executedRecordings.add(s.recording());
+
+		ExecutorService executorService = Executors.newFixedThreadPool(4);
+		try {
+			FullShrinker shrinker = new FullShrinker(falsifiedSample, tryable, onTry, executorService);
+			FalsifiedSample best = shrinker.shrinkToEnd(ignore -> {});
+			assertThat(best.values()).isEqualTo(List.of(42));
+			assertThat(executedRecordings).doesNotHaveDuplicates();
+		} finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	/**
+	 * Produces every shrinking candidate twice in a row.
+	 */
+	private record DuplicatingShrinkable<T>(Shrinkable<T> shrinkable) implements Shrinkable<T> {
+		@Override
+		public T value() {
+			return shrinkable.value();
+		}
+
+		@Override
+		public Generator<T> generator() {
+			return shrinkable.generator();
+		}
+
+		@Override
+		public Recording recording() {
+			return shrinkable.recording();
+		}
+
+		@Override
+		public Stream<Shrinkable<T>> shrink() {
+			return shrinkable.shrink().flatMap(s -> Stream.of(new DuplicatingShrinkable<>(s), new DuplicatingShrinkable<>(s)));
+		}
+
+		@Override
+		public int compareTo(Shrinkable<T> other) {
+			return recording().compareTo(other.recording());
+		}
+	}
+
+}
@@ -5,6 +5,7 @@ import java.time.*;
 
 import jqwik2.api.*;
 import jqwik2.api.arbitraries.*;
+import jqwik2.api.database.*;
 import jqwik2.api.recording.*;
 import jqwik2.api.validation.*;
 
@@ -30,6 +31,25 @@ class TestDrivingTests {
 		assertThat(database.isSamplePresent("myId", "case1", recording2)).isFalse();
 	}
 
+	@Example
+	void tddDatabaseInBinaryFormat() {
+		Path localPath = Paths.get("src", "test", "java", "jqwik2", "tdd", ".tdd");
+		var textDatabase = new DirectoryBasedTddDatabase(localPath);
+		textDatabase.clear();
+		var database = new DirectoryBasedTddDatabase(localPath, RecordingFormat.BINARY);
+
+		var recording = new SampleRecording(Recording.choice(42));
+		var recording2 = new SampleRecording(Recording.list(Recording.choice(41), Recording.choice(1000)));
+		textDatabase.saveSample("myId", "case1", recording);
+		database.saveSample("myId", "case1", recording);
+		database.saveSample("myId", "case1", recording2);
+		database.saveSample("myId", "case1", recording2);
+
+		var samples = database.loadSamples("myId", "case1");
+		assertThat(samples).containsExactlyInAnyOrder(recording, recording2);
+		assertThat(textDatabase.loadSamples("myId", "case1")).containsExactlyInAnyOrder(recording, recording2);
+	}
+
 	@Example
 	void fizzBuzz() {
 